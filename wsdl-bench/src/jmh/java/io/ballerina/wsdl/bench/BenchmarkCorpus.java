@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Locates the WSDL files used as benchmark inputs. The corpus defaults to the test resources of the core module
+ * and can be overridden with the {@code wsdl.bench.corpus} system property.
+ *
+ * @since 0.1.0
+ */
+public final class BenchmarkCorpus {
+    public static final String CORPUS_PROPERTY = "wsdl.bench.corpus";
+    private static final String DEFAULT_CORPUS = "../wsdl-core/src/test/resources/wsdl";
+
+    private BenchmarkCorpus() {}
+
+    public static Path directory() {
+        return Paths.get(System.getProperty(CORPUS_PROPERTY, DEFAULT_CORPUS)).toAbsolutePath().normalize();
+    }
+
+    public static Path resolve(String fileName) {
+        return directory().resolve(fileName);
+    }
+
+    public static byte[] read(String fileName) throws IOException {
+        return Files.readAllBytes(resolve(fileName));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import io.ballerina.wsdl.cli.WsdlDaemon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the latency of a conversion in a fresh JVM, as paid by every CLI invocation, with the latency of the same
+ * conversion requested from a warm {@link WsdlDaemon}. Each cold sample starts a new daemon process and measures the
+ * time until its first response, while the warm samples are requests to a single process that has already served
+ * the warmup requests. The WSDL files of the benchmark corpus to convert can be given as arguments.
+ *
+ * @since 0.1.0
+ */
+public final class DaemonLatencyBenchmark {
+    private static final List<String> DEFAULT_FILES = List.of("calculator.xml", "ecommerce_service.wsdl",
+            "reservation_service.wsdl");
+    private static final int COLD_RUNS = 5;
+    private static final int WARMUP_REQUESTS = 20;
+    private static final int WARM_REQUESTS = 50;
+
+    private DaemonLatencyBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        List<String> fileNames = args.length > 0 ? Arrays.asList(args) : DEFAULT_FILES;
+        PrintStream out = System.out;
+        out.printf("%-32s %16s %16s %10s%n", "WSDL", "Cold (ms)", "Warm (ms)", "Speedup");
+        for (String fileName : fileNames) {
+            String request = convertRequest(BenchmarkCorpus.resolve(fileName));
+            long[] cold = new long[COLD_RUNS];
+            for (int i = 0; i < COLD_RUNS; i++) {
+                long start = System.nanoTime();
+                try (DaemonProcess daemon = new DaemonProcess()) {
+                    daemon.send(request);
+                    cold[i] = System.nanoTime() - start;
+                }
+            }
+            long[] warm = new long[WARM_REQUESTS];
+            try (DaemonProcess daemon = new DaemonProcess()) {
+                for (int i = 0; i < WARMUP_REQUESTS; i++) {
+                    daemon.send(request);
+                }
+                for (int i = 0; i < WARM_REQUESTS; i++) {
+                    long start = System.nanoTime();
+                    daemon.send(request);
+                    warm[i] = System.nanoTime() - start;
+                }
+            }
+            double coldMillis = median(cold) / 1e6;
+            double warmMillis = median(warm) / 1e6;
+            out.printf("%-32s %16.2f %16.2f %9.1fx%n", fileName, coldMillis, warmMillis, coldMillis / warmMillis);
+        }
+    }
+
+    private static String convertRequest(Path wsdlFile) {
+        String path = wsdlFile.toAbsolutePath().toString().replace("\\", "\\\\").replace("\"", "\\\"");
+        return "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"" + WsdlDaemon.CONVERT_METHOD
+                + "\",\"params\":{\"wsdlPath\":\"" + path + "\"}}";
+    }
+
+    private static long median(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * A daemon running in a child JVM with the class path of the benchmark, serving requests on its standard input.
+     */
+    private static final class DaemonProcess implements AutoCloseable {
+        private final Process process;
+        private final Writer writer;
+        private final BufferedReader reader;
+
+        DaemonProcess() throws IOException {
+            String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+            this.process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    WsdlDaemon.class.getName())
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            this.writer = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
+            this.reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        String send(String request) throws IOException {
+            writer.write(request);
+            writer.write('\n');
+            writer.flush();
+            String response = reader.readLine();
+            if (response == null || !response.contains("\"result\"")) {
+                throw new IllegalStateException("The daemon failed to convert the WSDL file: " + response);
+            }
+            return response;
+        }
+
+        @Override
+        public void close() throws Exception {
+            writer.close();
+            process.waitFor();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.wsdl.core.GenerationOptions;
+import io.ballerina.wsdl.core.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures formatting a synthetic types module of annotated records as a whole, in parallel chunks of members
+ * and with the fast printer.
+ *
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FormattingBenchmark {
+    @Param({"10000"})
+    private int recordCount;
+
+    @Param({"whole", "parallel", "fast"})
+    private String mode;
+
+    private ModulePartNode modulePartNode;
+    private GenerationOptions options;
+
+    @Setup
+    public void setup() {
+        StringBuilder source = new StringBuilder("import ballerina/data.xmldata;");
+        for (int i = 0; i < recordCount; i++) {
+            source.append("@xmldata:Namespace {prefix:\"tns\",uri:\"http://example.com/types\"}\n")
+                    .append("public type Record").append(i).append(" record{")
+                    .append("@xmldata:Attribute\nstring id;string name?;decimal amount?;Record")
+                    .append(i + 1).append("[] children?;};");
+        }
+        modulePartNode = NodeParser.parseCompilationUnit(source.toString());
+        options = new GenerationOptions.Builder()
+                .setParallelFormatting(mode.equals("parallel"))
+                .setFastFormatting(mode.equals("fast"))
+                .build();
+    }
+
+    @Benchmark
+    public String format() throws Exception {
+        return Utils.formatModuleParts(modulePartNode, options);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import io.ballerina.wsdl.core.WsdlToBallerina;
+import io.ballerina.wsdl.core.WsdlToBallerinaResponse;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+
+/**
+ * Compares the peak live heap of converting large synthetic WSDL documents while the caller keeps the parsed
+ * definition, as before the conversion read the definition into a compact model, with the peak live heap when the
+ * conversion releases the definition once the record types are generated. The live heap is sampled by a thread that
+ * runs a full garbage collection every {@code wsdl.bench.gcIntervalMillis} milliseconds, 20 by default, during each
+ * conversion, so the times of the conversions are not meaningful and are not reported.
+ *
+ * @since 0.1.0
+ */
+public final class HeapReleaseBenchmark {
+    public static final String GC_INTERVAL_PROPERTY = "wsdl.bench.gcIntervalMillis";
+    private static final long DEFAULT_GC_INTERVAL_MILLIS = 20;
+    private static final int WARMUP_RUNS = 1;
+    private static final int MEASURED_RUNS = 3;
+
+    private static final List<Document> DOCUMENTS = List.of(
+            new Document("operations=2048", new SyntheticWsdl.Builder().setOperationCount(2048)),
+            new Document("operations=1024, ports=8",
+                    new SyntheticWsdl.Builder().setOperationCount(1024).setPortCount(8)),
+            new Document("operations=512, depth=8",
+                    new SyntheticWsdl.Builder().setOperationCount(512).setTypeDepth(8)),
+            new Document("operations=512, headers=16",
+                    new SyntheticWsdl.Builder().setOperationCount(512).setHeaderPartCount(16))
+    );
+
+    private HeapReleaseBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        long interval = Long.getLong(GC_INTERVAL_PROPERTY, DEFAULT_GC_INTERVAL_MILLIS);
+        PrintStream out = System.out;
+        out.printf("%-28s %12s %16s %16s %9s%n", "WSDL", "file bytes", "retained (MB)", "released (MB)", "saving");
+        for (Document document : DOCUMENTS) {
+            Path directory = Files.createTempDirectory("wsdl-heap");
+            try {
+                Path wsdlFile = document.builder().build().write(directory);
+                long retained = measure(wsdlFile, false, interval);
+                long released = measure(wsdlFile, true, interval);
+                out.printf("%-28s %12d %16.1f %16.1f %8.1f%%%n", document.name(), Files.size(wsdlFile),
+                        retained / (1024.0 * 1024.0), released / (1024.0 * 1024.0),
+                        100.0 * (retained - released) / retained);
+            } finally {
+                try (Stream<Path> paths = Files.walk(directory)) {
+                    for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                        Files.delete(path);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the smallest peak live heap of the measured conversions of a WSDL file.
+     */
+    private static long measure(Path wsdlFile, boolean release, long interval) throws Exception {
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            convert(wsdlFile, release);
+        }
+        long peak = Long.MAX_VALUE;
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            System.gc();
+            try (LiveHeapSampler sampler = new LiveHeapSampler(interval)) {
+                convert(wsdlFile, release);
+                peak = Math.min(peak, sampler.getPeak());
+            }
+        }
+        return peak;
+    }
+
+    private static void convert(Path wsdlFile, boolean release) throws IOException, WSDLException {
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        WsdlToBallerina wsdlToBallerina = new WsdlToBallerina();
+        if (release) {
+            AtomicReference<Definition> wsdlDefinition = new AtomicReference<>(WsdlParser.parse(wsdlFile));
+            wsdlToBallerina.generateFromWSDL(response, wsdlDefinition, "", new ArrayList<>(), new String[0], "");
+        } else {
+            Definition wsdlDefinition = WsdlParser.parse(wsdlFile);
+            wsdlToBallerina.generateFromWSDL(response, wsdlDefinition, "", new ArrayList<>(), new String[0], "");
+            Reference.reachabilityFence(wsdlDefinition);
+        }
+        if (!response.getDiagnostics().isEmpty()) {
+            throw new IllegalStateException("Converting " + wsdlFile + " failed: " + response.getDiagnostics());
+        }
+    }
+
+    private record Document(String name, SyntheticWsdl.Builder builder) {
+    }
+
+    /**
+     * Records the largest heap usage right after a full garbage collection, which is the live heap, while it is
+     * open.
+     */
+    private static final class LiveHeapSampler implements AutoCloseable {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final AtomicLong peak = new AtomicLong();
+        private final Thread thread;
+
+        LiveHeapSampler(long interval) {
+            this.thread = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    memory.gc();
+                    peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                    try {
+                        Thread.sleep(interval);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "live-heap-sampler");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        long getPeak() {
+            return peak.get();
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            thread.interrupt();
+            thread.join();
+        }
+    }
+}
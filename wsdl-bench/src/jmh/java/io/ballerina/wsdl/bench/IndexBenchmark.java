@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import io.ballerina.wsdl.core.ConversionMetrics;
+import io.ballerina.wsdl.core.WsdlIndex;
+import io.ballerina.wsdl.core.WsdlModel;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+
+/**
+ * Compares listing the operations of a parsed WSDL file with reading the model a conversion starts from, which
+ * also reads the schemas the message parts refer to. The listing of a file read from disk includes the parsing.
+ *
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndexBenchmark {
+
+    @Param({"global_weather.wsdl", "reservation_service.wsdl", "ecommerce_service.wsdl"})
+    public String wsdlFile;
+
+    private Path wsdlPath;
+    private Definition wsdlDefinition;
+
+    @Setup
+    public void setup() throws IOException, WSDLException {
+        wsdlPath = BenchmarkCorpus.resolve(wsdlFile);
+        wsdlDefinition = WsdlParser.parse(wsdlPath);
+    }
+
+    @Benchmark
+    public WsdlIndex readIndex() {
+        return WsdlIndex.read(wsdlDefinition);
+    }
+
+    @Benchmark
+    public WsdlModel readModel() {
+        return WsdlModel.read(wsdlDefinition, new ConversionMetrics());
+    }
+
+    @Benchmark
+    public String listFile() throws WSDLException {
+        return WsdlIndex.read(WsdlParser.parse(wsdlPath)).toJson();
+    }
+}
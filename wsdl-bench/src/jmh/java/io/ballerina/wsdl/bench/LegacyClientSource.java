@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+
+import java.util.Map;
+
+/**
+ * The client generation that built Ballerina source text and parsed it back into syntax nodes, kept as the
+ * baseline of {@link SyntaxTreeBuilderBenchmark}.
+ *
+ * @since 0.1.0
+ */
+final class LegacyClientSource {
+    private static final String XMLDATA_NAME = "@xmldata:Name {value: \"Envelope\"}";
+    private static final String XMLDATA_NAMESPACE = "@xmldata:Namespace {prefix: \"soap\", uri: \"%s\"}";
+    private static final String XMLDATA_NAMESPACE_URI = "@xmldata:Namespace {uri: \"%s\"}";
+    private static final String LINE_BREAK = "\n";
+
+    private LegacyClientSource() {}
+
+    static ModuleMemberDeclarationNode createRecord(String namespace, boolean includeXmlData, String typeName,
+                                                    String bodyContent) {
+        StringBuilder builder = new StringBuilder();
+        if (includeXmlData) {
+            builder.append(XMLDATA_NAME).append(LINE_BREAK);
+        }
+        if (!namespace.isEmpty()) {
+            builder.append(String.format(XMLDATA_NAMESPACE, namespace)).append(LINE_BREAK);
+        }
+        builder.append("public type ").append(typeName).append(" record{").append(LINE_BREAK).append(bodyContent)
+                .append(LINE_BREAK).append("};");
+        return NodeParser.parseModuleMemberDeclaration(builder.toString());
+    }
+
+    static String requestBody(String namespace, String headerType, String bodyType) {
+        return String.format(XMLDATA_NAMESPACE, namespace) + LINE_BREAK + headerType + " Header?;"
+                + String.format(XMLDATA_NAMESPACE, namespace) + LINE_BREAK + bodyType + " Body;";
+    }
+
+    static ModuleMemberDeclarationNode createHeaderRecord(String namespace, String typeName,
+                                                          Map<String, String> fieldNamespaces) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(XMLDATA_NAMESPACE, namespace)).append(LINE_BREAK)
+                .append("public type ").append(typeName).append(" record{");
+        for (Map.Entry<String, String> field : fieldNamespaces.entrySet()) {
+            builder.append(String.format(XMLDATA_NAMESPACE_URI, field.getValue())).append(field.getKey())
+                    .append(' ').append(field.getKey()).append("?;");
+        }
+        builder.append("};");
+        return NodeParser.parseModuleMemberDeclaration(builder.toString());
+    }
+
+    static StringBuilder createClientContext(String soapModulePrefix, String serviceUrl, String clientName) {
+        return new StringBuilder()
+                .append("public isolated client class ").append(clientName).append(" {")
+                .append("final ").append(soapModulePrefix).append(":Client clientEp;")
+                .append("public isolated function init(string serviceUrl = \"").append(serviceUrl)
+                .append("\",*soap:ClientConfig config) returns error? { ")
+                .append("self.clientEp = check new (serviceUrl, config);}");
+    }
+
+    static String createRemoteFunction(String functionName, String requestType, String responseType,
+                                       String soapAction) {
+        return "remote isolated function " + functionName + "(" + requestType + " envelope) returns "
+                + responseType + "|error {xml result = check self.clientEp->sendReceive(check xmldata:toXml("
+                + "envelope), \"" + soapAction + "\");return xmldata:parseAsType(result);}";
+    }
+}
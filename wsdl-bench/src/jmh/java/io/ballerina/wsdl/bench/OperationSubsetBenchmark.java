@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import io.ballerina.wsdl.core.WsdlToBallerina;
+import io.ballerina.wsdl.core.WsdlToBallerinaResponse;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+
+/**
+ * Measures generating the sources of the reservation service for all of its operations and for a single
+ * operation. With a single operation only the schema types reachable from its messages are generated, so
+ * comparing the two, or running the single operation benchmark against an earlier build, shows the cost of
+ * generating unused types.
+ *
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OperationSubsetBenchmark {
+    private static final String WSDL_FILE = "reservation_service.wsdl";
+    private static final String CANCEL_RESERVATION =
+            "http://www.opentravel.org/OTA/2003/05/OTA2010A.ReservationService/CancelReservation";
+
+    private final WsdlToBallerina wsdlToBallerina = new WsdlToBallerina();
+    private Definition wsdlDefinition;
+
+    @Setup
+    public void setup() throws IOException, WSDLException {
+        wsdlDefinition = WsdlParser.parse(BenchmarkCorpus.resolve(WSDL_FILE));
+    }
+
+    @Benchmark
+    public WsdlToBallerinaResponse allOperations() {
+        return generate(new String[0]);
+    }
+
+    @Benchmark
+    public WsdlToBallerinaResponse singleOperation() {
+        return generate(new String[]{CANCEL_RESERVATION});
+    }
+
+    private WsdlToBallerinaResponse generate(String[] operations) {
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        wsdlToBallerina.generateFromWSDL(response, wsdlDefinition, "", new ArrayList<>(), operations, "");
+        return response;
+    }
+}
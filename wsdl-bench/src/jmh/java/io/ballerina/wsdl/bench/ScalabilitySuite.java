@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import io.ballerina.wsdl.cli.WsdlCmd;
+import io.ballerina.wsdl.core.WsdlToBallerinaResponse;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import javax.wsdl.WSDLException;
+
+/**
+ * Converts synthetic WSDL documents of growing size with {@link WsdlCmd#wsdlToBallerina} and records the time and
+ * the peak heap of every conversion. Each dimension of {@link SyntheticWsdl} is grown on its own from a fixed
+ * baseline. For every step the suite reports the growth exponent of the time, {@code log(t2 / t1) / log(n2 / n1)},
+ * and flags the steps where it exceeds the threshold, which is 1.3 by default and can be changed with the
+ * {@code wsdl.bench.superlinearThreshold} system property. The results are also written as CSV to the file given as
+ * the first argument, if any.
+ *
+ * @since 0.1.0
+ */
+public final class ScalabilitySuite {
+    public static final String THRESHOLD_PROPERTY = "wsdl.bench.superlinearThreshold";
+    private static final double DEFAULT_THRESHOLD = 1.3;
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+    private static final int BASELINE_OPERATIONS = 32;
+    private static final String CSV_HEADER = "dimension,size,fileBytes,medianMillis,peakHeapBytes,timeExponent";
+
+    private static final List<Dimension> DIMENSIONS = List.of(
+            new Dimension("operations", new int[]{64, 128, 256, 512, 1024, 2048},
+                    (builder, size) -> builder.setOperationCount(size)),
+            new Dimension("ports", new int[]{1, 2, 4, 8, 16},
+                    (builder, size) -> builder.setPortCount(size)),
+            new Dimension("schemas", new int[]{1, 2, 4, 8, 16, 32},
+                    (builder, size) -> builder.setSchemaCount(size)),
+            new Dimension("typeDepth", new int[]{1, 2, 4, 8, 16},
+                    (builder, size) -> builder.setTypeDepth(size)),
+            new Dimension("headerParts", new int[]{1, 2, 4, 8, 16, 32},
+                    (builder, size) -> builder.setHeaderPartCount(size)),
+            new Dimension("imports", new int[]{1, 4, 16, 64},
+                    (builder, size) -> builder.setImportCount(size))
+    );
+
+    private ScalabilitySuite() {}
+
+    public static void main(String[] args) throws Exception {
+        double threshold = Double.parseDouble(System.getProperty(THRESHOLD_PROPERTY,
+                String.valueOf(DEFAULT_THRESHOLD)));
+        PrintStream out = System.out;
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        out.printf("%-12s %8s %12s %12s %14s %9s%n", "dimension", "size", "file bytes", "median ms", "peak heap MB",
+                "exponent");
+        for (Dimension dimension : DIMENSIONS) {
+            Measurement previous = null;
+            for (int size : dimension.sizes()) {
+                SyntheticWsdl.Builder builder = new SyntheticWsdl.Builder().setOperationCount(BASELINE_OPERATIONS);
+                Measurement measurement = measure(dimension.grow().apply(builder, size).build(), size);
+                double exponent = previous == null ? Double.NaN
+                        : Math.log((double) measurement.medianNanos() / previous.medianNanos())
+                                / Math.log((double) size / previous.size());
+                out.printf("%-12s %8d %12d %12.1f %14.1f %9s%s%n", dimension.name(), size,
+                        measurement.fileBytes(), measurement.medianNanos() / 1e6,
+                        measurement.peakHeapBytes() / (1024.0 * 1024.0),
+                        Double.isNaN(exponent) ? "-" : String.format("%.2f", exponent),
+                        exponent > threshold ? "  superlinear" : "");
+                csv.append(dimension.name()).append(',').append(size).append(',').append(measurement.fileBytes())
+                        .append(',').append(measurement.medianNanos() / 1e6).append(',')
+                        .append(measurement.peakHeapBytes()).append(',')
+                        .append(Double.isNaN(exponent) ? "" : String.valueOf(exponent)).append('\n');
+                previous = measurement;
+            }
+        }
+        if (args.length > 0) {
+            Path csvFile = Paths.get(args[0]).toAbsolutePath();
+            Files.createDirectories(csvFile.getParent());
+            Files.writeString(csvFile, csv.toString(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Measurement measure(SyntheticWsdl syntheticWsdl, int size) throws IOException, WSDLException {
+        Path directory = Files.createTempDirectory("wsdl-scalability");
+        try {
+            Path wsdlFile = syntheticWsdl.write(directory);
+            for (int run = 0; run < WARMUP_RUNS; run++) {
+                convert(wsdlFile);
+            }
+            long[] times = new long[MEASURED_RUNS];
+            long peakHeapBytes = 0;
+            for (int run = 0; run < MEASURED_RUNS; run++) {
+                System.gc();
+                List<MemoryPoolMXBean> heapPools = heapPools();
+                heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+                long start = System.nanoTime();
+                convert(wsdlFile);
+                times[run] = System.nanoTime() - start;
+                peakHeapBytes = Math.max(peakHeapBytes,
+                        heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum());
+            }
+            Arrays.sort(times);
+            return new Measurement(size, Files.size(wsdlFile), times[MEASURED_RUNS / 2], peakHeapBytes);
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    private static void convert(Path wsdlFile) throws WSDLException {
+        WsdlToBallerinaResponse response = new WsdlCmd().wsdlToBallerina(wsdlFile.toString(), "", new String[0]);
+        if (!response.getDiagnostics().isEmpty()) {
+            throw new IllegalStateException("Converting " + wsdlFile + " failed: " + response.getDiagnostics());
+        }
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+
+    private record Dimension(String name, int[] sizes,
+                             BiFunction<SyntheticWsdl.Builder, Integer, SyntheticWsdl.Builder> grow) {
+    }
+
+    private record Measurement(int size, long fileBytes, long medianNanos, long peakHeapBytes) {
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.wsdl.core.generator.ClientSyntaxFactory;
+import io.ballerina.wsdl.core.generator.ClientSyntaxFactory.HeaderField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building the envelope records and the client class of a port by parsing generated source text with
+ * building them with {@link ClientSyntaxFactory}, for a port with the given number of operations. The setup
+ * fails if the two paths produce different source code.
+ *
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SyntaxTreeBuilderBenchmark {
+    private static final String SOAP_NAMESPACE = "http://schemas.xmlsoap.org/soap/envelope/";
+    private static final String HEADER_NAMESPACE = "http://tempuri.org/";
+    private static final String SERVICE_URL = "http://localhost:9090/service";
+
+    @Param({"1", "16", "128"})
+    private int operationCount;
+
+    @Setup
+    public void setup() {
+        List<ModuleMemberDeclarationNode> parsed = stringAndParse();
+        List<ModuleMemberDeclarationNode> built = nodeFactory();
+        for (int i = 0; i < parsed.size(); i++) {
+            if (!parsed.get(i).toSourceCode().equals(built.get(i).toSourceCode())) {
+                throw new IllegalStateException("Source code differs for " + parsed.get(i).toSourceCode());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ModuleMemberDeclarationNode> stringAndParse() {
+        List<ModuleMemberDeclarationNode> nodes = new ArrayList<>();
+        StringBuilder clientContext = LegacyClientSource.createClientContext("soap11", SERVICE_URL, "Client");
+        for (int i = 0; i < operationCount; i++) {
+            String operation = "Operation" + i;
+            nodes.add(LegacyClientSource.createRecord(SOAP_NAMESPACE, true, operation + "SoapRequest",
+                    LegacyClientSource.requestBody(SOAP_NAMESPACE, operation + "Header",
+                                                   operation + "RequestBody")));
+            nodes.add(LegacyClientSource.createRecord(SOAP_NAMESPACE, false, operation + "RequestBody",
+                    operation + " " + operation + "?;"));
+            nodes.add(LegacyClientSource.createRecord("", true, operation + "SoapResponse",
+                    operation + "ResponseBody Body;"));
+            nodes.add(LegacyClientSource.createRecord("", false, operation + "ResponseBody",
+                    "string " + operation + "Result?;"));
+            nodes.add(LegacyClientSource.createHeaderRecord(SOAP_NAMESPACE, operation + "Header",
+                    headerNamespaces(operation)));
+            clientContext.append(LegacyClientSource.createRemoteFunction(operation.toLowerCase(Locale.ROOT),
+                    operation + "SoapRequest", operation + "SoapResponse", HEADER_NAMESPACE + operation));
+        }
+        clientContext.append('}');
+        nodes.add(NodeParser.parseModuleMemberDeclaration(clientContext.toString()));
+        return nodes;
+    }
+
+    @Benchmark
+    public List<ModuleMemberDeclarationNode> nodeFactory() {
+        List<ModuleMemberDeclarationNode> nodes = new ArrayList<>();
+        List<FunctionDefinitionNode> remoteFunctions = new ArrayList<>();
+        for (int i = 0; i < operationCount; i++) {
+            String operation = "Operation" + i;
+            nodes.add(ClientSyntaxFactory.createSoapRequestRecord(operation + "SoapRequest", SOAP_NAMESPACE,
+                    operation + "Header", operation + "RequestBody"));
+            nodes.add(ClientSyntaxFactory.createBodyRecord(operation + "RequestBody", SOAP_NAMESPACE, operation,
+                    operation));
+            nodes.add(ClientSyntaxFactory.createSoapResponseRecord(operation + "SoapResponse",
+                    operation + "ResponseBody"));
+            nodes.add(ClientSyntaxFactory.createBodyRecord(operation + "ResponseBody", "", "string",
+                    operation + "Result"));
+            List<HeaderField> headerFields = new ArrayList<>();
+            headerNamespaces(operation).forEach((name, namespace) ->
+                    headerFields.add(new HeaderField(name, name, namespace, name)));
+            nodes.add(ClientSyntaxFactory.createHeaderRecord(operation + "Header", SOAP_NAMESPACE, headerFields));
+            remoteFunctions.add(ClientSyntaxFactory.createRemoteFunction(
+                    operation.toLowerCase(Locale.ROOT), operation + "SoapRequest",
+                    operation + "SoapResponse", HEADER_NAMESPACE + operation));
+        }
+        nodes.add(ClientSyntaxFactory.createClientClass("Client", "soap11", SERVICE_URL, remoteFunctions));
+        return nodes;
+    }
+
+    private static Map<String, String> headerNamespaces(String operation) {
+        Map<String, String> namespaces = new LinkedHashMap<>();
+        namespaces.put(operation + "Security", HEADER_NAMESPACE);
+        namespaces.put(operation + "Session", HEADER_NAMESPACE);
+        return namespaces;
+    }
+}
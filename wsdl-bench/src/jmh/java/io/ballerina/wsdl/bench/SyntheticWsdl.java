@@ -0,0 +1,276 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Creates synthetic WSDL documents that are larger than the files of the benchmark corpus. The documents are
+ * deterministic, so the same options always produce the same bytes. The size of a document grows with:
+ * <ul>
+ *     <li>the number of operations, each with its own request and response elements,</li>
+ *     <li>the number of ports, each with its own SOAP 1.1 binding of all the operations,</li>
+ *     <li>the number of schemas, which the operation elements are spread across,</li>
+ *     <li>the depth of the request and response types, each level nesting a record in the previous one,</li>
+ *     <li>the number of header parts added to the input of every operation,</li>
+ *     <li>the number of imported WSDL documents, and</li>
+ *     <li>the number of standalone records declared in every schema.</li>
+ * </ul>
+ *
+ * @since 0.1.0
+ */
+public final class SyntheticWsdl {
+    public static final String MAIN_FILE_NAME = "synthetic.wsdl";
+    private static final String IMPORTS_DIRECTORY = "imports";
+    private static final String TARGET_NAMESPACE = "urn:bench";
+    private static final String HEADER_MESSAGE = "BenchHeader";
+    private static final int FIELDS_PER_RECORD = 8;
+
+    private final int operationCount;
+    private final int portCount;
+    private final int schemaCount;
+    private final int typeDepth;
+    private final int headerPartCount;
+    private final int importCount;
+    private final int recordsPerSchema;
+
+    private SyntheticWsdl(Builder builder) {
+        this.operationCount = builder.operationCount;
+        this.portCount = builder.portCount;
+        this.schemaCount = builder.schemaCount;
+        this.typeDepth = builder.typeDepth;
+        this.headerPartCount = builder.headerPartCount;
+        this.importCount = builder.importCount;
+        this.recordsPerSchema = builder.recordsPerSchema;
+    }
+
+    /**
+     * Creates the main WSDL document. Imported documents are referenced relative to the main document, so a
+     * document with imports can only be parsed after it is written with {@link #write(Path)}.
+     *
+     * @return the main WSDL document
+     */
+    public String content() {
+        StringBuilder wsdl = new StringBuilder()
+                .append("<wsdl:definitions xmlns:wsdl=\"http://schemas.xmlsoap.org/wsdl/\" ")
+                .append("xmlns:soap=\"http://schemas.xmlsoap.org/wsdl/soap/\" ")
+                .append("xmlns:s=\"http://www.w3.org/2001/XMLSchema\" xmlns:tns=\"").append(TARGET_NAMESPACE)
+                .append('"');
+        for (int schema = 0; schema < schemaCount; schema++) {
+            wsdl.append(" xmlns:s").append(schema).append("=\"").append(schemaNamespace(schema)).append('"');
+        }
+        wsdl.append(" targetNamespace=\"").append(TARGET_NAMESPACE).append("\">");
+        for (int imported = 0; imported < importCount; imported++) {
+            wsdl.append("<wsdl:import namespace=\"").append(importNamespace(imported)).append("\" location=\"")
+                    .append(IMPORTS_DIRECTORY).append('/').append(importFileName(imported)).append("\"/>");
+        }
+        appendTypes(wsdl);
+        appendMessages(wsdl);
+        appendPortType(wsdl);
+        for (int port = 0; port < portCount; port++) {
+            appendBinding(wsdl, port);
+        }
+        wsdl.append("<wsdl:service name=\"BenchService\">");
+        for (int port = 0; port < portCount; port++) {
+            wsdl.append("<wsdl:port name=\"BenchPort").append(port).append("\" binding=\"tns:BenchBinding")
+                    .append(port).append("\"><soap:address location=\"http://localhost/bench/").append(port)
+                    .append("\"/></wsdl:port>");
+        }
+        return wsdl.append("</wsdl:service></wsdl:definitions>").toString();
+    }
+
+    /**
+     * Writes the main WSDL document and the documents it imports to a directory.
+     *
+     * @param directory the directory to write the documents to
+     * @return the path of the main WSDL document
+     */
+    public Path write(Path directory) throws IOException {
+        Path importsDirectory = Files.createDirectories(directory.resolve(IMPORTS_DIRECTORY));
+        for (int imported = 0; imported < importCount; imported++) {
+            String content = "<wsdl:definitions xmlns:wsdl=\"http://schemas.xmlsoap.org/wsdl/\" targetNamespace=\""
+                    + importNamespace(imported) + "\"><wsdl:documentation>Imported definition " + imported
+                    + "</wsdl:documentation></wsdl:definitions>";
+            Files.writeString(importsDirectory.resolve(importFileName(imported)), content, StandardCharsets.UTF_8);
+        }
+        Path mainFile = directory.resolve(MAIN_FILE_NAME);
+        Files.writeString(mainFile, content(), StandardCharsets.UTF_8);
+        return mainFile;
+    }
+
+    private void appendTypes(StringBuilder wsdl) {
+        wsdl.append("<wsdl:types>");
+        for (int schema = 0; schema < schemaCount; schema++) {
+            wsdl.append("<s:schema elementFormDefault=\"qualified\" targetNamespace=\"")
+                    .append(schemaNamespace(schema)).append("\" xmlns:t=\"").append(schemaNamespace(schema))
+                    .append("\">");
+            for (int record = 0; record < recordsPerSchema; record++) {
+                String name = "S" + schema + "Record" + record;
+                wsdl.append("<s:element name=\"").append(name).append("\" type=\"t:").append(name).append("Type\"/>");
+                appendComplexType(wsdl, name + "Type", null);
+            }
+            for (int operation = schema; operation < operationCount; operation += schemaCount) {
+                appendOperationTypes(wsdl, "Operation" + operation + "Request");
+                appendOperationTypes(wsdl, "Operation" + operation + "Response");
+            }
+            if (schema == 0) {
+                for (int header = 0; header < headerPartCount; header++) {
+                    wsdl.append("<s:element name=\"Header").append(header).append("\" type=\"s:string\"/>");
+                }
+            }
+            wsdl.append("</s:schema>");
+        }
+        wsdl.append("</wsdl:types>");
+    }
+
+    private void appendOperationTypes(StringBuilder wsdl, String elementName) {
+        wsdl.append("<s:element name=\"").append(elementName).append("\" type=\"t:").append(elementName)
+                .append("Type\"/>");
+        for (int level = 0; level < typeDepth; level++) {
+            String typeName = elementName + (level == 0 ? "" : "Level" + level) + "Type";
+            String childType = level + 1 < typeDepth ? elementName + "Level" + (level + 1) + "Type" : null;
+            appendComplexType(wsdl, typeName, childType);
+        }
+    }
+
+    private static void appendComplexType(StringBuilder wsdl, String typeName, String childType) {
+        wsdl.append("<s:complexType name=\"").append(typeName).append("\"><s:sequence>");
+        for (int field = 0; field < FIELDS_PER_RECORD; field++) {
+            wsdl.append("<s:element minOccurs=\"0\" name=\"field").append(field).append("\" type=\"")
+                    .append(field % 2 == 0 ? "s:string" : "s:int").append("\"/>");
+        }
+        if (childType != null) {
+            wsdl.append("<s:element minOccurs=\"0\" name=\"child\" type=\"t:").append(childType).append("\"/>");
+        }
+        wsdl.append("</s:sequence></s:complexType>");
+    }
+
+    private void appendMessages(StringBuilder wsdl) {
+        for (int operation = 0; operation < operationCount; operation++) {
+            String prefix = "s" + (operation % schemaCount) + ":Operation" + operation;
+            wsdl.append("<wsdl:message name=\"Operation").append(operation).append("In\">")
+                    .append("<wsdl:part name=\"parameters\" element=\"").append(prefix).append("Request\"/>")
+                    .append("</wsdl:message><wsdl:message name=\"Operation").append(operation).append("Out\">")
+                    .append("<wsdl:part name=\"parameters\" element=\"").append(prefix).append("Response\"/>")
+                    .append("</wsdl:message>");
+        }
+        if (headerPartCount > 0) {
+            wsdl.append("<wsdl:message name=\"").append(HEADER_MESSAGE).append("\">");
+            for (int header = 0; header < headerPartCount; header++) {
+                wsdl.append("<wsdl:part name=\"Header").append(header).append("\" element=\"s0:Header")
+                        .append(header).append("\"/>");
+            }
+            wsdl.append("</wsdl:message>");
+        }
+    }
+
+    private void appendPortType(StringBuilder wsdl) {
+        wsdl.append("<wsdl:portType name=\"BenchPortType\">");
+        for (int operation = 0; operation < operationCount; operation++) {
+            wsdl.append("<wsdl:operation name=\"Operation").append(operation).append("\">")
+                    .append("<wsdl:input message=\"tns:Operation").append(operation).append("In\"/>")
+                    .append("<wsdl:output message=\"tns:Operation").append(operation).append("Out\"/>")
+                    .append("</wsdl:operation>");
+        }
+        wsdl.append("</wsdl:portType>");
+    }
+
+    private void appendBinding(StringBuilder wsdl, int port) {
+        wsdl.append("<wsdl:binding name=\"BenchBinding").append(port).append("\" type=\"tns:BenchPortType\">")
+                .append("<soap:binding transport=\"http://schemas.xmlsoap.org/soap/http\"/>");
+        for (int operation = 0; operation < operationCount; operation++) {
+            wsdl.append("<wsdl:operation name=\"Operation").append(operation).append("\">")
+                    .append("<soap:operation soapAction=\"").append(TARGET_NAMESPACE).append(":Operation")
+                    .append(operation).append("\"/><wsdl:input><soap:body use=\"literal\"/>");
+            for (int header = 0; header < headerPartCount; header++) {
+                wsdl.append("<soap:header message=\"tns:").append(HEADER_MESSAGE).append("\" part=\"Header")
+                        .append(header).append("\" use=\"literal\"/>");
+            }
+            wsdl.append("</wsdl:input><wsdl:output><soap:body use=\"literal\"/></wsdl:output></wsdl:operation>");
+        }
+        wsdl.append("</wsdl:binding>");
+    }
+
+    private static String schemaNamespace(int schema) {
+        return TARGET_NAMESPACE + ":schema" + schema;
+    }
+
+    private static String importNamespace(int imported) {
+        return TARGET_NAMESPACE + ":imported" + imported;
+    }
+
+    private static String importFileName(int imported) {
+        return "imported" + imported + ".wsdl";
+    }
+
+    /**
+     * Builder for {@link SyntheticWsdl}. Every document has at least one operation, port, schema and type level.
+     */
+    public static class Builder {
+        private int operationCount = 1;
+        private int portCount = 1;
+        private int schemaCount = 1;
+        private int typeDepth = 1;
+        private int headerPartCount = 0;
+        private int importCount = 0;
+        private int recordsPerSchema = 0;
+
+        public Builder setOperationCount(int operationCount) {
+            this.operationCount = Math.max(1, operationCount);
+            return this;
+        }
+
+        public Builder setPortCount(int portCount) {
+            this.portCount = Math.max(1, portCount);
+            return this;
+        }
+
+        public Builder setSchemaCount(int schemaCount) {
+            this.schemaCount = Math.max(1, schemaCount);
+            return this;
+        }
+
+        public Builder setTypeDepth(int typeDepth) {
+            this.typeDepth = Math.max(1, typeDepth);
+            return this;
+        }
+
+        public Builder setHeaderPartCount(int headerPartCount) {
+            this.headerPartCount = Math.max(0, headerPartCount);
+            return this;
+        }
+
+        public Builder setImportCount(int importCount) {
+            this.importCount = Math.max(0, importCount);
+            return this;
+        }
+
+        public Builder setRecordsPerSchema(int recordsPerSchema) {
+            this.recordsPerSchema = Math.max(0, recordsPerSchema);
+            return this;
+        }
+
+        public SyntheticWsdl build() {
+            return new SyntheticWsdl(this);
+        }
+    }
+}
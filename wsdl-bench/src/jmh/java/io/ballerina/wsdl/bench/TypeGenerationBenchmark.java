@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import io.ballerina.wsdl.core.GenerationOptions;
+import io.ballerina.wsdl.core.WsdlToBallerina;
+import io.ballerina.wsdl.core.WsdlToBallerinaResponse;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.InputSource;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+
+/**
+ * Measures how record generation scales with the number of independent schemas in a WSDL definition, with the
+ * schemas visited one after another or in parallel.
+ *
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeGenerationBenchmark {
+    private static final int RECORDS_PER_SCHEMA = 25;
+    @Param({"1", "4", "16", "64"})
+    public int schemaCount;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private WsdlToBallerina wsdlToBallerina;
+    private Definition wsdlDefinition;
+
+    @Setup
+    public void setup() throws WSDLException {
+        wsdlToBallerina = new WsdlToBallerina(new GenerationOptions.Builder()
+                .setParallelTypeGeneration(parallel)
+                .build());
+        InputSource inputSource = new InputSource(new StringReader(new SyntheticWsdl.Builder()
+                .setSchemaCount(schemaCount)
+                .setRecordsPerSchema(RECORDS_PER_SCHEMA)
+                .build()
+                .content()));
+        inputSource.setSystemId("urn:bench:types");
+        wsdlDefinition = WsdlParser.parse(inputSource);
+    }
+
+    @Benchmark
+    public WsdlToBallerinaResponse generate() {
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        wsdlToBallerina.generateFromWSDL(response, wsdlDefinition, "", new ArrayList<>(), new String[0], "");
+        return response;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.bench;
+
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.InputSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+
+/**
+ * Compares reading a WSDL file into a string and re-encoding it before parsing with streaming the file straight
+ * into the parser. Run with the GC profiler ({@code -prof gc}) to compare the bytes allocated per parse.
+ *
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WsdlInputBenchmark {
+
+    @Param({"global_weather.wsdl", "reservation_service.wsdl"})
+    public String wsdlFile;
+
+    private Path wsdlPath;
+
+    @Setup
+    public void setup() {
+        wsdlPath = BenchmarkCorpus.resolve(wsdlFile);
+    }
+
+    @Benchmark
+    public Definition stringRoundTrip() throws IOException, WSDLException {
+        String content = Files.readString(wsdlPath);
+        return WsdlParser.parse(new InputSource(new ByteArrayInputStream(content.getBytes(Charset.defaultCharset()))));
+    }
+
+    @Benchmark
+    public Definition streamFromDisk() throws IOException, WSDLException {
+        return WsdlParser.parse(wsdlPath);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.wsdl.bench.BenchmarkCorpus;
+import io.ballerina.wsdl.bench.SyntheticWsdl;
+import io.ballerina.wsdl.core.handler.model.WsdlOperation;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xml.sax.InputSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+
+/**
+ * Measures each stage of the WSDL to Ballerina conversion on its own: parsing, type generation, reading the binding
+ * operations, building the client modules and formatting. The inputs of a stage are produced by the previous stages
+ * during the setup. Inputs named {@code synthetic-<n>} are generated with {@link SyntheticWsdl} with {@code n}
+ * operations, the others are read from the benchmark corpus. The GC profiler is enabled in the build, so the reports
+ * include the allocation rate of every stage. The benchmark is in the package of the converter, as the stages it
+ * measures are not part of the API of the converter.
+ *
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+    private static final String SYNTHETIC_PREFIX = "synthetic-";
+    private static final int OPERATIONS_PER_SCHEMA = 16;
+    private static final int SYNTHETIC_TYPE_DEPTH = 3;
+    private static final int SYNTHETIC_HEADER_PARTS = 2;
+
+    @Param({"calculator.xml", "global_weather.wsdl", "ecommerce_service.wsdl", "reservation_service.wsdl",
+            "synthetic-64", "synthetic-512"})
+    public String wsdlFile;
+
+    private byte[] content;
+    private ConversionStages stages;
+    private ConversionStages.TypesModule typesModule;
+    private Map<SoapPort, List<WsdlOperation>> portOperations;
+    private List<ModulePartNode> clientModules;
+
+    @Setup
+    public void setup() throws Exception {
+        content = wsdlFile.startsWith(SYNTHETIC_PREFIX)
+                ? createSyntheticWsdl(Integer.parseInt(wsdlFile.substring(SYNTHETIC_PREFIX.length())))
+                : BenchmarkCorpus.read(wsdlFile);
+        stages = new ConversionStages(parse(), GenerationOptions.defaults());
+        typesModule = stages.generateTypes();
+        portOperations = stages.getOperations();
+        clientModules = stages.generateClientModules(portOperations, typesModule.resolvedNameMeta());
+    }
+
+    @Benchmark
+    public Definition parse() throws WSDLException {
+        InputSource inputSource = new InputSource(new ByteArrayInputStream(content));
+        inputSource.setSystemId(BenchmarkCorpus.resolve(wsdlFile).toUri().toString());
+        return WsdlParser.parse(inputSource);
+    }
+
+    @Benchmark
+    public ModulePartNode generateTypes() throws Exception {
+        return stages.generateTypes().modulePartNode();
+    }
+
+    @Benchmark
+    public Map<SoapPort, List<WsdlOperation>> getOperations() throws Exception {
+        return stages.getOperations();
+    }
+
+    @Benchmark
+    public List<ModulePartNode> generateClientModules() {
+        return stages.generateClientModules(portOperations, typesModule.resolvedNameMeta());
+    }
+
+    @Benchmark
+    public String formatTypes() throws FormatterException {
+        return stages.format(typesModule.modulePartNode());
+    }
+
+    @Benchmark
+    public void formatClients(Blackhole blackhole) throws FormatterException {
+        for (ModulePartNode clientModule : clientModules) {
+            blackhole.consume(stages.format(clientModule));
+        }
+    }
+
+    private static byte[] createSyntheticWsdl(int operationCount) {
+        return new SyntheticWsdl.Builder()
+                .setOperationCount(operationCount)
+                .setSchemaCount(Math.max(1, operationCount / OPERATIONS_PER_SCHEMA))
+                .setTypeDepth(SYNTHETIC_TYPE_DEPTH)
+                .setHeaderPartCount(SYNTHETIC_HEADER_PARTS)
+                .build()
+                .content()
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.cli;
+
+import io.ballerina.projects.util.ProjectUtils;
+import io.ballerina.wsdl.core.WsdlToBallerinaResponse;
+import io.ballerina.wsdl.core.diagnostic.WsdlToBallerinaDiagnostic;
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.wsdl.cli.Messages.INVALID_BATCH_MANIFEST_ENTRY;
+import static io.ballerina.wsdl.cli.Messages.INVALID_DIRECTORY_PATH;
+
+/**
+ * Converts many WSDL files in one process, on a bounded pool of worker threads. The files are listed either by a
+ * directory, in which case every {@code .wsdl} file of the directory is converted, or by a manifest with one entry
+ * per line:
+ * <pre>
+ * # wsdl-file [--module &lt;module-name&gt;] [--port &lt;port-name&gt;] [--operations &lt;operation-uris&gt;]
+ * services/calculator.wsdl --module calculator --operations http://tempuri.org/Add,http://tempuri.org/Multiply
+ * </pre>
+ * Tokens are separated by white space, and a WSDL path or value with spaces is enclosed in double or single quotes.
+ * Relative WSDL paths are resolved against the directory of the manifest. An entry without a module is generated
+ * into a module named after its WSDL file. Existing files are never prompted for; they are kept or overwritten as
+ * the overwrite policy says.
+ *
+ * @since 0.1.0
+ */
+class BatchConversion {
+    private static final String WSDL_EXTENSION = ".wsdl";
+    private static final String COMMENT_PREFIX = "#";
+    private static final String MODULE_OPTION = "--module";
+    private static final String MODULE_SHORT_OPTION = "-m";
+    private static final String PORT_OPTION = "--port";
+    private static final String PORT_SHORT_OPTION = "-p";
+    private static final String OPERATIONS_OPTION = "--operations";
+
+    private final Path projectDirectory;
+    private final List<Entry> entries;
+    private final OverwritePolicy overwritePolicy;
+    private final int parallelism;
+
+    BatchConversion(Path projectDirectory, List<Entry> entries, OverwritePolicy overwritePolicy, int parallelism) {
+        this.projectDirectory = projectDirectory;
+        this.entries = List.copyOf(entries);
+        this.overwritePolicy = overwritePolicy;
+        this.parallelism = Math.max(1, Math.min(parallelism, entries.size()));
+    }
+
+    /**
+     * Reads the batch entries of a directory or a manifest file.
+     *
+     * @param input the directory or the manifest file
+     * @return the entries, in the order of the manifest or sorted by file name
+     * @throws IOException              if the input cannot be read
+     * @throws IllegalArgumentException if a manifest entry is invalid
+     */
+    static List<Entry> readEntries(Path input) throws IOException {
+        if (Files.isDirectory(input)) {
+            try (Stream<Path> files = Files.list(input)) {
+                return files.filter(file -> file.getFileName().toString().endsWith(WSDL_EXTENSION))
+                        .sorted()
+                        .map(file -> new Entry(file, defaultModuleName(file), "", new String[0]))
+                        .toList();
+            }
+        }
+        Path baseDirectory = input.toAbsolutePath().getParent();
+        List<String> lines = Files.readAllLines(input, StandardCharsets.UTF_8);
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (!line.isEmpty() && !line.startsWith(COMMENT_PREFIX)) {
+                entries.add(parseEntry(baseDirectory, line, i + 1));
+            }
+        }
+        return entries;
+    }
+
+    private static Entry parseEntry(Path baseDirectory, String line, int lineNumber) {
+        List<String> tokens = tokenize(line, lineNumber);
+        Path wsdlFile = baseDirectory.resolve(tokens.get(0)).normalize();
+        String moduleName = defaultModuleName(wsdlFile);
+        String portName = "";
+        String[] operations = new String[0];
+        for (int i = 1; i < tokens.size(); i += 2) {
+            if (i + 1 == tokens.size()) {
+                throw new IllegalArgumentException(String.format(INVALID_BATCH_MANIFEST_ENTRY, lineNumber,
+                        "missing value for " + tokens.get(i)));
+            }
+            String value = tokens.get(i + 1);
+            switch (tokens.get(i)) {
+                case MODULE_OPTION, MODULE_SHORT_OPTION -> moduleName = value;
+                case PORT_OPTION, PORT_SHORT_OPTION -> portName = value;
+                case OPERATIONS_OPTION -> operations = value.split(",");
+                default -> throw new IllegalArgumentException(String.format(INVALID_BATCH_MANIFEST_ENTRY,
+                        lineNumber, "unknown option " + tokens.get(i)));
+            }
+        }
+        return new Entry(wsdlFile, moduleName, portName, operations);
+    }
+
+    /**
+     * Splits a manifest line into tokens separated by white space. A quoted token may hold white space, and its
+     * quotes are removed.
+     */
+    private static List<String> tokenize(String line, int lineNumber) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean inToken = false;
+        char quote = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                } else {
+                    token.append(c);
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                inToken = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inToken) {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                    inToken = false;
+                }
+            } else {
+                token.append(c);
+                inToken = true;
+            }
+        }
+        if (quote != 0) {
+            throw new IllegalArgumentException(String.format(INVALID_BATCH_MANIFEST_ENTRY, lineNumber,
+                    "missing closing quote"));
+        }
+        if (inToken) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private static String defaultModuleName(Path wsdlFile) {
+        String fileName = wsdlFile.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return baseName.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_.]", "_");
+    }
+
+    /**
+     * Converts all the entries and writes the generated sources into their modules.
+     *
+     * @param converter converts the WSDL file of an entry
+     * @return the results, in the order of the entries
+     */
+    List<Result> run(Converter converter) throws InterruptedException {
+        Map<Path, Entry> moduleOwners = new HashMap<>();
+        List<Callable<Result>> tasks = new ArrayList<>();
+        for (Entry entry : entries) {
+            Path modulePath = WsdlCmd.getModulePath(projectDirectory, entry.moduleName());
+            Entry owner = moduleOwners.putIfAbsent(modulePath, entry);
+            if (owner == null) {
+                tasks.add(() -> convert(entry, converter));
+            } else {
+                Result result = Result.failed(entry, 0, "module '" + entry.moduleName() +
+                        "' is already generated from " + owner.wsdlFile());
+                tasks.add(() -> result);
+            }
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Result> results = new ArrayList<>();
+            List<Future<Result>> futures = executorService.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    results.add(Result.failed(entries.get(i), 0, String.valueOf(e.getCause())));
+                }
+            }
+            return results;
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private Result convert(Entry entry, Converter converter) {
+        long start = System.nanoTime();
+        try {
+            if (!ProjectUtils.validateModuleName(entry.moduleName()) ||
+                    !ProjectUtils.validateNameLength(entry.moduleName())) {
+                return Result.failed(entry, System.nanoTime() - start,
+                        "invalid module name '" + entry.moduleName() + "'");
+            }
+            Path modulePath = WsdlCmd.getModulePath(projectDirectory, entry.moduleName());
+            if (Files.exists(modulePath) && !Files.isDirectory(modulePath)) {
+                return Result.failed(entry, System.nanoTime() - start,
+                        String.format(INVALID_DIRECTORY_PATH, entry.moduleName()));
+            }
+            Files.createDirectories(modulePath);
+            WsdlToBallerinaResponse response = converter.convert(entry, modulePath.toString());
+            if (!response.getDiagnostics().isEmpty()) {
+                String message = response.getDiagnostics().stream()
+                        .map(WsdlToBallerinaDiagnostic::message)
+                        .collect(Collectors.joining("; "));
+                return Result.failed(entry, System.nanoTime() - start, message);
+            }
+            List<GeneratedSource> sources = new ArrayList<>();
+            if (response.getTypesSource() != null) {
+                sources.add(response.getTypesSource());
+            }
+            sources.addAll(response.getClientSources());
+            int written = 0;
+            int unchanged = 0;
+            int kept = 0;
+            for (GeneratedSource source : sources) {
+                switch (WsdlCmd.writeSource(source, sourcePath -> overwritePolicy == OverwritePolicy.OVERWRITE)) {
+                    case WRITTEN -> written++;
+                    case UNCHANGED -> unchanged++;
+                    case KEPT -> kept++;
+                }
+            }
+            List<String> notes = new ArrayList<>();
+            if (unchanged > 0) {
+                notes.add(unchanged + " file(s) unchanged");
+            }
+            if (kept > 0) {
+                notes.add(kept + " existing file(s) kept");
+            }
+            Status status = written > 0 ? Status.CONVERTED : kept > 0 ? Status.SKIPPED : Status.UNCHANGED;
+            return new Result(entry, status, System.nanoTime() - start, written, unchanged,
+                    String.join(", ", notes));
+        } catch (Exception e) {
+            return Result.failed(entry, System.nanoTime() - start, String.valueOf(e.getMessage()));
+        }
+    }
+
+    /**
+     * Prints the status and time of every entry, followed by the totals.
+     *
+     * @param out          the stream to print to
+     * @param results      the results of the entries
+     * @param elapsedNanos the wall time of the whole batch
+     */
+    static void printSummary(PrintStream out, List<Result> results, long elapsedNanos) {
+        out.printf("%-10s %10s  %s%n", "STATUS", "TIME (ms)", "WSDL FILE");
+        for (Result result : results) {
+            out.printf("%-10s %10d  %s -> %s%s%n", result.status(), result.nanos() / 1_000_000,
+                    result.entry().wsdlFile(), result.entry().moduleName().isEmpty()
+                            ? "the default module" : result.entry().moduleName(),
+                    result.message().isEmpty() ? "" : " (" + result.message() + ")");
+        }
+        Map<Status, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(Result::status, Collectors.counting()));
+        out.printf("Converted %d, unchanged %d, skipped %d and failed %d of %d WSDL files in %d ms%n",
+                counts.getOrDefault(Status.CONVERTED, 0L), counts.getOrDefault(Status.UNCHANGED, 0L),
+                counts.getOrDefault(Status.SKIPPED, 0L), counts.getOrDefault(Status.FAILED, 0L), results.size(),
+                elapsedNanos / 1_000_000);
+    }
+
+    /**
+     * Converts the WSDL file of a batch entry.
+     */
+    @FunctionalInterface
+    interface Converter {
+        WsdlToBallerinaResponse convert(Entry entry, String outputDirectory) throws Exception;
+    }
+
+    /**
+     * A WSDL file of a batch and the module, port and operations to generate from it.
+     */
+    record Entry(Path wsdlFile, String moduleName, String portName, String[] operations) {
+
+        /**
+         * Returns the entry with the given port and operations in place of the ones it does not specify.
+         */
+        Entry withDefaults(String defaultPortName, String[] defaultOperations) {
+            return new Entry(wsdlFile, moduleName, portName.isEmpty() ? defaultPortName : portName,
+                    operations.length == 0 ? defaultOperations : operations);
+        }
+    }
+
+    /**
+     * The outcome of a batch entry.
+     */
+    enum Status {
+        CONVERTED,
+        UNCHANGED,
+        SKIPPED,
+        FAILED
+    }
+
+    /**
+     * The outcome of a batch entry, with the time it took, the number of files written and the number of files that
+     * already held the generated source.
+     */
+    record Result(Entry entry, Status status, long nanos, int filesWritten, int filesUnchanged, String message) {
+        static Result failed(Entry entry, long nanos, String message) {
+            return new Result(entry, Status.FAILED, nanos, 0, 0, message);
+        }
+    }
+}
@@ -29,4 +29,12 @@ public class Messages {
             "Example: bal wsdl <path_to_wsdl_file>";
     public static final String INVALID_DIRECTORY_PATH = "Error: Invalid directory path has been provided. The '%s' is" +
             " a file";
+    public static final String INVALID_OVERWRITE_POLICY = "Error: Invalid overwrite policy '%s'. " +
+            "Use 'prompt', 'overwrite' or 'skip'";
+    public static final String INVALID_BATCH_MANIFEST_ENTRY = "Error: Invalid entry at line %d of the batch " +
+            "manifest: %s";
+    public static final String PROMPT_NOT_SUPPORTED_IN_BATCH_MODE = "Error: The 'prompt' overwrite policy is not " +
+            "supported in batch mode";
+    public static final String OPTION_NOT_SUPPORTED_IN_BATCH_MODE = "Error: The '%s' option is not supported in " +
+            "batch mode. Set the module of each WSDL file in the batch manifest instead";
 }
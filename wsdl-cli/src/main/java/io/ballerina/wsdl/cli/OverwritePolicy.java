@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.cli;
+
+import java.util.Locale;
+
+/**
+ * Decides what happens to a generated source file that already exists.
+ *
+ * @since 0.1.0
+ */
+enum OverwritePolicy {
+    PROMPT,
+    OVERWRITE,
+    SKIP;
+
+    /**
+     * Parses the value of the {@code --overwrite} option.
+     *
+     * @param value the option value
+     * @return the policy
+     * @throws IllegalArgumentException if the value is not a known policy
+     */
+    static OverwritePolicy fromOption(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(Messages.INVALID_OVERWRITE_POLICY, value), e);
+        }
+    }
+}
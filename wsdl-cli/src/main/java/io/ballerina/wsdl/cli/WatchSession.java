@@ -0,0 +1,251 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.cli;
+
+import io.ballerina.wsdl.core.WsdlToBallerinaResponse;
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.wsdl.cli.WsdlCmd.addAutoGeneratedMessage;
+import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.COLON;
+import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.WHITESPACE;
+
+/**
+ * Regenerates the sources of a WSDL file whenever the file or one of the local documents it imports changes. The
+ * imported documents are recorded while the WSDL file is parsed, so the watched files follow the imports as they
+ * are added and removed. Changes are debounced, so saving several files at once triggers a single regeneration.
+ * <p>
+ * Every regeneration converts the whole WSDL file again, relying on the generation caches to skip the unchanged
+ * work, and only the generated files whose content changed are written. A file the session wrote, and that still
+ * holds what it wrote, is replaced directly. Any other existing file, such as one the user chose to keep or edited
+ * since, is handed to a writer that applies the overwrite policy, and is not offered again until its generated
+ * content changes.
+ *
+ * @since 0.1.0
+ */
+class WatchSession {
+    private static final long DEBOUNCE_MILLIS = 300;
+
+    private final Path wsdlFile;
+    private final ImportResolver importResolver;
+    private final PrintStream outStream;
+    private final Set<Path> inputFiles = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> writtenContents = new HashMap<>();
+    private final Map<String, String> keptContents = new HashMap<>();
+
+    WatchSession(Path wsdlFile, ImportResolver importResolver, PrintStream outStream) {
+        this.wsdlFile = wsdlFile.toAbsolutePath().normalize();
+        this.importResolver = importResolver;
+        this.outStream = outStream;
+        this.inputFiles.add(this.wsdlFile);
+    }
+
+    /**
+     * Returns the import resolver to parse the WSDL file with, which records the local documents it opens.
+     *
+     * @return the recording import resolver
+     */
+    ImportResolver getImportResolver() {
+        return location -> {
+            if (ImportResolver.FILE_SCHEME.equals(location.getScheme())) {
+                inputFiles.add(Paths.get(location).toAbsolutePath().normalize());
+            }
+            return importResolver.open(location);
+        };
+    }
+
+    /**
+     * Watches the WSDL file and its imports until the thread is interrupted, regenerating on every change.
+     *
+     * @param initialResponse the response of the conversion that was written before watching
+     * @param converter       converts the WSDL file with the given import resolver
+     * @param sourceWriter    writes a generated source over an existing file the session did not write
+     */
+    void watch(WsdlToBallerinaResponse initialResponse, Converter converter, SourceWriter sourceWriter)
+            throws IOException {
+        if (initialResponse.getDiagnostics().isEmpty()) {
+            // Only the files that hold the generated content were written, the others were kept as they are
+            for (GeneratedSource source : getSources(initialResponse)) {
+                String content = addAutoGeneratedMessage(source.content());
+                if (content.equals(readContent(Paths.get(source.fileName())))) {
+                    writtenContents.put(source.fileName(), content);
+                } else {
+                    keptContents.put(source.fileName(), content);
+                }
+            }
+        }
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+            registerDirectories(watchService, watchedDirectories);
+            this.outStream.printf("Watching %d file(s) for changes. Press Ctrl+C to stop.%n", inputFiles.size());
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean changed = isInputChanged(watchService.take(), watchedDirectories);
+                long changeTime = System.nanoTime();
+                WatchKey key;
+                while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= isInputChanged(key, watchedDirectories);
+                }
+                if (changed) {
+                    regenerate(converter, sourceWriter, changeTime);
+                    registerDirectories(watchService, watchedDirectories);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void regenerate(Converter converter, SourceWriter sourceWriter, long changeTime) {
+        long start = System.nanoTime();
+        Set<Path> previousInputFiles = Set.copyOf(inputFiles);
+        inputFiles.clear();
+        inputFiles.add(wsdlFile);
+        WsdlToBallerinaResponse response;
+        try {
+            response = converter.convert(getImportResolver());
+        } catch (Exception e) {
+            inputFiles.addAll(previousInputFiles);
+            this.outStream.println("Regeneration failed: " + e.getMessage());
+            return;
+        }
+        if (!response.getDiagnostics().isEmpty()) {
+            // Keep watching the previous imports, as the definition may fail before reaching them
+            inputFiles.addAll(previousInputFiles);
+            response.getDiagnostics().forEach(diagnostic -> this.outStream.println(diagnostic.getSeverity() + COLON
+                    + WHITESPACE + diagnostic.message()));
+            return;
+        }
+        int updated = 0;
+        List<GeneratedSource> sources = getSources(response);
+        try {
+            for (GeneratedSource source : sources) {
+                if (write(source, sourceWriter)) {
+                    updated++;
+                }
+            }
+        } catch (IOException e) {
+            this.outStream.println("Regeneration failed: " + e.getMessage());
+            return;
+        }
+        long end = System.nanoTime();
+        this.outStream.printf("Regenerated %d of %d file(s) in %d ms, %d ms after the change was detected%n",
+                updated, sources.size(), TimeUnit.NANOSECONDS.toMillis(end - start),
+                TimeUnit.NANOSECONDS.toMillis(end - changeTime));
+    }
+
+    private boolean write(GeneratedSource source, SourceWriter sourceWriter) throws IOException {
+        String fileName = source.fileName();
+        String content = addAutoGeneratedMessage(source.content());
+        if (content.equals(writtenContents.get(fileName)) || content.equals(keptContents.get(fileName))) {
+            return false;
+        }
+        Path path = Paths.get(fileName);
+        String currentContent = readContent(path);
+        boolean written;
+        if (currentContent == null || currentContent.equals(writtenContents.get(fileName))) {
+            Files.writeString(path, content);
+            written = true;
+        } else {
+            written = sourceWriter.write(source);
+        }
+        if (written) {
+            writtenContents.put(fileName, content);
+            keptContents.remove(fileName);
+        } else {
+            writtenContents.remove(fileName);
+            keptContents.put(fileName, content);
+        }
+        return written;
+    }
+
+    private static String readContent(Path path) throws IOException {
+        return Files.isRegularFile(path) ? Files.readString(path) : null;
+    }
+
+    private boolean isInputChanged(WatchKey key, Map<WatchKey, Path> watchedDirectories) {
+        boolean changed = false;
+        Path directory = watchedDirectories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed = true;
+            } else if (directory != null && event.context() instanceof Path fileName) {
+                changed |= inputFiles.contains(directory.resolve(fileName));
+            }
+        }
+        if (!key.reset()) {
+            watchedDirectories.remove(key);
+        }
+        return changed;
+    }
+
+    private void registerDirectories(WatchService watchService, Map<WatchKey, Path> watchedDirectories)
+            throws IOException {
+        for (Path inputFile : inputFiles) {
+            Path directory = inputFile.getParent();
+            if (directory != null && Files.isDirectory(directory) && !watchedDirectories.containsValue(directory)) {
+                WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                watchedDirectories.put(key, directory);
+            }
+        }
+    }
+
+    private static List<GeneratedSource> getSources(WsdlToBallerinaResponse response) {
+        List<GeneratedSource> sources = new ArrayList<>();
+        if (response.getTypesSource() != null) {
+            sources.add(response.getTypesSource());
+        }
+        sources.addAll(response.getClientSources());
+        return sources;
+    }
+
+    /**
+     * Converts the watched WSDL file.
+     */
+    @FunctionalInterface
+    interface Converter {
+        WsdlToBallerinaResponse convert(ImportResolver importResolver) throws Exception;
+    }
+
+    /**
+     * Writes a generated source over an existing file as the overwrite policy says, and returns whether it did.
+     */
+    @FunctionalInterface
+    interface SourceWriter {
+        boolean write(GeneratedSource source) throws IOException;
+    }
+}
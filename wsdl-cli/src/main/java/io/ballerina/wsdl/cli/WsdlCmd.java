@@ -20,39 +20,52 @@ package io.ballerina.wsdl.cli;
 
 import io.ballerina.cli.BLauncherCmd;
 import io.ballerina.projects.util.ProjectUtils;
+import io.ballerina.wsdl.core.ConversionMetrics;
+import io.ballerina.wsdl.core.FormattingCache;
+import io.ballerina.wsdl.core.GenerationOptions;
+import io.ballerina.wsdl.core.WsdlIndex;
+import io.ballerina.wsdl.core.WsdlModel;
+import io.ballerina.wsdl.core.WsdlSnapshot;
 import io.ballerina.wsdl.core.WsdlToBallerina;
 import io.ballerina.wsdl.core.WsdlToBallerinaResponse;
+import io.ballerina.wsdl.core.cache.ImportCache;
+import io.ballerina.wsdl.core.cache.ResultCache;
 import io.ballerina.wsdl.core.diagnostic.DiagnosticMessage;
 import io.ballerina.wsdl.core.diagnostic.DiagnosticUtils;
 import io.ballerina.wsdl.core.generator.GeneratedSource;
-import org.xml.sax.InputSource;
+import io.ballerina.wsdl.core.parser.CatalogImportResolver;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import io.ballerina.wsdl.core.parser.WsdlParser;
 import picocli.CommandLine;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
-import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.wsdl.Definition;
 import javax.wsdl.WSDLException;
-import javax.wsdl.factory.WSDLFactory;
-import javax.wsdl.xml.WSDLReader;
 
 import static io.ballerina.wsdl.cli.Messages.INVALID_DIRECTORY_PATH;
 import static io.ballerina.wsdl.cli.Messages.MISSING_WSDL_PATH;
+import static io.ballerina.wsdl.cli.Messages.OPTION_NOT_SUPPORTED_IN_BATCH_MODE;
+import static io.ballerina.wsdl.cli.Messages.PROMPT_NOT_SUPPORTED_IN_BATCH_MODE;
 import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.COLON;
 import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.EMPTY_STRING;
 import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.WHITESPACE;
@@ -99,6 +112,84 @@ public class WsdlCmd implements BLauncherCmd {
     @CommandLine.Option(names = {"--port", "-p"})
     private String portName = "";
 
+    @CommandLine.Option(
+            names = {"--catalog"},
+            description = "Comma-separated OASIS XML catalog files used to resolve imported documents",
+            split = ","
+    )
+    private String[] catalogs = new String[0];
+
+    @CommandLine.Option(names = {"--offline"}, description = "Resolve imported documents only from the XML " +
+            "catalogs, the local file system and the import cache")
+    private boolean offline;
+
+    @CommandLine.Option(names = {"--refresh-imports"}, description = "Retrieve every remote imported document " +
+            "again instead of serving it from the import cache")
+    private boolean refreshImports;
+
+    @CommandLine.Option(names = {"--fast-format"}, description = "Print the generated sources directly in the " +
+            "formatted layout instead of running the Ballerina formatter")
+    private boolean fastFormat;
+
+    @CommandLine.Option(names = {"--timings"}, description = "Print the time, CPU time and allocated memory of " +
+            "each phase of the generation")
+    private boolean timings;
+
+    @CommandLine.Option(names = {"--timings-json"}, description = "Write the generation metrics as JSON to the " +
+            "given file")
+    private String timingsJson;
+
+    @CommandLine.Option(names = {"--batch"}, description = "Convert every WSDL file of a directory, or every " +
+            "entry of a manifest file, in a single run")
+    private String batchInput;
+
+    @CommandLine.Option(names = {"--threads"}, description = "The number of WSDL files converted concurrently in " +
+            "batch mode")
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    @CommandLine.Option(names = {"--overwrite"}, description = "What to do with generated files that already " +
+            "exist: prompt, overwrite or skip")
+    private String overwrite;
+
+    @CommandLine.Option(names = {"--watch"}, description = "Keep running and regenerate the sources whenever the " +
+            "WSDL file or a local document it imports changes")
+    private boolean watch;
+
+    @CommandLine.Option(names = {"--daemon"}, description = "Serve conversion requests as JSON-RPC messages on " +
+            "the standard input and output until shut down")
+    private boolean daemon;
+
+    @CommandLine.Option(names = {"--socket"}, description = "Serve the daemon on the given Unix domain socket " +
+            "instead of the standard input and output")
+    private String socketPath;
+
+    @CommandLine.Option(names = {"--snapshot"}, description = "Write a snapshot of the parsed WSDL file to the " +
+            "given file, which can be converted in place of the WSDL file without parsing it again")
+    private String snapshotFile;
+
+    @CommandLine.Option(names = {"--list"}, description = "List the ports and operations of the WSDL file " +
+            "instead of generating the sources")
+    private boolean list;
+
+    @CommandLine.Option(names = {"--list-json"}, description = "List the ports and operations of the WSDL file " +
+            "as a JSON document instead of generating the sources")
+    private boolean listJson;
+
+    @CommandLine.Option(names = {"--no-cache"}, description = "Always regenerate the sources instead of reusing " +
+            "the sources generated earlier from the same input and options")
+    private boolean noCache;
+
+    @CommandLine.Option(names = {"--cache-info"}, description = "Print the entries of the generation cache")
+    private boolean cacheInfo;
+
+    @CommandLine.Option(names = {"--clear-cache"}, description = "Remove every entry of the generation cache " +
+            "and every formatting manifest")
+    private boolean clearCache;
+
+    private ImportCache importCache;
+    private ResultCache resultCache;
+    private boolean cacheResults;
+
     public WsdlCmd() {
         this.outStream = System.err;
         this.operations = new String[0];
@@ -114,16 +205,37 @@ public class WsdlCmd implements BLauncherCmd {
             exitOnError();
             return;
         }
+        if (this.cacheInfo || this.clearCache) {
+            executeCacheCommand();
+            return;
+        }
+        if (this.list || this.listJson) {
+            executeList();
+            return;
+        }
+        // Conversions requested through the API are never cached, so tests always exercise the generators
+        this.cacheResults = !this.noCache;
+        if (this.daemon || this.socketPath != null) {
+            executeDaemon();
+            return;
+        }
+        if (this.batchInput != null) {
+            if (isValidBallerinaProject()) {
+                executeBatch();
+            }
+            return;
+        }
         if (this.inputPath == null || this.inputPath.isEmpty()) {
             this.outStream.println("A WSDL file path is required to generate the client and types.");
             this.outStream.println("e.g: bal wsdl <wsdl-file>");
             exitOnError();
             return;
         }
-        Path modulePath = getModulePath();
+        Path modulePath = getModulePath(this.moduleName);
         if (!isValidBallerinaProject()) return;
         if (!isValidModuleName(this.moduleName)) return;
         try {
+            OverwritePolicy overwritePolicy = getOverwritePolicy(OverwritePolicy.PROMPT);
             if (Files.exists(modulePath) && !Files.isDirectory(modulePath)) {
                 this.outStream.printf(INVALID_DIRECTORY_PATH + "%n", this.moduleName);
                 exitOnError();
@@ -138,16 +250,28 @@ public class WsdlCmd implements BLauncherCmd {
                 exitOnError();
                 return;
             }
-            WsdlToBallerinaResponse response = wsdlToBallerina(inputFile, modulePath.toString(), this.operations);
+            WatchSession watchSession = this.watch
+                    ? new WatchSession(Path.of(inputFile), getImportResolver(), this.outStream) : null;
+            ImportResolver importResolver = watchSession == null
+                    ? getImportResolver() : watchSession.getImportResolver();
+            WsdlToBallerinaResponse response = wsdlToBallerina(inputFile, modulePath.toString(), this.operations,
+                                                               this.portName, importResolver);
+            reportMetrics(response.getMetrics());
             if (!response.getDiagnostics().isEmpty()) {
                 response.getDiagnostics().forEach(diagnostic ->
                         this.outStream.println(diagnostic.getSeverity() + COLON + WHITESPACE + diagnostic.message())
                 );
-                return;
+            } else {
+                printImportCacheStats();
+                writeSourceToFiles(response.getTypesSource(), overwritePolicy);
+                for (GeneratedSource generatedSource: response.getClientSources()) {
+                    writeSourceToFiles(generatedSource, overwritePolicy);
+                }
             }
-            writeSourceToFiles(response.getTypesSource());
-            for (GeneratedSource generatedSource: response.getClientSources()) {
-                writeSourceToFiles(generatedSource);
+            if (watchSession != null) {
+                watchSession.watch(response, resolver -> wsdlToBallerina(inputFile, modulePath.toString(),
+                                                                         this.operations, this.portName, resolver),
+                                   source -> writeSourceToFiles(source, overwritePolicy));
             }
         } catch (WSDLException e) {
             // Keep this empty to avoid duplicating the error message
@@ -157,15 +281,62 @@ public class WsdlCmd implements BLauncherCmd {
         }
     }
 
-    private Path getModulePath() {
-        Path modulePath = Paths.get(this.moduleName);
-        if (!Objects.equals(this.moduleName, EMPTY_STRING)) {
-            Path basePath = Paths.get("modules").toAbsolutePath();
-            modulePath = basePath.resolve(this.moduleName).normalize();
+    private void executeBatch() {
+        try {
+            OverwritePolicy overwritePolicy = getOverwritePolicy(OverwritePolicy.SKIP);
+            if (overwritePolicy == OverwritePolicy.PROMPT) {
+                throw new IllegalArgumentException(PROMPT_NOT_SUPPORTED_IN_BATCH_MODE);
+            }
+            // Every entry has its own module, while the port and operations apply to entries without their own
+            if (!this.moduleName.isEmpty()) {
+                throw new IllegalArgumentException(String.format(OPTION_NOT_SUPPORTED_IN_BATCH_MODE, "--module"));
+            }
+            List<BatchConversion.Entry> entries = BatchConversion.readEntries(Paths.get(this.batchInput)).stream()
+                    .map(entry -> entry.withDefaults(this.portName, this.operations))
+                    .toList();
+            if (entries.isEmpty()) {
+                this.outStream.println("No WSDL files found in " + this.batchInput);
+                exitOnError();
+                return;
+            }
+            long start = System.nanoTime();
+            BatchConversion batchConversion = new BatchConversion(Paths.get("").toAbsolutePath(), entries,
+                                                                  overwritePolicy, this.threads);
+            List<BatchConversion.Result> results = batchConversion.run((entry, outputDirectory) -> wsdlToBallerina(
+                    entry.wsdlFile().toString(), outputDirectory, entry.operations(), entry.portName()));
+            BatchConversion.printSummary(this.outStream, results, System.nanoTime() - start);
+            printImportCacheStats();
+            if (results.stream().anyMatch(result -> result.status() == BatchConversion.Status.FAILED)) {
+                exitOnError();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            this.outStream.println(e.getMessage());
+            exitOnError();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exitOnError();
+        }
+    }
+
+    private OverwritePolicy getOverwritePolicy(OverwritePolicy defaultPolicy) {
+        return this.overwrite == null ? defaultPolicy : OverwritePolicy.fromOption(this.overwrite);
+    }
+
+    static Path getModulePath(String moduleName) {
+        Path modulePath = Paths.get(moduleName);
+        if (!Objects.equals(moduleName, EMPTY_STRING)) {
+            modulePath = getModulePath(Paths.get("").toAbsolutePath(), moduleName);
         }
         return modulePath;
     }
 
+    static Path getModulePath(Path projectDirectory, String moduleName) {
+        if (Objects.equals(moduleName, EMPTY_STRING)) {
+            return projectDirectory;
+        }
+        return projectDirectory.resolve("modules").resolve(moduleName).normalize();
+    }
+
     private boolean isValidBallerinaProject() {
         Path currentDir = Paths.get("").toAbsolutePath();
         if (!ProjectUtils.isBallerinaProject(currentDir)) {
@@ -194,27 +365,256 @@ public class WsdlCmd implements BLauncherCmd {
         exitOnError();
     }
 
-    private void writeSourceToFiles(GeneratedSource response) throws IOException {
+    private void printImportCacheStats() {
+        if (this.importCache == null || this.importCache.getHits() + this.importCache.getMisses() == 0) {
+            return;
+        }
+        this.outStream.printf("Imported documents: %d served from the cache, %d retrieved%n",
+                              this.importCache.getHits(), this.importCache.getMisses());
+    }
+
+    private void executeCacheCommand() {
+        ResultCache cache = getResultCache();
+        try {
+            if (this.clearCache) {
+                this.outStream.printf("Removed %d cached generation(s) from %s%n", cache.clear(),
+                                      cache.getDirectory());
+                Path manifestDirectory = FormattingCache.defaultDirectory();
+                this.outStream.printf("Removed %d formatting manifest(s) from %s%n",
+                                      FormattingCache.clear(manifestDirectory), manifestDirectory);
+                return;
+            }
+            List<ResultCache.Entry> entries = cache.entries();
+            long totalSize = entries.stream().mapToLong(ResultCache.Entry::size).sum();
+            this.outStream.printf("%s: %d cached generation(s), %d of %d KB%n", cache.getDirectory(),
+                                  entries.size(), totalSize / 1024, cache.getMaxSize() / 1024);
+            entries.forEach(entry -> this.outStream.printf("  %s %10d B  last used %s%n", entry.fingerprint(),
+                                                           entry.size(), entry.lastUsed()));
+        } catch (IOException e) {
+            this.outStream.println("Error reading the generation cache: " + e.getMessage());
+            exitOnError();
+        }
+    }
+
+    private void executeList() {
+        if (this.inputPath == null || this.inputPath.isEmpty()) {
+            this.outStream.println("A WSDL file path is required to list the operations.");
+            this.outStream.println("e.g: bal wsdl <wsdl-file> --list");
+            exitOnError();
+            return;
+        }
+        if (!listPorts(this.inputPath.get(0), this.portName, this.listJson, getImportResolver(), System.out,
+                       this.outStream)) {
+            exitOnError();
+        }
+    }
+
+    /**
+     * Prints the ports and operations of a WSDL file or snapshot, or the reason they could not be listed.
+     *
+     * @param inputFile      the WSDL file or snapshot
+     * @param portName       the port to list, or an empty string to list every port
+     * @param json           whether to print the ports and operations as a JSON document
+     * @param importResolver resolves the documents imported by the WSDL file
+     * @param listStream     the stream the ports and operations are printed to
+     * @param outStream      the stream errors are printed to
+     * @return {@code false} if the file could not be read or has no port of the given name
+     */
+    static boolean listPorts(String inputFile, String portName, boolean json, ImportResolver importResolver,
+                             PrintStream listStream, PrintStream outStream) {
+        try {
+            Path wsdlFilePath = Paths.get(new File(inputFile).getCanonicalPath());
+            WsdlIndex wsdlIndex = WsdlSnapshot.isSnapshot(wsdlFilePath)
+                    ? WsdlIndex.of(WsdlSnapshot.read(wsdlFilePath).getWsdlModel())
+                    : WsdlIndex.read(WsdlParser.parse(wsdlFilePath, outStream::println, importResolver));
+            WsdlIndex selectedIndex = wsdlIndex.selectPort(portName);
+            if (selectedIndex == null) {
+                outStream.println("Port not found: " + portName);
+                return false;
+            }
+            if (json) {
+                listStream.println(selectedIndex.toJson());
+            } else {
+                printIndex(selectedIndex, listStream);
+            }
+            return true;
+        } catch (WSDLException e) {
+            DiagnosticMessage message = DiagnosticMessage.wsdlToBallerinaParserError(e, null);
+            outStream.println(message.getSeverity() + COLON + WHITESPACE + message.getDescription());
+            return false;
+        } catch (IOException | RuntimeException e) {
+            outStream.println(e.getMessage());
+            return false;
+        }
+    }
+
+    private static void printIndex(WsdlIndex wsdlIndex, PrintStream printStream) {
+        for (WsdlIndex.Port port : wsdlIndex.ports()) {
+            printStream.printf("%s (%s, binding %s) %s%n", port.name(), port.soapVersion(),
+                               port.binding() == null ? "-" : port.binding().getLocalPart(), port.serviceUrl());
+            if (port.error() != null) {
+                printStream.println("  Error: " + port.error());
+            }
+            for (WsdlIndex.Operation operation : port.operations()) {
+                printStream.println("  " + operation.name());
+                printStream.println("    SOAP action: " + Objects.requireNonNullElse(operation.soapAction(), "-"));
+                printStream.println("    Input:       " + describeMessage(operation.input()));
+                printStream.println("    Output:      " + describeMessage(operation.output()));
+                for (WsdlIndex.SoapHeader header : operation.headers()) {
+                    printStream.println("    Header:      " + header.part() + " "
+                                        + Objects.requireNonNullElse(header.element(), "-"));
+                }
+            }
+        }
+    }
+
+    private static String describeMessage(WsdlModel.Message message) {
+        if (message == null) {
+            return "-";
+        }
+        StringBuilder description = new StringBuilder(message.name().getLocalPart());
+        for (WsdlModel.Part part : message.parts()) {
+            description.append(' ').append(part.name()).append('=')
+                    .append(part.elementName() != null ? part.elementName() : part.typeName());
+        }
+        return description.toString();
+    }
+
+    private void executeDaemon() {
+        WsdlDaemon wsdlDaemon = new WsdlDaemon(getGenerationOptions(), getImportResolver(), this.outStream);
+        try {
+            if (this.socketPath != null) {
+                wsdlDaemon.serve(Paths.get(this.socketPath));
+            } else {
+                wsdlDaemon.serve(System.in, System.out);
+            }
+        } catch (IOException e) {
+            this.outStream.println("Error serving conversion requests: " + e.getMessage());
+            exitOnError();
+        }
+    }
+
+    private void reportMetrics(ConversionMetrics metrics) throws IOException {
+        if (this.timings) {
+            this.outStream.printf("%-40s %12s %12s %14s%n", "Phase", "Wall (ms)", "CPU (ms)", "Allocated (KB)");
+            metrics.getPhases().forEach((phase, timing) -> printTiming(phase, timing));
+            metrics.getOperations().forEach((operation, timing) -> printTiming("  " + operation, timing));
+            metrics.getCounters().forEach((counter, value) -> this.outStream.printf("%-40s %12d%n", counter, value));
+        }
+        if (this.timingsJson != null) {
+            Files.writeString(Paths.get(this.timingsJson), metrics.toJson(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void printTiming(String name, ConversionMetrics.Timing timing) {
+        this.outStream.printf("%-40s %12.2f %12.2f %14d%n", name, timing.wallNanos() / 1e6, timing.cpuNanos() / 1e6,
+                              timing.allocatedBytes() / 1024);
+    }
+
+    private synchronized ImportResolver getImportResolver() {
+        if (this.importCache != null) {
+            return this.importCache;
+        }
+        ImportResolver importResolver = ImportResolver.direct(this.offline);
+        if (this.catalogs.length > 0) {
+            List<Path> catalogFiles = Stream.of(this.catalogs).map(catalog -> Paths.get(catalog.trim())).toList();
+            importResolver = new CatalogImportResolver(catalogFiles, importResolver);
+        }
+        this.importCache = new ImportCache(ImportCache.defaultDirectory(), importResolver,
+                                           this.refreshImports ? Duration.ZERO : ImportCache.DEFAULT_MAX_AGE);
+        return this.importCache;
+    }
+
+    /**
+     * Returns the generation options of the command. The parallel options do not change the generated sources, so
+     * they are always enabled. Parallel formatting formats large modules in chunks, and fills an empty formatting
+     * manifest member by member on the first generation into a module. Parallel type and client generation only
+     * take effect for WSDL files with several independent schemas or several ports.
+     */
+    private GenerationOptions getGenerationOptions() {
+        return new GenerationOptions.Builder().setFastFormatting(this.fastFormat).setParallelFormatting(true)
+                .setParallelTypeGeneration(true).setParallelClientGeneration(true).build();
+    }
+
+    private synchronized ResultCache getResultCache() {
+        if (this.resultCache == null) {
+            this.resultCache = new ResultCache(ResultCache.defaultDirectory(), ResultCache.DEFAULT_MAX_SIZE);
+        }
+        return this.resultCache;
+    }
+
+    private void storeResult(String fingerprint, Map<String, String> imports, WsdlToBallerinaResponse response) {
+        try {
+            getResultCache().put(fingerprint, imports, response);
+        } catch (IOException e) {
+            this.outStream.println("WARNING: Could not store the generated sources in the cache: " + e.getMessage());
+        }
+    }
+
+    private void storeManifest(FormattingCache formattingCache, Path manifestFile) {
+        try {
+            formattingCache.save(manifestFile);
+        } catch (IOException e) {
+            this.outStream.println("WARNING: Could not store the generation manifest: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a generated source, asking or skipping as the overwrite policy says if the file exists.
+     *
+     * @return whether the file holds the generated source afterwards
+     */
+    private boolean writeSourceToFiles(GeneratedSource response, OverwritePolicy overwritePolicy)
+            throws IOException {
         Path clientPath = Paths.get(response.fileName());
         String fileName = clientPath.getFileName().toString();
-        if (Files.exists(clientPath)) {
-            this.outStream.printf(FILE_OVERWRITE_PROMPT, clientPath.getFileName().toString());
-            String overwriteAccess = new Scanner(System.in).nextLine().trim().toLowerCase();
-            if (overwriteAccess.equals("y")) {
-                generateFile(response, clientPath, fileName);
-            } else {
+        switch (writeSource(response, sourcePath -> confirmOverwrite(sourcePath, overwritePolicy))) {
+            case UNCHANGED -> {
+                this.outStream.printf("The '%s' file is unchanged %n", fileName);
+                return true;
+            }
+            case WRITTEN -> {
+                this.outStream.printf("The '%s' file is written to '%s' %n", fileName, getModuleName(clientPath));
+                return true;
+            }
+            default -> {
                 this.outStream.printf("The operation is cancelled %n");
+                return false;
             }
-        } else {
-            generateFile(response, clientPath, fileName);
         }
     }
 
-    private void generateFile(GeneratedSource response, Path clientPath, String fileName) throws IOException {
-        String content = addAutoGeneratedMessage(response.content());
-        Files.writeString(clientPath, content);
-        String outputModule = getModuleName(clientPath);
-        this.outStream.printf("The '%s' file is written to '%s' %n", fileName, outputModule);
+    private boolean confirmOverwrite(Path sourcePath, OverwritePolicy overwritePolicy) {
+        if (overwritePolicy == OverwritePolicy.PROMPT) {
+            this.outStream.printf(FILE_OVERWRITE_PROMPT, sourcePath.getFileName().toString());
+            return new Scanner(System.in).nextLine().trim().toLowerCase().equals("y");
+        }
+        return overwritePolicy == OverwritePolicy.OVERWRITE;
+    }
+
+    /**
+     * Writes a generated source into its file, headed by the auto-generated message. A file that already holds the
+     * same content is left untouched, which keeps it up to date in the Ballerina build cache, and a file with other
+     * content is only overwritten if the given predicate allows it.
+     *
+     * @param source    the generated source
+     * @param overwrite decides whether an existing file with other content is overwritten
+     * @return what was done with the file
+     * @throws IOException if the file cannot be read or written
+     */
+    static SourceWrite writeSource(GeneratedSource source, Predicate<Path> overwrite) throws IOException {
+        Path sourcePath = Paths.get(source.fileName());
+        String content = addAutoGeneratedMessage(source.content());
+        if (Files.exists(sourcePath)) {
+            if (Files.readString(sourcePath).equals(content)) {
+                return SourceWrite.UNCHANGED;
+            }
+            if (!overwrite.test(sourcePath)) {
+                return SourceWrite.KEPT;
+            }
+        }
+        Files.writeString(sourcePath, content);
+        return SourceWrite.WRITTEN;
     }
 
     private static String getModuleName(Path clientPath) {
@@ -234,7 +634,7 @@ public class WsdlCmd implements BLauncherCmd {
         return outputModule;
     }
 
-    private String addAutoGeneratedMessage(String content) {
+    static String addAutoGeneratedMessage(String content) {
         return AUTO_GENERATED_MESSAGE + "\n\n" + content;
     }
 
@@ -281,17 +681,89 @@ public class WsdlCmd implements BLauncherCmd {
      */
     public WsdlToBallerinaResponse wsdlToBallerina(String fileName, String outputDirectory,
                                                    String[] operations) throws WSDLException {
+        return wsdlToBallerina(fileName, outputDirectory, operations, this.portName);
+    }
+
+    /**
+     * Converts a WSDL file into Ballerina source files for the specified port and operations.
+     *
+     * @param fileName   the path to the WSDL file
+     * @param operations a list of operation names to be generated
+     * @param portName   the port to generate a client for, or an empty string for all the ports
+     * @throws WSDLException if generating content from the source fails
+     */
+    public WsdlToBallerinaResponse wsdlToBallerina(String fileName, String outputDirectory, String[] operations,
+                                                   String portName) throws WSDLException {
+        return wsdlToBallerina(fileName, outputDirectory, operations, portName, getImportResolver());
+    }
+
+    private WsdlToBallerinaResponse wsdlToBallerina(String fileName, String outputDirectory, String[] operations,
+                                                    String portName, ImportResolver importResolver)
+            throws WSDLException {
         DiagnosticMessage message;
         WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
         List<DiagnosticMessage> diagnosticMessages = new ArrayList<>();
         try {
             File wsdlFile = new File(fileName);
             Path wsdlFilePath = Paths.get(wsdlFile.getCanonicalPath());
-            String fileContent = Files.readString(wsdlFilePath);
-            WsdlToBallerina wsdlToBallerina = new WsdlToBallerina();
-            Definition wsdlDefinition = parseWSDLContent(fileContent);
-            wsdlToBallerina.generateFromWSDL(response, wsdlDefinition, 
-                                             outputDirectory, diagnosticMessages, operations, this.portName);
+            GenerationOptions options = getGenerationOptions();
+            String fingerprint = null;
+            ResultCache.RecordingImportResolver recordingImportResolver = null;
+            ImportResolver parserImportResolver = importResolver;
+            if (this.cacheResults) {
+                fingerprint = ResultCache.fingerprint(wsdlFilePath, outputDirectory, operations, portName, options);
+                // A cached response has no snapshot to write
+                Optional<WsdlToBallerinaResponse> cachedResponse = this.snapshotFile == null
+                        ? getResultCache().get(fingerprint, importResolver) : Optional.empty();
+                if (cachedResponse.isPresent()) {
+                    cachedResponse.get().getMetrics().increment(ConversionMetrics.RESULT_CACHE_HITS);
+                    return cachedResponse.get();
+                }
+                response.getMetrics().increment(ConversionMetrics.RESULT_CACHE_MISSES);
+                recordingImportResolver = ResultCache.recording(importResolver);
+                parserImportResolver = recordingImportResolver;
+            }
+            Path manifestFile = FormattingCache.manifestFile(FormattingCache.defaultDirectory(),
+                                                             Paths.get(outputDirectory));
+            FormattingCache formattingCache = this.cacheResults ? FormattingCache.load(manifestFile) : null;
+            WsdlToBallerina wsdlToBallerina = new WsdlToBallerina(options, formattingCache, parserImportResolver);
+            Path snapshotPath = this.snapshotFile == null || this.batchInput != null
+                    ? null : Paths.get(this.snapshotFile);
+            if (WsdlSnapshot.isSnapshot(wsdlFilePath)) {
+                WsdlSnapshot wsdlSnapshot;
+                try (ConversionMetrics.Timer ignored = response.getMetrics()
+                        .startPhase(ConversionMetrics.PARSE_PHASE)) {
+                    wsdlSnapshot = WsdlSnapshot.read(wsdlFilePath);
+                }
+                if (snapshotPath != null) {
+                    wsdlSnapshot.write(snapshotPath);
+                }
+                wsdlToBallerina.generateFromSnapshot(response, wsdlSnapshot,
+                                                     outputDirectory, diagnosticMessages, operations, portName);
+            } else {
+                // Only the reference holds the parsed definition, so that it can be released during the conversion
+                AtomicReference<Definition> wsdlDefinition = new AtomicReference<>();
+                try (ConversionMetrics.Timer ignored = response.getMetrics()
+                        .startPhase(ConversionMetrics.PARSE_PHASE)) {
+                    wsdlDefinition.set(WsdlParser.parse(wsdlFilePath, this.outStream::println,
+                                                        parserImportResolver));
+                }
+                if (snapshotPath != null) {
+                    WsdlSnapshot.of(wsdlDefinition.get(), parserImportResolver).write(snapshotPath);
+                }
+                wsdlToBallerina.generateFromWSDL(response, wsdlDefinition,
+                                                 outputDirectory, diagnosticMessages, operations, portName);
+            }
+            if (recordingImportResolver != null) {
+                storeResult(fingerprint, recordingImportResolver.getImports(), response);
+            }
+            if (formattingCache != null) {
+                response.getMetrics().add(ConversionMetrics.FORMATTING_CACHE_HITS, formattingCache.getHits());
+                response.getMetrics().add(ConversionMetrics.FORMATTING_CACHE_MISSES, formattingCache.getMisses());
+                if (response.getDiagnostics().isEmpty()) {
+                    storeManifest(formattingCache, manifestFile);
+                }
+            }
             return response;
         } catch (IOException e) {
             message = DiagnosticMessage.wsdlToBallerinaIOError(e, null);
@@ -304,27 +776,18 @@ public class WsdlCmd implements BLauncherCmd {
         return DiagnosticUtils.getDiagnosticResponse(diagnosticMessages, response);
     }
 
-    private Definition parseWSDLContent(String wsdlDefinitionText) throws WSDLException {
-        PrintStream originalErr = System.err;
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        PrintStream printStream = new PrintStream(outputStream);
-        System.setErr(printStream);
-
-        WSDLReader reader = WSDLFactory.newInstance().newWSDLReader();
-        reader.setFeature("javax.wsdl.verbose", false);
-        reader.setFeature("javax.wsdl.importDocuments", true);
-        System.setProperty("org.apache.commons.logging.Log", "org.apache.commons.logging.impl.NoOpLog");
-        InputStream wsdlStream = new ByteArrayInputStream(wsdlDefinitionText.getBytes(Charset.defaultCharset()));
-        try {
-            return reader.readWSDL(null, new InputSource(wsdlStream));
-        } finally {
-            System.setErr(originalErr);
-        }
-    }
-
     private void exitOnError() {
         if (this.exitWhenFinish) {
             Runtime.getRuntime().exit(1);
         }
     }
+
+    /**
+     * What was done with the file of a generated source.
+     */
+    enum SourceWrite {
+        WRITTEN,
+        UNCHANGED,
+        KEPT
+    }
 }
@@ -0,0 +1,396 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.cli;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.ballerina.wsdl.core.GenerationOptions;
+import io.ballerina.wsdl.core.WsdlToBallerina;
+import io.ballerina.wsdl.core.WsdlToBallerinaResponse;
+import io.ballerina.wsdl.core.cache.ImportCache;
+import io.ballerina.wsdl.core.diagnostic.DiagnosticMessage;
+import io.ballerina.wsdl.core.diagnostic.DiagnosticUtils;
+import io.ballerina.wsdl.core.diagnostic.WsdlToBallerinaDiagnostic;
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.xml.sax.InputSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+
+/**
+ * Serves WSDL to Ballerina conversions to long-running clients such as IDE plugins, so that the JVM, the Ballerina
+ * parser and the formatter are loaded once instead of once per conversion. Requests and responses are JSON-RPC 2.0
+ * messages, one per line, read from the standard input or from the connections of a Unix domain socket.
+ * <p>
+ * The {@code convert} method takes the {@code wsdlPath} of a WSDL file, or its {@code wsdlContent} and an optional
+ * {@code baseUri} to resolve its imports against, along with optional {@code operations}, {@code port} and
+ * {@code module} parameters. It returns the generated {@code sources}, each with a {@code fileName} relative to the
+ * project and its {@code content}, and the {@code diagnostics} of the conversion. Nothing is written to disk. The
+ * {@code shutdown} method stops the daemon. A request without an {@code id} is a notification, which is handled
+ * without a response.
+ * <p>
+ * The most recently used parsed definitions are kept, keyed by the path, size and modification time of a WSDL file
+ * or by the hash of a WSDL content. A change to an imported document alone does not invalidate a cached definition.
+ *
+ * @since 0.1.0
+ */
+public class WsdlDaemon {
+    public static final String CONVERT_METHOD = "convert";
+    public static final String SHUTDOWN_METHOD = "shutdown";
+
+    private static final String JSON_RPC_VERSION = "2.0";
+    private static final int PARSE_ERROR = -32700;
+    private static final int INVALID_REQUEST = -32600;
+    private static final int METHOD_NOT_FOUND = -32601;
+    private static final int INVALID_PARAMS = -32602;
+    private static final int INTERNAL_ERROR = -32603;
+    private static final int MAX_CACHED_DEFINITIONS = 16;
+    private static final String MODULES_DIR = "modules";
+
+    private final WsdlToBallerina wsdlToBallerina;
+    private final ImportResolver importResolver;
+    private final PrintStream logStream;
+    private final Map<String, Definition> definitions = new LinkedHashMap<>(MAX_CACHED_DEFINITIONS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Definition> eldest) {
+            return size() > MAX_CACHED_DEFINITIONS;
+        }
+    };
+    private volatile boolean running = true;
+
+    public WsdlDaemon(GenerationOptions options, ImportResolver importResolver, PrintStream logStream) {
+        this.wsdlToBallerina = new WsdlToBallerina(options, null, importResolver);
+        this.importResolver = importResolver;
+        this.logStream = logStream;
+    }
+
+    /**
+     * Starts a daemon that serves requests on the standard input and output, with the default options.
+     *
+     * @param args unused
+     */
+    public static void main(String[] args) throws IOException {
+        ImportResolver importResolver = new ImportCache(ImportCache.defaultDirectory(), ImportResolver.direct(false));
+        new WsdlDaemon(GenerationOptions.defaults(), importResolver, System.err).serve(System.in, System.out);
+    }
+
+    /**
+     * Serves the requests read from a stream until the stream ends or a shutdown is requested.
+     *
+     * @param in  the stream to read requests from
+     * @param out the stream to write responses to
+     */
+    public void serve(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        String line;
+        while (running && (line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String response = handle(line);
+            if (response == null) {
+                continue;
+            }
+            writer.write(response);
+            writer.write('\n');
+            writer.flush();
+        }
+    }
+
+    /**
+     * Serves the connections of a Unix domain socket until a shutdown is requested. Every connection is served on
+     * its own thread.
+     *
+     * @param socketPath the path of the socket file, which is removed when the daemon stops
+     */
+    public void serve(Path socketPath) throws IOException {
+        Files.deleteIfExists(socketPath);
+        ExecutorService executorService = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "wsdl-daemon-connection");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (ServerSocketChannel serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            serverChannel.bind(UnixDomainSocketAddress.of(socketPath));
+            logStream.println("Serving WSDL conversions on " + socketPath);
+            while (running) {
+                SocketChannel channel = serverChannel.accept();
+                executorService.execute(() -> {
+                    try (channel) {
+                        serve(Channels.newInputStream(channel), Channels.newOutputStream(channel));
+                        if (!running) {
+                            serverChannel.close();
+                        }
+                    } catch (IOException e) {
+                        logStream.println("Connection closed: " + e.getMessage());
+                    }
+                });
+            }
+        } catch (IOException e) {
+            if (running) {
+                throw e;
+            }
+        } finally {
+            executorService.shutdownNow();
+            Files.deleteIfExists(socketPath);
+        }
+    }
+
+    /**
+     * Handles a single JSON-RPC request. A request that cannot be parsed is answered with a {@code null} id, while
+     * a notification, which has no id, is never answered.
+     *
+     * @param request the request
+     * @return the response, or {@code null} for a notification
+     */
+    public String handle(String request) {
+        JsonObject message;
+        try {
+            JsonElement element = JsonParser.parseString(request);
+            if (!element.isJsonObject()) {
+                return error(JsonNull.INSTANCE, INVALID_REQUEST, "The request must be a JSON object");
+            }
+            message = element.getAsJsonObject();
+        } catch (JsonParseException e) {
+            return error(JsonNull.INSTANCE, PARSE_ERROR, "Invalid JSON: " + e.getMessage());
+        }
+        boolean notification = !message.has("id");
+        JsonElement id = notification ? JsonNull.INSTANCE : message.get("id");
+        String response;
+        if (!message.has("method") || !message.get("method").isJsonPrimitive()) {
+            response = error(id, INVALID_REQUEST, "The request has no method");
+        } else {
+            response = dispatch(id, message.get("method").getAsString(), message.get("params"));
+        }
+        return notification ? null : response;
+    }
+
+    private String dispatch(JsonElement id, String method, JsonElement params) {
+        try {
+            return switch (method) {
+                case CONVERT_METHOD -> result(id, convert(getParams(params)));
+                case SHUTDOWN_METHOD -> {
+                    running = false;
+                    yield result(id, JsonNull.INSTANCE);
+                }
+                default -> error(id, METHOD_NOT_FOUND, "Unknown method: " + method);
+            };
+        } catch (IllegalArgumentException e) {
+            return error(id, INVALID_PARAMS, e.getMessage());
+        } catch (RuntimeException e) {
+            return error(id, INTERNAL_ERROR, String.valueOf(e.getMessage()));
+        }
+    }
+
+    private static JsonObject getParams(JsonElement params) {
+        if (params == null || params.isJsonNull()) {
+            return new JsonObject();
+        }
+        if (!params.isJsonObject()) {
+            throw new IllegalArgumentException("'params' must be an object");
+        }
+        return params.getAsJsonObject();
+    }
+
+    private JsonObject convert(JsonObject params) {
+        long start = System.nanoTime();
+        String moduleName = getString(params, "module");
+        String outputDirectory = moduleName.isEmpty() ? "" : MODULES_DIR + "/" + moduleName;
+        String[] operations = getStrings(params, "operations");
+        String portName = getString(params, "port");
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        List<DiagnosticMessage> diagnosticMessages = new ArrayList<>();
+        boolean cached = false;
+        try {
+            String key = getCacheKey(params);
+            Definition wsdlDefinition;
+            synchronized (definitions) {
+                wsdlDefinition = definitions.get(key);
+            }
+            cached = wsdlDefinition != null;
+            if (!cached) {
+                wsdlDefinition = parse(params);
+                synchronized (definitions) {
+                    definitions.put(key, wsdlDefinition);
+                }
+            }
+            // A parsed definition is backed by a DOM tree that is not safe for concurrent reads
+            synchronized (wsdlDefinition) {
+                wsdlToBallerina.generateFromWSDL(response, wsdlDefinition, outputDirectory, diagnosticMessages,
+                                                 operations, portName);
+            }
+        } catch (IOException e) {
+            diagnosticMessages.add(DiagnosticMessage.wsdlToBallerinaIOError(e, null));
+            DiagnosticUtils.getDiagnosticResponse(diagnosticMessages, response);
+        } catch (WSDLException e) {
+            diagnosticMessages.add(DiagnosticMessage.wsdlToBallerinaParserError(e, null));
+            DiagnosticUtils.getDiagnosticResponse(diagnosticMessages, response);
+        }
+
+        JsonArray sources = new JsonArray();
+        if (response.getDiagnostics().isEmpty()) {
+            if (response.getTypesSource() != null) {
+                sources.add(toJson(response.getTypesSource()));
+            }
+            response.getClientSources().forEach(source -> sources.add(toJson(source)));
+        }
+        JsonArray diagnostics = new JsonArray();
+        for (WsdlToBallerinaDiagnostic diagnostic : response.getDiagnostics()) {
+            JsonObject diagnosticObject = new JsonObject();
+            diagnosticObject.addProperty("severity", String.valueOf(diagnostic.getSeverity()));
+            diagnosticObject.addProperty("message", diagnostic.message());
+            diagnostics.add(diagnosticObject);
+        }
+        JsonObject result = new JsonObject();
+        result.add("sources", sources);
+        result.add("diagnostics", diagnostics);
+        result.addProperty("cached", cached);
+        result.addProperty("timeMillis", (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    private Definition parse(JsonObject params) throws IOException, WSDLException {
+        if (params.has("wsdlContent")) {
+            InputSource inputSource = new InputSource(new StringReader(getString(params, "wsdlContent")));
+            String baseUri = getString(params, "baseUri");
+            if (!baseUri.isEmpty()) {
+                inputSource.setSystemId(baseUri);
+            }
+            return WsdlParser.parse(inputSource, logStream::println, importResolver);
+        }
+        return WsdlParser.parse(getWsdlPath(params), logStream::println, importResolver);
+    }
+
+    private static String getCacheKey(JsonObject params) throws IOException {
+        if (params.has("wsdlContent")) {
+            return "content:" + getString(params, "baseUri") + ":" + sha256(getString(params, "wsdlContent"));
+        }
+        Path wsdlPath = getWsdlPath(params);
+        BasicFileAttributes attributes = Files.readAttributes(wsdlPath, BasicFileAttributes.class);
+        return "file:" + wsdlPath + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+    }
+
+    private static Path getWsdlPath(JsonObject params) throws IOException {
+        String wsdlPath = getString(params, "wsdlPath");
+        if (wsdlPath.isEmpty()) {
+            throw new IllegalArgumentException("Either 'wsdlPath' or 'wsdlContent' is required");
+        }
+        return Paths.get(wsdlPath).toRealPath();
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String getString(JsonObject params, String name) {
+        JsonElement value = params.get(name);
+        if (value == null || value.isJsonNull()) {
+            return "";
+        }
+        if (!value.isJsonPrimitive()) {
+            throw new IllegalArgumentException("'" + name + "' must be a string");
+        }
+        return value.getAsString();
+    }
+
+    private static String[] getStrings(JsonObject params, String name) {
+        JsonElement value = params.get(name);
+        if (value == null || value.isJsonNull()) {
+            return new String[0];
+        }
+        if (!value.isJsonArray()) {
+            throw new IllegalArgumentException("'" + name + "' must be an array of strings");
+        }
+        List<String> values = new ArrayList<>();
+        for (JsonElement item : value.getAsJsonArray()) {
+            if (!item.isJsonPrimitive() || !item.getAsJsonPrimitive().isString()) {
+                throw new IllegalArgumentException("'" + name + "' must be an array of strings");
+            }
+            values.add(item.getAsString());
+        }
+        return values.toArray(new String[0]);
+    }
+
+    private static JsonObject toJson(GeneratedSource source) {
+        JsonObject sourceObject = new JsonObject();
+        sourceObject.addProperty("fileName", source.fileName());
+        sourceObject.addProperty("content", WsdlCmd.addAutoGeneratedMessage(source.content()));
+        return sourceObject;
+    }
+
+    private static String result(JsonElement id, JsonElement result) {
+        JsonObject response = new JsonObject();
+        response.addProperty("jsonrpc", JSON_RPC_VERSION);
+        response.add("id", id);
+        response.add("result", result);
+        return response.toString();
+    }
+
+    private static String error(JsonElement id, int code, String message) {
+        JsonObject error = new JsonObject();
+        error.addProperty("code", code);
+        error.addProperty("message", message);
+        JsonObject response = new JsonObject();
+        response.addProperty("jsonrpc", JSON_RPC_VERSION);
+        response.add("id", id);
+        response.add("error", error);
+        return response.toString();
+    }
+}
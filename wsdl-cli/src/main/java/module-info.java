@@ -28,6 +28,7 @@ module io.ballerina.wsdl.cli {
     requires io.ballerina.tools.api;
     requires io.ballerina.formatter.core;
     requires wsdl4j;
+    requires com.google.gson;
 
     exports io.ballerina.wsdl.cli;
 }
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.wsdl.core.handler.model.SoapVersion;
+import io.ballerina.wsdl.core.handler.model.WsdlOperation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Caches the operation model of the bindings of a WSDL definition, so that the operations of a binding shared by
+ * several ports are read only once per conversion. Operations of a binding that fail to load are not cached.
+ *
+ * @since 0.1.0
+ */
+class BindingOperationCache {
+    private final Map<BindingKey, Map<String, WsdlOperation>> bindingOperations = new HashMap<>();
+    private final ConversionMetrics metrics;
+
+    BindingOperationCache(ConversionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the operations of the binding of a port by their SOAP action, loading them on the first request for
+     * the binding and SOAP version.
+     *
+     * @param port   the port
+     * @param loader reads the operations of the binding of a port
+     * @return the unmodifiable operations of the binding
+     */
+    synchronized Map<String, WsdlOperation> getOperations(SoapPort port, OperationLoader loader) throws Exception {
+        BindingKey key = new BindingKey(port.binding(), port.soapVersion());
+        Map<String, WsdlOperation> operations = bindingOperations.get(key);
+        if (operations != null) {
+            metrics.increment(ConversionMetrics.BINDING_CACHE_HITS);
+            return operations;
+        }
+        metrics.increment(ConversionMetrics.BINDING_CACHE_MISSES);
+        operations = Collections.unmodifiableMap(loader.load(port));
+        bindingOperations.put(key, operations);
+        return operations;
+    }
+
+    /**
+     * Reads the operations of the binding of a port.
+     */
+    @FunctionalInterface
+    interface OperationLoader {
+        Map<String, WsdlOperation> load(SoapPort port) throws Exception;
+    }
+
+    private record BindingKey(QName bindingName, SoapVersion soapVersion) {
+    }
+}
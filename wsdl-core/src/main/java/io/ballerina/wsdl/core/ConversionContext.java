@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import java.util.List;
+
+/**
+ * Represents the state of a single WSDL to Ballerina conversion. A new context is created for every call to
+ * {@link WsdlToBallerina#generateFromWSDL}, so concurrent conversions never share mutable state.
+ *
+ * @param wsdlModel The compact model of the WSDL definition being converted
+ * @param soapPorts The SOAP ports for which clients are generated
+ * @param outputDirectory The directory the generated sources are written to
+ * @param metrics The metrics of the conversion
+ *
+ * @since 0.1.0
+ */
+record ConversionContext(WsdlModel wsdlModel, List<SoapPort> soapPorts, String outputDirectory,
+                         ConversionMetrics metrics) {
+
+    ConversionContext {
+        soapPorts = List.copyOf(soapPorts);
+    }
+
+    boolean hasMultiplePorts() {
+        return soapPorts.size() > 1;
+    }
+}
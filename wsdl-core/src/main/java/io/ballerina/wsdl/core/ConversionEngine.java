@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.wsdl.Definition;
+
+/**
+ * Runs WSDL to Ballerina conversions concurrently on a bounded pool of worker threads.
+ * Every conversion gets its own conversion context, so a single engine can be shared by any number of callers.
+ * A parsed WSDL definition is backed by a DOM tree that is not safe for concurrent reads, hence each submitted
+ * conversion must be given a definition of its own.
+ *
+ * @since 0.1.0
+ */
+public class ConversionEngine implements AutoCloseable {
+    private static final String WORKER_NAME_PREFIX = "wsdl-conversion-";
+
+    private final WsdlToBallerina wsdlToBallerina;
+    private final ExecutorService executorService;
+
+    public ConversionEngine(int parallelism) {
+        this(parallelism, GenerationOptions.defaults());
+    }
+
+    public ConversionEngine(int parallelism, GenerationOptions options) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be a positive number: " + parallelism);
+        }
+        this.wsdlToBallerina = new WsdlToBallerina(options);
+        this.executorService = Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory());
+    }
+
+    /**
+     * Schedules the conversion of a WSDL definition on the worker pool.
+     *
+     * @param wsdlDefinition  the parsed WSDL definition, which must not be shared with another running conversion
+     * @param outputDirectory the directory prefix of the generated source file names
+     * @param operations      the operation actions to generate, or an empty array for all the operations
+     * @param portName        the port to generate a client for, or an empty string for all the ports
+     * @return a future completed with the conversion response, including its diagnostics
+     */
+    public CompletableFuture<WsdlToBallerinaResponse> submit(Definition wsdlDefinition, String outputDirectory,
+                                                             String[] operations, String portName) {
+        return CompletableFuture.supplyAsync(() -> convert(wsdlDefinition, outputDirectory, operations, portName),
+                                             executorService);
+    }
+
+    /**
+     * Converts a WSDL definition on the calling thread.
+     *
+     * @param wsdlDefinition  the parsed WSDL definition
+     * @param outputDirectory the directory prefix of the generated source file names
+     * @param operations      the operation actions to generate, or an empty array for all the operations
+     * @param portName        the port to generate a client for, or an empty string for all the ports
+     * @return the conversion response, including its diagnostics
+     */
+    public WsdlToBallerinaResponse convert(Definition wsdlDefinition, String outputDirectory,
+                                           String[] operations, String portName) {
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        wsdlToBallerina.generateFromWSDL(response, wsdlDefinition, outputDirectory, new ArrayList<>(),
+                                         operations, portName);
+        return response;
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdown();
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, WORKER_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and phase timings recorded while converting a WSDL definition. Every conversion response has its own
+ * metrics, which are safe to update from the threads of a parallel conversion.
+ * <p>
+ * A phase records its wall time, the CPU time and the bytes allocated by the thread that ran it. A phase that runs
+ * on several threads, such as the client generation of a parallel conversion, adds up the figures of each thread,
+ * so its wall time can exceed the wall time of the whole conversion. The tasks a phase hands to the conversion
+ * pool, such as the schemas of parallel type generation and the chunks of parallel formatting, add their CPU time
+ * and allocated bytes to the phase that submitted them, while their wall time is already part of the wall time of
+ * that phase. The CPU time and the allocated bytes are zero if the JVM does not support measuring
+ * them.
+ *
+ * @since 0.1.0
+ */
+public class ConversionMetrics {
+    public static final String BINDING_CACHE_HITS = "bindingOperationCache.hits";
+    public static final String BINDING_CACHE_MISSES = "bindingOperationCache.misses";
+    public static final String RESULT_CACHE_HITS = "resultCache.hits";
+    public static final String RESULT_CACHE_MISSES = "resultCache.misses";
+    public static final String FORMATTING_CACHE_HITS = "formattingCache.hits";
+    public static final String FORMATTING_CACHE_MISSES = "formattingCache.misses";
+    public static final String SCHEMAS = "schemas";
+    public static final String RECORDS = "records";
+    public static final String OPERATIONS = "operations";
+    public static final String FORMATTED_CHARACTERS = "formattedCharacters";
+
+    public static final String PARSE_PHASE = "parse";
+    public static final String BINDING_PHASE = "bindings";
+    public static final String TYPES_PHASE = "types";
+    public static final String CLIENTS_PHASE = "clients";
+    public static final String FORMAT_PHASE = "format";
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final ThreadLocal<Totals> CURRENT_PHASE = new ThreadLocal<>();
+
+    private final Map<String, LongAdder> counters = new ConcurrentSkipListMap<>();
+    private final Map<String, Totals> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, Totals> operations = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Increments a counter, creating it on the first increment.
+     *
+     * @param counter the name of the counter
+     */
+    public void increment(String counter) {
+        add(counter, 1);
+    }
+
+    /**
+     * Adds a value to a counter, creating it on the first update.
+     *
+     * @param counter the name of the counter
+     * @param value   the value to add
+     */
+    public void add(String counter, long value) {
+        counters.computeIfAbsent(counter, name -> new LongAdder()).add(value);
+    }
+
+    /**
+     * Returns the current value of a counter.
+     *
+     * @param counter the name of the counter
+     * @return the value of the counter, or zero if it was never incremented
+     */
+    public long getCount(String counter) {
+        LongAdder adder = counters.get(counter);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Returns a snapshot of all the counters, sorted by name.
+     *
+     * @return the counter values by name
+     */
+    public Map<String, Long> getCounters() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        counters.forEach((name, adder) -> snapshot.put(name, adder.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Starts timing a phase of the conversion on the current thread. The time is recorded when the returned timer
+     * is closed, so the timer is meant to be used in a try-with-resources statement.
+     *
+     * @param phase the name of the phase
+     * @return the running timer
+     */
+    public Timer startPhase(String phase) {
+        return new Timer(phases.computeIfAbsent(phase, name -> new Totals()), true);
+    }
+
+    /**
+     * Starts timing the generation of an operation on the current thread.
+     *
+     * @param operation the name of the operation
+     * @return the running timer
+     */
+    public Timer startOperation(String operation) {
+        return new Timer(operations.computeIfAbsent(operation, name -> new Totals()), false);
+    }
+
+    /**
+     * Wraps a task that the phase running on the current thread hands to another thread, so that the CPU time and
+     * the bytes allocated by the task are added to the phase. The task is returned as is if no phase is running.
+     *
+     * @param task the task
+     * @param <T>  the result type of the task
+     * @return the task measuring its work
+     */
+    static <T> Callable<T> onWorker(Callable<T> task) {
+        Totals totals = CURRENT_PHASE.get();
+        Thread submitter = Thread.currentThread();
+        if (totals == null) {
+            return task;
+        }
+        return () -> {
+            // A task run by the submitting thread itself is already measured by the phase
+            if (Thread.currentThread() == submitter) {
+                return task.call();
+            }
+            Totals previous = CURRENT_PHASE.get();
+            CURRENT_PHASE.set(totals);
+            long startAllocated = currentThreadAllocatedBytes();
+            long startCpu = currentThreadCpuTime();
+            try {
+                return task.call();
+            } finally {
+                totals.cpuNanos.add(currentThreadCpuTime() - startCpu);
+                totals.allocatedBytes.add(currentThreadAllocatedBytes() - startAllocated);
+                CURRENT_PHASE.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Returns a snapshot of the phase timings, in the order the phases were first started.
+     *
+     * @return the timings by phase
+     */
+    public Map<String, Timing> getPhases() {
+        return snapshot(phases);
+    }
+
+    /**
+     * Returns a snapshot of the operation timings, in the order the operations were first generated.
+     *
+     * @return the timings by operation
+     */
+    public Map<String, Timing> getOperations() {
+        return snapshot(operations);
+    }
+
+    /**
+     * Serializes the counters and the timings into a JSON object with the {@code counters}, {@code phases} and
+     * {@code operations} fields.
+     *
+     * @return the JSON document
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\"counters\":{");
+        String separator = "";
+        for (Map.Entry<String, Long> counter : getCounters().entrySet()) {
+            json.append(separator).append(quote(counter.getKey())).append(':').append(counter.getValue());
+            separator = ",";
+        }
+        json.append("},\"phases\":");
+        appendTimings(json, getPhases());
+        json.append(",\"operations\":");
+        appendTimings(json, getOperations());
+        return json.append('}').toString();
+    }
+
+    private static void appendTimings(StringBuilder json, Map<String, Timing> timings) {
+        json.append('{');
+        String separator = "";
+        for (Map.Entry<String, Timing> entry : timings.entrySet()) {
+            Timing timing = entry.getValue();
+            json.append(separator).append(quote(entry.getKey()))
+                    .append(String.format(Locale.ROOT, ":{\"count\":%d,\"wallNanos\":%d,\"cpuNanos\":%d," +
+                            "\"allocatedBytes\":%d}", timing.count(), timing.wallNanos(), timing.cpuNanos(),
+                            timing.allocatedBytes()));
+            separator = ",";
+        }
+        json.append('}');
+    }
+
+    static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static Map<String, Timing> snapshot(Map<String, Totals> totals) {
+        Map<String, Timing> snapshot = new LinkedHashMap<>();
+        synchronized (totals) {
+            totals.forEach((name, total) -> snapshot.put(name, total.toTiming()));
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    private static long currentThreadCpuTime() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+                ? Math.max(0, THREAD_MX_BEAN.getCurrentThreadCpuTime()) : 0;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported()) {
+            return Math.max(0, threadMXBean.getCurrentThreadAllocatedBytes());
+        }
+        return 0;
+    }
+
+    /**
+     * The totals of a phase or an operation.
+     *
+     * @param count          the number of times it was timed
+     * @param wallNanos      the wall time, in nanoseconds
+     * @param cpuNanos       the CPU time, in nanoseconds
+     * @param allocatedBytes the bytes allocated on the heap
+     */
+    public record Timing(long count, long wallNanos, long cpuNanos, long allocatedBytes) {
+    }
+
+    /**
+     * A running timer of a phase or an operation.
+     */
+    public static final class Timer implements AutoCloseable {
+        private final Totals totals;
+        private final boolean phase;
+        private final Totals previousPhase;
+        private final long startWall;
+        private final long startCpu;
+        private final long startAllocated;
+
+        private Timer(Totals totals, boolean phase) {
+            this.totals = totals;
+            this.phase = phase;
+            this.previousPhase = CURRENT_PHASE.get();
+            if (phase) {
+                CURRENT_PHASE.set(totals);
+            }
+            this.startAllocated = currentThreadAllocatedBytes();
+            this.startCpu = currentThreadCpuTime();
+            this.startWall = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            long wall = System.nanoTime() - startWall;
+            totals.count.increment();
+            totals.wallNanos.add(wall);
+            totals.cpuNanos.add(currentThreadCpuTime() - startCpu);
+            totals.allocatedBytes.add(currentThreadAllocatedBytes() - startAllocated);
+            if (phase) {
+                CURRENT_PHASE.set(previousPhase);
+            }
+        }
+    }
+
+    private static final class Totals {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder wallNanos = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        private Timing toTiming() {
+            return new Timing(count.sum(), wallNanos.sum(), cpuNanos.sum(), allocatedBytes.sum());
+        }
+    }
+}
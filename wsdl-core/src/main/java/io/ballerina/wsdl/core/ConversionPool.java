@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The pool the parallel stages of the conversion run on: client generation, type generation and formatting.
+ *
+ * <p>The pool is kept apart from the common fork-join pool, so that conversions neither compete with nor wait for
+ * the other users of the common pool in the same process, such as the Ballerina compiler when the tool runs inside
+ * {@code bal}. Its parallelism is bounded by the number of processors. The stages nest, since a client generated on
+ * the pool formats its module on the pool too, and the workers wait on the futures of their subtasks. A fork-join
+ * pool rather than a fixed thread pool is used for that reason: a worker waiting on a task of its own pool runs
+ * queued tasks in the meantime, or has a spare worker started for it, so nested stages cannot exhaust the pool.
+ * The workers are daemon threads, so the pool never keeps the process alive.</p>
+ *
+ * @since 0.1.0
+ */
+final class ConversionPool {
+    private static final String THREAD_NAME_PREFIX = "wsdl-conversion-worker-";
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+            ConversionPool::newThread, null, false);
+
+    private ConversionPool() {}
+
+    static ForkJoinPool get() {
+        return POOL;
+    }
+
+    private static ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName(THREAD_NAME_PREFIX + THREAD_COUNT.incrementAndGet());
+        return thread;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.wsdl.core.handler.model.WsdlOperation;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.wsdl.Definition;
+import javax.wsdl.Types;
+
+import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.EMPTY_STRING;
+
+/**
+ * Runs the stages of a WSDL to Ballerina conversion one at a time, so that each stage can be measured on its own.
+ * The stages are the same ones {@link WsdlToBallerina#generateFromWSDL} runs, without the operation filtering
+ * and the diagnostics. The stages are internal to the converter, and only the pipeline benchmark and the tests
+ * run them.
+ *
+ * @since 0.1.0
+ */
+class ConversionStages {
+    private final Definition wsdlDefinition;
+    private final ConversionContext context;
+    private final GenerationOptions options;
+
+    ConversionStages(Definition wsdlDefinition, GenerationOptions options) {
+        ConversionMetrics metrics = new ConversionMetrics();
+        WsdlModel wsdlModel = WsdlModel.read(wsdlDefinition, metrics);
+        List<SoapPort> soapPorts = wsdlModel.ports().stream().map(WsdlModel.Port::soapPort).toList();
+        this.wsdlDefinition = wsdlDefinition;
+        this.context = new ConversionContext(wsdlModel, soapPorts, EMPTY_STRING, metrics);
+        this.options = options;
+    }
+
+    /**
+     * Generates the record types of all the schemas of the definition.
+     *
+     * @return the unformatted types module and the names the types were resolved to
+     */
+    TypesModule generateTypes() throws Exception {
+        Types types = wsdlDefinition.getTypes();
+        Objects.requireNonNull(types, "Could not find <wsdl:types> in the file");
+        TypesGenerator.GeneratedTypes generatedTypes = TypesGenerator.generate(
+                WsdlToBallerina.getSchemaElements(types), options.isParallelTypeGeneration());
+        return new TypesModule(generatedTypes.modulePartNode(), generatedTypes.resolvedNameMeta());
+    }
+
+    /**
+     * Reads the model of the definition, which holds the operations of the binding of every SOAP port.
+     *
+     * @return the operations of each port, in the order of the ports
+     */
+    Map<SoapPort, List<WsdlOperation>> getOperations() throws Exception {
+        Map<SoapPort, List<WsdlOperation>> portOperations = new LinkedHashMap<>();
+        for (WsdlModel.Port port : WsdlModel.read(wsdlDefinition, new ConversionMetrics()).ports()) {
+            if (port.error() != null) {
+                throw port.error();
+            }
+            portOperations.put(port.soapPort(), new ArrayList<>(port.operations().values()));
+        }
+        return portOperations;
+    }
+
+    /**
+     * Generates the unformatted client modules of the ports.
+     *
+     * @param portOperations   the operations to generate for each port
+     * @param resolvedNameMeta the names the types were resolved to
+     * @return the client modules, in the order of the ports
+     */
+    List<ModulePartNode> generateClientModules(Map<SoapPort, List<WsdlOperation>> portOperations,
+                                               Map<String, String> resolvedNameMeta) {
+        List<ModulePartNode> clientModules = new ArrayList<>();
+        for (Map.Entry<SoapPort, List<WsdlOperation>> entry : portOperations.entrySet()) {
+            clientModules.add(WsdlToBallerina.generateClientModule(context, new ArrayList<>(entry.getValue()),
+                    entry.getKey(), resolvedNameMeta));
+        }
+        return clientModules;
+    }
+
+    /**
+     * Formats a generated module with the formatting options of this conversion.
+     *
+     * @param modulePartNode the generated module
+     * @return the formatted source
+     */
+    String format(ModulePartNode modulePartNode) throws FormatterException {
+        return Utils.formatModuleParts(modulePartNode, options);
+    }
+
+    /**
+     * The unformatted types module of a definition.
+     *
+     * @param modulePartNode   the types module
+     * @param resolvedNameMeta the names the schema types were resolved to
+     */
+    record TypesModule(ModulePartNode modulePartNode, Map<String, String> resolvedNameMeta) {
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.wsdl.core.cache.ImportCache;
+import io.ballerina.wsdl.core.cache.ResultCache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * The formatted text of the members of the previously generated modules, so that regenerating from a slightly
+ * changed WSDL file only generates and formats the operations that changed.
+ * <p>
+ * The envelope records and the remote function of an operation are fingerprinted by the names and types they are
+ * generated from, which are read from the binding operation and its messages and headers. An operation with an
+ * unchanged fingerprint is not generated again, and the client class is assembled from the formatted text of its
+ * remote functions. The record types of the schemas are still generated from the schemas on every conversion, and
+ * only their formatting is reused: each record is fingerprinted by the hash of its unformatted source.
+ * <p>
+ * The fingerprints and formatted text of the members used by a conversion are stored in a manifest, along with the
+ * tool version, and a manifest written by another tool version is ignored. The manifest of an output directory is
+ * kept in the cache directory rather than next to the generated files, and is replaced atomically so that an
+ * interrupted conversion never leaves a truncated manifest.
+ *
+ * @since 0.1.0
+ */
+public class FormattingCache {
+    private static final int MAGIC = 0x57534D46;
+    private static final int FORMAT_VERSION = 1;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Map<String, String> previousMembers;
+    private final Map<String, Member> members = new LinkedHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    private FormattingCache(Map<String, String> previousMembers) {
+        this.previousMembers = previousMembers;
+    }
+
+    /**
+     * Returns the default location of the manifests, {@code wsdl/cache/formatting} under the Ballerina user home.
+     *
+     * @return the default manifest directory
+     */
+    public static Path defaultDirectory() {
+        return ImportCache.ballerinaUserHome().resolve("wsdl").resolve("cache").resolve("formatting");
+    }
+
+    /**
+     * Returns the manifest of the modules generated into an output directory.
+     *
+     * @param directory       the manifest directory
+     * @param outputDirectory the directory the sources are generated into
+     * @return the manifest file, named after the hash of the absolute output directory
+     */
+    public static Path manifestFile(Path directory, Path outputDirectory) {
+        return directory.resolve(hash(outputDirectory.toAbsolutePath().normalize().toString()));
+    }
+
+    /**
+     * Removes every manifest of a manifest directory.
+     *
+     * @param directory the manifest directory
+     * @return the number of removed manifests
+     */
+    public static int clear(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        int removed = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                if (Files.deleteIfExists(file)) {
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns a cache without any previously formatted member.
+     *
+     * @return the empty cache
+     */
+    public static FormattingCache empty() {
+        return new FormattingCache(Map.of());
+    }
+
+    /**
+     * Loads the members stored in a manifest. A missing or unreadable manifest, or one written by another tool
+     * version, gives an empty cache.
+     *
+     * @param manifestFile the manifest file
+     * @return the cache
+     */
+    public static FormattingCache load(Path manifestFile) {
+        if (!Files.isRegularFile(manifestFile)) {
+            return empty();
+        }
+        Map<String, String> previousMembers = new HashMap<>();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(manifestFile)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION
+                    || !ResultCache.toolVersion().equals(input.readUTF())) {
+                return empty();
+            }
+            int memberCount = input.readInt();
+            for (int i = 0; i < memberCount; i++) {
+                input.readUTF();
+                String fingerprint = input.readUTF();
+                byte[] formattedText = new byte[input.readInt()];
+                input.readFully(formattedText);
+                previousMembers.put(fingerprint, new String(formattedText, StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            return empty();
+        }
+        return new FormattingCache(previousMembers);
+    }
+
+    /**
+     * Writes the members formatted or reused since the cache was loaded to a manifest, replacing its content. The
+     * manifest is written to a temporary file that is then moved into place.
+     *
+     * @param manifestFile the manifest file
+     */
+    public void save(Path manifestFile) throws IOException {
+        Path directory = manifestFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, manifestFile.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(ResultCache.toolVersion());
+                synchronized (members) {
+                    output.writeInt(members.size());
+                    for (Map.Entry<String, Member> entry : members.entrySet()) {
+                        output.writeUTF(entry.getValue().memberName());
+                        output.writeUTF(entry.getKey());
+                        byte[] formattedText = entry.getValue().formattedText().getBytes(StandardCharsets.UTF_8);
+                        output.writeInt(formattedText.length);
+                        output.write(formattedText);
+                    }
+                }
+            }
+            Files.move(tempFile, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the number of members whose formatted text was reused.
+     *
+     * @return the cache hit count
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of members that had to be formatted.
+     *
+     * @return the cache miss count
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns whether the cache was loaded with any previously formatted member.
+     */
+    boolean isEmpty() {
+        return previousMembers.isEmpty();
+    }
+
+    /**
+     * Computes the fingerprint of a unit of a module, which holds a single member and, for the first member, the
+     * imports of the module.
+     */
+    static String fingerprint(ModulePartNode unit) {
+        return hash(unit.toSourceCode());
+    }
+
+    /**
+     * Computes the fingerprint of a member generated from the given values, such as the names and types the envelope
+     * records of an operation are generated from.
+     */
+    static String fingerprint(String kind, List<String> values) {
+        StringBuilder source = new StringBuilder(kind);
+        for (String value : values) {
+            source.append('\0').append(value);
+        }
+        return hash(source.toString());
+    }
+
+    /**
+     * Finds the previously formatted text of a unit.
+     *
+     * @return the formatted text, or {@code null} if the unit was not formatted by the previous conversion
+     */
+    String find(String fingerprint) {
+        return previousMembers.get(fingerprint);
+    }
+
+    /**
+     * Records the formatted text of a unit, to be stored in the manifest.
+     */
+    void add(String fingerprint, ModulePartNode unit, String formattedText) {
+        add(fingerprint, getMemberName(unit.members().get(0)), formattedText);
+    }
+
+    /**
+     * Records the formatted text of a member, such as the remote function of an operation, to be stored in the
+     * manifest.
+     */
+    void add(String fingerprint, String memberName, String formattedText) {
+        Member member = new Member(memberName, formattedText);
+        synchronized (members) {
+            members.putIfAbsent(fingerprint, member);
+        }
+    }
+
+    /**
+     * Counts the members whose formatted text was reused and the members that had to be formatted.
+     */
+    void count(int hitCount, int missCount) {
+        hits.addAndGet(hitCount);
+        misses.addAndGet(missCount);
+    }
+
+    private static String getMemberName(ModuleMemberDeclarationNode member) {
+        if (member instanceof TypeDefinitionNode typeDefinition) {
+            return typeDefinition.typeName().text();
+        }
+        if (member instanceof ClassDefinitionNode classDefinition) {
+            return classDefinition.className().text();
+        }
+        return member.kind().toString();
+    }
+
+    private static String hash(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported by this runtime", e);
+        }
+    }
+
+    private record Member(String memberName, String formattedText) {
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+/**
+ * Tuning options of the WSDL to Ballerina conversion. None of the options change the generated sources. The
+ * parallel options run on a fork-join pool of the converter, which is bounded by the number of processors and kept
+ * apart from the common fork-join pool.
+ *
+ * @since 0.1.0
+ */
+public class GenerationOptions {
+    private final boolean parallelTypeGeneration;
+    private final boolean fastFormatting;
+    private final boolean parallelFormatting;
+    private final boolean parallelClientGeneration;
+
+    private GenerationOptions(Builder builder) {
+        this.parallelTypeGeneration = builder.parallelTypeGeneration;
+        this.fastFormatting = builder.fastFormatting;
+        this.parallelFormatting = builder.parallelFormatting;
+        this.parallelClientGeneration = builder.parallelClientGeneration;
+    }
+
+    public static GenerationOptions defaults() {
+        return new Builder().build();
+    }
+
+    /**
+     * Whether the records of independent schemas are generated on separate threads of the conversion pool.
+     *
+     * @return true if parallel type generation is enabled
+     */
+    public boolean isParallelTypeGeneration() {
+        return parallelTypeGeneration;
+    }
+
+    /**
+     * Whether the generated modules are printed directly in the layout of the Ballerina formatter instead of
+     * being run through it. Modules with syntax the printer does not know are still formatted.
+     *
+     * @return true if fast formatting is enabled
+     */
+    public boolean isFastFormatting() {
+        return fastFormatting;
+    }
+
+    /**
+     * Whether large generated modules are formatted in chunks of members on separate threads of the conversion
+     * pool when they are run through the Ballerina formatter.
+     *
+     * @return true if parallel formatting is enabled
+     */
+    public boolean isParallelFormatting() {
+        return parallelFormatting;
+    }
+
+    /**
+     * Whether the clients of the ports of a service are generated on separate threads of the conversion pool.
+     * The client sources are still returned in the order of the ports.
+     *
+     * @return true if parallel client generation is enabled
+     */
+    public boolean isParallelClientGeneration() {
+        return parallelClientGeneration;
+    }
+
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public static class Builder {
+        private boolean parallelTypeGeneration;
+        private boolean fastFormatting;
+        private boolean parallelFormatting;
+        private boolean parallelClientGeneration;
+
+        public Builder() {
+        }
+
+        private Builder(GenerationOptions options) {
+            this.parallelTypeGeneration = options.parallelTypeGeneration;
+            this.fastFormatting = options.fastFormatting;
+            this.parallelFormatting = options.parallelFormatting;
+            this.parallelClientGeneration = options.parallelClientGeneration;
+        }
+
+        public Builder setParallelTypeGeneration(boolean parallelTypeGeneration) {
+            this.parallelTypeGeneration = parallelTypeGeneration;
+            return this;
+        }
+
+        public Builder setFastFormatting(boolean fastFormatting) {
+            this.fastFormatting = fastFormatting;
+            return this;
+        }
+
+        public Builder setParallelFormatting(boolean parallelFormatting) {
+            this.parallelFormatting = parallelFormatting;
+            return this;
+        }
+
+        public Builder setParallelClientGeneration(boolean parallelClientGeneration) {
+            this.parallelClientGeneration = parallelClientGeneration;
+            return this;
+        }
+
+        public GenerationOptions build() {
+            return new GenerationOptions(this);
+        }
+    }
+}
@@ -20,16 +20,29 @@ package io.ballerina.wsdl.core;
 
 import io.ballerina.wsdl.core.handler.model.SoapVersion;
 
-import javax.wsdl.Port;
+import javax.xml.namespace.QName;
+
+import static io.ballerina.wsdl.core.WsdlToBallerina.SOAP11_NAMESPACE;
+import static io.ballerina.wsdl.core.WsdlToBallerina.SOAP12_NAMESPACE;
 
 /**
  * Represents the context of a SOAP port.
  *
  * @param soapVersion The version of the SOAP port
- * @param soapPort The additional information of the SOAP port
+ * @param name The name of the SOAP port
+ * @param binding The name of the binding of the SOAP port
  * @param serviceUrl The address of the SOAP port
  *
  * @since 0.1.0
  */
-public record SoapPort(SoapVersion soapVersion, Port soapPort, String serviceUrl) {
+public record SoapPort(SoapVersion soapVersion, String name, QName binding, String serviceUrl) {
+
+    /**
+     * Returns the SOAP envelope namespace used by the messages of this port.
+     *
+     * @return The SOAP 1.2 envelope namespace for SOAP 1.2 ports, the SOAP 1.1 envelope namespace otherwise
+     */
+    public String soapNamespace() {
+        return soapVersion == SoapVersion.SOAP12 ? SOAP12_NAMESPACE : SOAP11_NAMESPACE;
+    }
 }
@@ -0,0 +1,283 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.compiler.syntax.tree.Minutiae;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.ballerina.wsdl.core.Utils.LINE_BREAK;
+
+/**
+ * Prints a generated module in the layout the Ballerina formatter gives it, in a single pass over its tokens.
+ *
+ * <p>The printer only knows the syntax the generator emits: imports, annotated type definitions, enums,
+ * constants and the client class. A module containing any other syntax, comments or documentation is not
+ * printed, and the caller falls back to the formatter.</p>
+ *
+ * @since 0.1.0
+ */
+final class SourcePrinter {
+    private static final String INDENTATION = "    ";
+    private static final Set<SyntaxKind> BLOCKS = EnumSet.of(SyntaxKind.RECORD_TYPE_DESC,
+            SyntaxKind.CLASS_DEFINITION, SyntaxKind.FUNCTION_BODY_BLOCK, SyntaxKind.ENUM_DECLARATION);
+    private static final Set<SyntaxKind> TEMPLATES = EnumSet.of(SyntaxKind.STRING_TEMPLATE_EXPRESSION,
+            SyntaxKind.REGEX_TEMPLATE_EXPRESSION);
+    private static final Set<SyntaxKind> CALLS = EnumSet.of(SyntaxKind.FUNCTION_SIGNATURE,
+            SyntaxKind.FUNCTION_CALL, SyntaxKind.REMOTE_METHOD_CALL_ACTION, SyntaxKind.METHOD_CALL);
+    private static final Set<SyntaxKind> SUPPORTED = EnumSet.of(
+            SyntaxKind.LIST, SyntaxKind.MODULE_PART, SyntaxKind.IMPORT_DECLARATION, SyntaxKind.IMPORT_ORG_NAME,
+            SyntaxKind.IMPORT_PREFIX, SyntaxKind.METADATA, SyntaxKind.ANNOTATION, SyntaxKind.TYPE_DEFINITION,
+            SyntaxKind.RECORD_TYPE_DESC, SyntaxKind.RECORD_FIELD, SyntaxKind.RECORD_FIELD_WITH_DEFAULT_VALUE,
+            SyntaxKind.RECORD_REST_TYPE, SyntaxKind.TYPE_REFERENCE, SyntaxKind.ENUM_DECLARATION,
+            SyntaxKind.ENUM_MEMBER, SyntaxKind.CONST_DECLARATION, SyntaxKind.CLASS_DEFINITION,
+            SyntaxKind.OBJECT_FIELD, SyntaxKind.OBJECT_METHOD_DEFINITION, SyntaxKind.FUNCTION_SIGNATURE,
+            SyntaxKind.REQUIRED_PARAM, SyntaxKind.DEFAULTABLE_PARAM, SyntaxKind.INCLUDED_RECORD_PARAM,
+            SyntaxKind.RETURN_TYPE_DESCRIPTOR, SyntaxKind.FUNCTION_BODY_BLOCK, SyntaxKind.ASSIGNMENT_STATEMENT,
+            SyntaxKind.LOCAL_VAR_DECL, SyntaxKind.RETURN_STATEMENT, SyntaxKind.TYPED_BINDING_PATTERN,
+            SyntaxKind.CAPTURE_BINDING_PATTERN, SyntaxKind.CHECK_EXPRESSION, SyntaxKind.CHECK_ACTION,
+            SyntaxKind.IMPLICIT_NEW_EXPRESSION, SyntaxKind.PARENTHESIZED_ARG_LIST, SyntaxKind.POSITIONAL_ARG,
+            SyntaxKind.FIELD_ACCESS, SyntaxKind.REMOTE_METHOD_CALL_ACTION, SyntaxKind.FUNCTION_CALL,
+            SyntaxKind.METHOD_CALL, SyntaxKind.MAPPING_CONSTRUCTOR, SyntaxKind.SPECIFIC_FIELD,
+            SyntaxKind.LIST_CONSTRUCTOR, SyntaxKind.UNARY_EXPRESSION, SyntaxKind.STRING_LITERAL,
+            SyntaxKind.NUMERIC_LITERAL, SyntaxKind.BOOLEAN_LITERAL, SyntaxKind.NIL_LITERAL,
+            SyntaxKind.SIMPLE_NAME_REFERENCE, SyntaxKind.QUALIFIED_NAME_REFERENCE,
+            SyntaxKind.STRING_TYPE_DESC, SyntaxKind.INT_TYPE_DESC, SyntaxKind.BOOLEAN_TYPE_DESC,
+            SyntaxKind.DECIMAL_TYPE_DESC, SyntaxKind.FLOAT_TYPE_DESC, SyntaxKind.BYTE_TYPE_DESC,
+            SyntaxKind.ANYDATA_TYPE_DESC, SyntaxKind.JSON_TYPE_DESC, SyntaxKind.ANY_TYPE_DESC,
+            SyntaxKind.XML_TYPE_DESC, SyntaxKind.ERROR_TYPE_DESC, SyntaxKind.NIL_TYPE_DESC,
+            SyntaxKind.NEVER_TYPE_DESC, SyntaxKind.READONLY_TYPE_DESC, SyntaxKind.ARRAY_TYPE_DESC,
+            SyntaxKind.ARRAY_DIMENSION, SyntaxKind.OPTIONAL_TYPE_DESC, SyntaxKind.UNION_TYPE_DESC,
+            SyntaxKind.PARENTHESISED_TYPE_DESC, SyntaxKind.SINGLETON_TYPE_DESC,
+            SyntaxKind.STRING_TEMPLATE_EXPRESSION, SyntaxKind.REGEX_TEMPLATE_EXPRESSION);
+
+    private final StringBuilder source = new StringBuilder();
+    private int indentationLevel;
+    private int pendingLineBreaks;
+    private Token previous;
+
+    private SourcePrinter() {}
+
+    /**
+     * Prints a module in the layout of the formatter.
+     *
+     * @param modulePartNode the module to print
+     * @return the source code, or an empty optional if the module has syntax the printer does not know
+     */
+    static Optional<String> print(ModulePartNode modulePartNode) {
+        if (!isSupported(modulePartNode)) {
+            return Optional.empty();
+        }
+        SourcePrinter printer = new SourcePrinter();
+        printer.visit(modulePartNode);
+        return Optional.of(printer.source.append(LINE_BREAK).toString());
+    }
+
+    private static boolean isSupported(Node node) {
+        if (node instanceof Token token) {
+            return !token.isMissing() && isWhitespace(token.leadingMinutiae())
+                    && isWhitespace(token.trailingMinutiae());
+        }
+        if (!SUPPORTED.contains(node.kind())) {
+            return false;
+        }
+        if (TEMPLATES.contains(node.kind())) {
+            return true;
+        }
+        for (Node child : ((NonTerminalNode) node).children()) {
+            if (child != null && !isSupported(child)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(Iterable<Minutiae> minutiaeList) {
+        for (Minutiae minutiae : minutiaeList) {
+            SyntaxKind kind = minutiae.kind();
+            if (kind != SyntaxKind.WHITESPACE_MINUTIAE && kind != SyntaxKind.END_OF_LINE_MINUTIAE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void visit(Node node) {
+        if (node instanceof Token token) {
+            print(token);
+            return;
+        }
+        if (TEMPLATES.contains(node.kind())) {
+            printTemplate((NonTerminalNode) node);
+            return;
+        }
+        boolean listItem = node.parent() != null && node.parent().kind() == SyntaxKind.LIST;
+        SyntaxKind container = listItem ? owner(node).kind() : null;
+        if (container == SyntaxKind.MODULE_PART && node.kind() != SyntaxKind.IMPORT_DECLARATION
+                && previous != null) {
+            breakLine(2);
+        } else if (container == SyntaxKind.CLASS_DEFINITION && !isBlockStart(previous)) {
+            breakLine(2);
+        }
+        for (Node child : ((NonTerminalNode) node).children()) {
+            if (child != null) {
+                visit(child);
+            }
+        }
+        if ((listItem && isLineContainer(container)) || node.kind() == SyntaxKind.RECORD_REST_TYPE) {
+            breakLine(1);
+        }
+    }
+
+    /**
+     * Whether the items of the node lists of a node are printed on lines of their own. Enum members are broken
+     * after their separators instead.
+     */
+    private static boolean isLineContainer(SyntaxKind kind) {
+        return kind == SyntaxKind.MODULE_PART || kind == SyntaxKind.METADATA
+                || (BLOCKS.contains(kind) && kind != SyntaxKind.ENUM_DECLARATION);
+    }
+
+    private void print(Token token) {
+        if (token.text().isEmpty()) {
+            return;
+        }
+        SyntaxKind owner = owner(token).kind();
+        boolean blockEnd = BLOCKS.contains(owner) && isBlockEnd(token);
+        if (blockEnd) {
+            indentationLevel--;
+            pendingLineBreaks = 1;
+        }
+        printSeparator(token, owner);
+        source.append(token.text());
+        previous = token;
+        if (BLOCKS.contains(owner) && isBlockStart(token)) {
+            indentationLevel++;
+            breakLine(1);
+        } else if (owner == SyntaxKind.ENUM_DECLARATION && token.kind() == SyntaxKind.COMMA_TOKEN) {
+            breakLine(1);
+        }
+    }
+
+    /**
+     * Prints a template expression as written, since the formatter does not change the content of templates.
+     */
+    private void printTemplate(NonTerminalNode template) {
+        StringBuilder text = new StringBuilder();
+        Token endBacktick = null;
+        for (Node child : template.children()) {
+            if (child == null) {
+                continue;
+            }
+            if (child instanceof Token token && token.kind() != SyntaxKind.BACKTICK_TOKEN && text.isEmpty()) {
+                print(token);
+            } else if (child instanceof Token token) {
+                text.append(token.text());
+                endBacktick = token;
+            } else {
+                text.append(child.toSourceCode());
+            }
+        }
+        printSeparator(endBacktick, template.kind());
+        source.append(text);
+        previous = endBacktick;
+    }
+
+    private void printSeparator(Token token, SyntaxKind owner) {
+        if (pendingLineBreaks > 0) {
+            if (!source.isEmpty()) {
+                source.append(LINE_BREAK.repeat(pendingLineBreaks));
+            }
+            source.append(INDENTATION.repeat(indentationLevel));
+            pendingLineBreaks = 0;
+        } else if (previous != null && isSpaced(previous, token, owner)) {
+            source.append(' ');
+        }
+    }
+
+    private void breakLine(int lineBreaks) {
+        pendingLineBreaks = Math.max(pendingLineBreaks, lineBreaks);
+    }
+
+    private static boolean isSpaced(Token previous, Token token, SyntaxKind owner) {
+        SyntaxKind previousOwner = owner(previous).kind();
+        switch (previous.kind()) {
+            case OPEN_PAREN_TOKEN, OPEN_BRACKET_TOKEN, AT_TOKEN, DOT_TOKEN, RIGHT_ARROW_TOKEN, SLASH_TOKEN:
+                return false;
+            case OPEN_BRACE_TOKEN:
+                return previousOwner != SyntaxKind.MAPPING_CONSTRUCTOR;
+            case PIPE_TOKEN:
+                return previousOwner != SyntaxKind.UNION_TYPE_DESC;
+            case COLON_TOKEN:
+                return previousOwner != SyntaxKind.QUALIFIED_NAME_REFERENCE;
+            case ASTERISK_TOKEN:
+                return previousOwner != SyntaxKind.TYPE_REFERENCE
+                        && previousOwner != SyntaxKind.INCLUDED_RECORD_PARAM;
+            case MINUS_TOKEN, PLUS_TOKEN:
+                return previousOwner != SyntaxKind.UNARY_EXPRESSION;
+            default:
+                break;
+        }
+        switch (token.kind()) {
+            case CLOSE_PAREN_TOKEN, CLOSE_BRACKET_TOKEN, COMMA_TOKEN, SEMICOLON_TOKEN, DOT_TOKEN, RIGHT_ARROW_TOKEN,
+                 QUESTION_MARK_TOKEN, ELLIPSIS_TOKEN, COLON_TOKEN, SLASH_TOKEN:
+                return false;
+            case CLOSE_BRACE_TOKEN:
+                return owner != SyntaxKind.MAPPING_CONSTRUCTOR;
+            case PIPE_TOKEN:
+                return owner != SyntaxKind.UNION_TYPE_DESC;
+            case OPEN_BRACKET_TOKEN:
+                return owner != SyntaxKind.ARRAY_TYPE_DESC && owner != SyntaxKind.ARRAY_DIMENSION;
+            case OPEN_PAREN_TOKEN:
+                if (owner == SyntaxKind.PARENTHESIZED_ARG_LIST) {
+                    return previous.kind() == SyntaxKind.NEW_KEYWORD;
+                }
+                return !CALLS.contains(owner);
+            default:
+                return true;
+        }
+    }
+
+    private static boolean isBlockStart(Token token) {
+        return token != null && (token.kind() == SyntaxKind.OPEN_BRACE_TOKEN
+                || token.kind() == SyntaxKind.OPEN_BRACE_PIPE_TOKEN);
+    }
+
+    private static boolean isBlockEnd(Token token) {
+        return token.kind() == SyntaxKind.CLOSE_BRACE_TOKEN || token.kind() == SyntaxKind.CLOSE_BRACE_PIPE_TOKEN;
+    }
+
+    /**
+     * Returns the closest ancestor of a node that is not a node list.
+     */
+    private static Node owner(Node node) {
+        Node parent = node.parent();
+        while (parent.kind() == SyntaxKind.LIST) {
+            parent = parent.parent();
+        }
+        return parent;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.wsdl.core.handler.SchemaUtils;
+import io.ballerina.xsd.core.node.MemberNode;
+import io.ballerina.xsd.core.visitor.XSDVisitor;
+import io.ballerina.xsd.core.visitor.XSDVisitorImpl;
+import org.w3c.dom.Element;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javax.xml.XMLConstants;
+
+import static io.ballerina.wsdl.core.handler.SchemaUtils.TARGET_NAMESPACE;
+import static io.ballerina.xsd.core.Utils.generateModulePartNode;
+import static io.ballerina.xsd.core.XSDToRecord.generateNodes;
+import static io.ballerina.xsd.core.XSDToRecord.generateResidualNodes;
+
+/**
+ * Generates the record types of the schemas embedded in a WSDL definition.
+ *
+ * <p>By default every schema is visited in document order by one shared visitor. In parallel mode, each schema is
+ * visited by a visitor of its own on the conversion pool and the results are merged in document order.
+ * That is only equivalent to the shared visitor if the schemas are independent, so the parallel mode is used
+ * only when the schemas have distinct target namespaces, declare no top-level names that could map to the same
+ * record name, do not refer to each other and do not include other documents. The merge is abandoned in favour
+ * of the sequential path if two schemas still produce a record of the same name, or if more than one schema
+ * produces residual records, whose order would differ from that of the shared visitor.</p>
+ *
+ * @since 0.1.0
+ */
+class TypesGenerator {
+    private static final String INCLUDE = "include";
+    private static final String REDEFINE = "redefine";
+
+    private TypesGenerator() {}
+
+    static GeneratedTypes generate(List<Element> schemaElements, boolean parallel) throws Exception {
+        if (parallel && areIndependent(schemaElements)) {
+            GeneratedTypes generatedTypes = generateInParallel(schemaElements);
+            if (generatedTypes != null) {
+                return generatedTypes;
+            }
+        }
+        return generateSequentially(schemaElements);
+    }
+
+    private static GeneratedTypes generateSequentially(List<Element> schemaElements) throws Exception {
+        XSDVisitor xsdVisitor = new XSDVisitorImpl();
+        Map<String, MemberNode> nodes = new LinkedHashMap<>();
+        for (Element schemaElement : schemaElements) {
+            xsdVisitor.setTargetNamespace(schemaElement.getAttribute(TARGET_NAMESPACE));
+            generateNodes(schemaElement, nodes, xsdVisitor);
+        }
+        generateResidualNodes(nodes, xsdVisitor);
+        return new GeneratedTypes(generateModulePartNode(nodes, xsdVisitor), xsdVisitor.getResolvedNameMeta(),
+                false);
+    }
+
+    private static GeneratedTypes generateInParallel(List<Element> schemaElements) throws Exception {
+        // The schemas share one DOM document, which is not safe for concurrent reads, so each worker is given
+        // a standalone copy made on this thread.
+        List<Callable<SchemaTypes>> tasks = new ArrayList<>();
+        for (Element schemaElement : schemaElements) {
+            Element schemaCopy = SchemaUtils.copyToNewDocument(schemaElement);
+            tasks.add(ConversionMetrics.onWorker(() -> generateSchemaTypes(schemaCopy)));
+        }
+        List<SchemaTypes> schemaTypes = new ArrayList<>();
+        for (Future<SchemaTypes> future : ConversionPool.get().invokeAll(tasks)) {
+            try {
+                schemaTypes.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof Exception exception ? exception : e;
+            }
+        }
+        return merge(schemaTypes);
+    }
+
+    private static SchemaTypes generateSchemaTypes(Element schemaElement) throws Exception {
+        XSDVisitor xsdVisitor = new XSDVisitorImpl();
+        Map<String, MemberNode> nodes = new LinkedHashMap<>();
+        xsdVisitor.setTargetNamespace(schemaElement.getAttribute(TARGET_NAMESPACE));
+        generateNodes(schemaElement, nodes, xsdVisitor);
+        int declaredCount = nodes.size();
+        generateResidualNodes(nodes, xsdVisitor);
+        return new SchemaTypes(xsdVisitor, nodes, declaredCount);
+    }
+
+    private static GeneratedTypes merge(List<SchemaTypes> schemaTypes) {
+        Map<String, MemberNode> nodes = new LinkedHashMap<>();
+        Map<String, MemberNode> residualNodes = new LinkedHashMap<>();
+        Map<String, String> resolvedNameMeta = new LinkedHashMap<>();
+        int schemasWithResiduals = 0;
+        for (SchemaTypes types : schemaTypes) {
+            List<Map.Entry<String, MemberNode>> entries = new ArrayList<>(types.nodes().entrySet());
+            for (int i = 0; i < entries.size(); i++) {
+                Map<String, MemberNode> target = i < types.declaredCount() ? nodes : residualNodes;
+                if (target.putIfAbsent(entries.get(i).getKey(), entries.get(i).getValue()) != null) {
+                    return null;
+                }
+            }
+            if (entries.size() > types.declaredCount()) {
+                schemasWithResiduals++;
+            }
+            resolvedNameMeta.putAll(types.visitor().getResolvedNameMeta());
+        }
+        if (schemasWithResiduals > 1) {
+            return null;
+        }
+        for (Map.Entry<String, MemberNode> entry : residualNodes.entrySet()) {
+            if (nodes.putIfAbsent(entry.getKey(), entry.getValue()) != null) {
+                return null;
+            }
+        }
+
+        ModulePartNode modulePartNode = generateModulePartNode(nodes, schemaTypes.get(0).visitor());
+        List<ImportDeclarationNode> imports = new ArrayList<>();
+        Set<String> importedModules = new HashSet<>();
+        addImports(modulePartNode, imports, importedModules);
+        for (SchemaTypes types : schemaTypes.subList(1, schemaTypes.size())) {
+            addImports(generateModulePartNode(Collections.emptyMap(), types.visitor()), imports, importedModules);
+        }
+        modulePartNode = modulePartNode.modify().withImports(AbstractNodeFactory.createNodeList(imports)).apply();
+        return new GeneratedTypes(modulePartNode, resolvedNameMeta, true);
+    }
+
+    private static void addImports(ModulePartNode modulePartNode, List<ImportDeclarationNode> imports,
+                                   Set<String> importedModules) {
+        for (ImportDeclarationNode importNode : modulePartNode.imports()) {
+            if (importedModules.add(importNode.toSourceCode().strip())) {
+                imports.add(importNode);
+            }
+        }
+    }
+
+    private static boolean areIndependent(List<Element> schemaElements) {
+        if (schemaElements.size() < 2) {
+            return false;
+        }
+        Set<String> targetNamespaces = new HashSet<>();
+        for (Element schemaElement : schemaElements) {
+            if (!targetNamespaces.add(schemaElement.getAttribute(TARGET_NAMESPACE))) {
+                return false;
+            }
+        }
+        Set<String> recordNames = new HashSet<>();
+        for (Element schemaElement : schemaElements) {
+            for (Element child : SchemaUtils.getChildElements(schemaElement)) {
+                if (XMLConstants.W3C_XML_SCHEMA_NS_URI.equals(child.getNamespaceURI())
+                        && (INCLUDE.equals(child.getLocalName()) || REDEFINE.equals(child.getLocalName()))) {
+                    return false;
+                }
+            }
+            Set<String> schemaRecordNames = new HashSet<>();
+            for (String name : SchemaUtils.getTopLevelNames(schemaElement)) {
+                schemaRecordNames.add(name.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT));
+            }
+            for (String recordName : schemaRecordNames) {
+                if (!recordNames.add(recordName)) {
+                    return false;
+                }
+            }
+            Set<String> referencedNamespaces = SchemaUtils.getReferencedNamespaces(schemaElement);
+            referencedNamespaces.remove(schemaElement.getAttribute(TARGET_NAMESPACE));
+            referencedNamespaces.retainAll(targetNamespaces);
+            if (!referencedNamespaces.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The record types generated from the schemas of a WSDL definition.
+     *
+     * @param modulePartNode   the module holding the records
+     * @param resolvedNameMeta the record names given to schema components whose names clashed
+     * @param parallel         whether the schemas were visited in parallel rather than by one shared visitor
+     */
+    record GeneratedTypes(ModulePartNode modulePartNode, Map<String, String> resolvedNameMeta, boolean parallel) {
+    }
+
+    private record SchemaTypes(XSDVisitor visitor, Map<String, MemberNode> nodes, int declaredCount) {
+    }
+}
@@ -18,50 +18,37 @@
 
 package io.ballerina.wsdl.core;
 
+import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
-import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.wsdl.core.jfr.FormatModuleEvent;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.ballerinalang.formatter.core.options.ForceFormattingOptions;
 import org.ballerinalang.formatter.core.options.FormattingOptions;
 
-import java.util.Locale;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
-import javax.wsdl.Port;
-
-import static io.ballerina.wsdl.core.WsdlToBallerina.CHECK;
-import static io.ballerina.wsdl.core.WsdlToBallerina.CLASS;
-import static io.ballerina.wsdl.core.WsdlToBallerina.CLIENT_CONFIG;
-import static io.ballerina.wsdl.core.WsdlToBallerina.CLIENT_ENDPOINT_FIELD;
-import static io.ballerina.wsdl.core.WsdlToBallerina.CLOSE_BRACES;
-import static io.ballerina.wsdl.core.WsdlToBallerina.CLOSE_PARENTHESIS;
-import static io.ballerina.wsdl.core.WsdlToBallerina.COMMA;
-import static io.ballerina.wsdl.core.WsdlToBallerina.CONFIG;
-import static io.ballerina.wsdl.core.WsdlToBallerina.DOT;
-import static io.ballerina.wsdl.core.WsdlToBallerina.EQUALS;
-import static io.ballerina.wsdl.core.WsdlToBallerina.ERROR_OR_NIL;
-import static io.ballerina.wsdl.core.WsdlToBallerina.HEADER;
-import static io.ballerina.wsdl.core.WsdlToBallerina.NEW;
-import static io.ballerina.wsdl.core.WsdlToBallerina.OPEN_BRACES;
-import static io.ballerina.wsdl.core.WsdlToBallerina.OPEN_PARENTHESIS;
-import static io.ballerina.wsdl.core.WsdlToBallerina.RETURNS;
-import static io.ballerina.wsdl.core.WsdlToBallerina.SELF;
-import static io.ballerina.wsdl.core.WsdlToBallerina.SEMICOLON;
-import static io.ballerina.wsdl.core.WsdlToBallerina.SERVICE_URL;
-import static io.ballerina.wsdl.core.WsdlToBallerina.SOAP;
-import static io.ballerina.wsdl.core.WsdlToBallerina.TYPE_INCLUSION;
-import static io.ballerina.wsdl.core.WsdlToBallerina.WHITESPACE;
-import static io.ballerina.wsdl.core.WsdlToBallerina.convertToPascalCase;
+import static io.ballerina.wsdl.core.generator.ClientSyntaxFactory.createBodyRecord;
+import static io.ballerina.wsdl.core.generator.ClientSyntaxFactory.createSoapRequestRecord;
+import static io.ballerina.wsdl.core.generator.ClientSyntaxFactory.createSoapResponseRecord;
 import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.EMPTY_STRING;
-import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.QUESTION_MARK;
-import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.RECORD;
 
 public final class Utils {
-    private static final String XMLDATA_NAME = "@xmldata:Name {value: \"Envelope\"}";
-    private static final String PUBLIC_TYPE = "public type ";
-    private static final String BODY_FIELD = "Body;";
     public static final String XMLDATA_NAMESPACE = "@xmldata:Namespace {prefix: \"%s\", uri: \"%s\"}";
     public static final String SOAP_REQUEST = "SoapRequest";
     public static final String REQUEST_BODY = "RequestBody";
@@ -70,6 +57,15 @@ public final class Utils {
     public static final String LINE_BREAK = "\n";
     public static final String QUOTATION = "\"";
 
+    static final int MIN_PARALLEL_FORMATTING_MEMBERS = 256;
+    private static final int MIN_CHUNK_SIZE = 64;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final String FAST_FORMATTING_MODE = "fast";
+    private static final String PARALLEL_FORMATTING_MODE = "parallel";
+    private static final String FORMATTER_MODE = "formatter";
+    private static final String INCREMENTAL_FORMATTING_MODE = "incremental";
+    private static final String CLASS_END = "}" + LINE_BREAK;
+
     private Utils() {}
 
     public static String formatModuleParts(ModulePartNode modulePartNode) throws FormatterException {
@@ -80,65 +76,311 @@ public final class Utils {
         return Formatter.format(modulePartNode.syntaxTree(), formattingOptions).toSourceCode();
     }
 
-    public static void generateTypeDefinitions(String namespace, Map<String, ModuleMemberDeclarationNode> nodes,
-                                               String requestType, String requestFieldName, String responseType,
-                                               String responseFieldName, OperationContext operation) {
-        String requestBody = String.format(XMLDATA_NAMESPACE, SOAP, namespace) + LINE_BREAK +
-                operation.requestBodyName() + WHITESPACE + BODY_FIELD;
-        String requestHeader = String.format(XMLDATA_NAMESPACE, SOAP, namespace) + LINE_BREAK +
-                operation.requestHeaderName() + WHITESPACE + HEADER + QUESTION_MARK + SEMICOLON;
-        generateTypeDefinition(namespace, nodes, operation.requestName(),
-                   requestHeader + requestBody, true);
-        generateTypeDefinition(namespace, nodes, operation.requestBodyName(), requestType +
-                               WHITESPACE + requestFieldName + QUESTION_MARK + SEMICOLON, false);
-        generateTypeDefinition(EMPTY_STRING, nodes, operation.responseName(),
-                   operation.responseBodyName() + WHITESPACE + BODY_FIELD, true);
-        generateTypeDefinition(EMPTY_STRING, nodes, operation.responseBodyName(), responseType +
-                               WHITESPACE + responseFieldName + QUESTION_MARK + SEMICOLON, false);
+    /**
+     * Formats a generated module. With fast formatting the module is printed directly if the printer supports all
+     * of its syntax, and with parallel formatting large modules are formatted in chunks of members on the
+     * conversion pool.
+     */
+    public static String formatModuleParts(ModulePartNode modulePartNode, GenerationOptions options)
+            throws FormatterException {
+        FormatModuleEvent event = new FormatModuleEvent();
+        event.begin();
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        String mode = FAST_FORMATTING_MODE;
+        Optional<String> source = options.isFastFormatting() ? SourcePrinter.print(modulePartNode) : Optional.empty();
+        if (source.isEmpty()) {
+            if (options.isParallelFormatting() && members.size() >= MIN_PARALLEL_FORMATTING_MEMBERS) {
+                mode = PARALLEL_FORMATTING_MODE;
+                source = Optional.of(formatInParallel(modulePartNode, members));
+            } else {
+                mode = FORMATTER_MODE;
+                source = Optional.of(formatModuleParts(modulePartNode));
+            }
+        }
+        if (event.shouldCommit()) {
+            event.memberCount = members.size();
+            event.characterCount = source.get().length();
+            event.mode = mode;
+            event.commit();
+        }
+        return source.get();
+    }
+
+    /**
+     * Formats a generated module one member at a time, reusing the formatted text of the members found in the
+     * cache. Fast formatting, which is cheaper than looking up the cache, takes precedence. The first member is
+     * formatted together with the imports of the module, and the formatted members are joined like the chunks of a
+     * module formatted in parallel.
+     * <p>
+     * Formatting members one at a time costs more than formatting the module at once, so when the cache is empty or
+     * most members miss it, the module is formatted as a whole unless parallel formatting is enabled. With parallel
+     * formatting the missed members are formatted in chunks on the conversion pool, which also records them
+     * for the next conversion.
+     */
+    public static String formatModuleParts(ModulePartNode modulePartNode, GenerationOptions options,
+                                           FormattingCache formattingCache) throws FormatterException {
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        if (members.isEmpty() || options.isFastFormatting()) {
+            return formatModuleParts(modulePartNode, options);
+        }
+        List<ModulePartNode> units = new ArrayList<>(members.size());
+        String[] fingerprints = new String[members.size()];
+        String[] formattedMembers = new String[members.size()];
+        List<Integer> missedMembers = new ArrayList<>();
+        if (!formattingCache.isEmpty() || options.isParallelFormatting()) {
+            for (int i = 0; i < members.size(); i++) {
+                ModulePartNode unit = NodeFactory.createModulePartNode(
+                        i == 0 ? modulePartNode.imports() : AbstractNodeFactory.createEmptyNodeList(),
+                        AbstractNodeFactory.createNodeList(members.get(i)),
+                        AbstractNodeFactory.createIdentifierToken(""));
+                units.add(unit);
+                fingerprints[i] = FormattingCache.fingerprint(unit);
+                formattedMembers[i] = formattingCache.find(fingerprints[i]);
+                if (formattedMembers[i] == null) {
+                    missedMembers.add(i);
+                }
+            }
+        }
+        if (units.isEmpty() || !options.isParallelFormatting() && missedMembers.size() * 2 > members.size()) {
+            // The members found in the cache are kept for the next conversion, although they are formatted again
+            for (int i = 0; i < units.size(); i++) {
+                if (formattedMembers[i] != null) {
+                    formattingCache.add(fingerprints[i], units.get(i), formattedMembers[i]);
+                }
+            }
+            formattingCache.count(0, members.size());
+            return formatModuleParts(modulePartNode, options);
+        }
+        FormatModuleEvent event = new FormatModuleEvent();
+        event.begin();
+        formatMembers(units, missedMembers, formattedMembers, options.isParallelFormatting());
+        StringJoiner source = new StringJoiner(LINE_BREAK);
+        for (int i = 0; i < members.size(); i++) {
+            formattingCache.add(fingerprints[i], units.get(i), formattedMembers[i]);
+            source.add(formattedMembers[i]);
+        }
+        formattingCache.count(members.size() - missedMembers.size(), missedMembers.size());
+        if (event.shouldCommit()) {
+            event.memberCount = members.size();
+            event.characterCount = source.length();
+            event.mode = INCREMENTAL_FORMATTING_MODE;
+            event.commit();
+        }
+        return source.toString();
+    }
+
+    /**
+     * Formats a client module from the envelope records and the remote functions of its operations, reusing the
+     * formatted text given for the ones found in the cache. The envelope records of an operation are formatted
+     * together, and a remote function is formatted in a client class of its own and cut out of it. The client class
+     * is then assembled from the formatted class without remote functions and the formatted remote functions, and
+     * the envelope records follow it in the reverse order of the operations, like in a generated client module.
+     *
+     * @param imports     the imports of the module
+     * @param clientClass creates the client class with the given remote functions
+     * @param operations  the operations of the client
+     * @return the formatted module, or {@code null} if a remote function is not laid out the same way in a class of
+     * its own
+     */
+    static String formatClientModule(NodeList<ImportDeclarationNode> imports,
+                                     Function<List<FunctionDefinitionNode>, ClassDefinitionNode> clientClass,
+                                     List<ClientOperation> operations, GenerationOptions options,
+                                     FormattingCache formattingCache) throws FormatterException {
+        FormatModuleEvent event = new FormatModuleEvent();
+        event.begin();
+        // The client class without remote functions comes first, followed by the envelope records and the remote
+        // function of each operation
+        int unitCount = 1 + 2 * operations.size();
+        List<ModulePartNode> units = new ArrayList<>(Collections.nCopies(unitCount, null));
+        String[] formattedMembers = new String[unitCount];
+        ModulePartNode classUnit = createUnit(imports, List.of(clientClass.apply(List.of())));
+        String classFingerprint = FormattingCache.fingerprint(classUnit);
+        units.set(0, classUnit);
+        formattedMembers[0] = formattingCache.find(classFingerprint);
+        for (int i = 0; i < operations.size(); i++) {
+            ClientOperation operation = operations.get(i);
+            formattedMembers[1 + 2 * i] = operation.formattedRecords();
+            if (operation.formattedRecords() == null) {
+                units.set(1 + 2 * i, createUnit(AbstractNodeFactory.createEmptyNodeList(), operation.records()));
+            }
+            formattedMembers[2 + 2 * i] = operation.formattedFunction();
+            if (operation.formattedFunction() == null) {
+                units.set(2 + 2 * i, createUnit(imports, List.of(clientClass.apply(
+                        List.of(operation.remoteFunction())))));
+            }
+        }
+        List<Integer> missedMembers = new ArrayList<>();
+        for (int i = 0; i < unitCount; i++) {
+            if (formattedMembers[i] == null) {
+                missedMembers.add(i);
+            }
+        }
+        formatMembers(units, missedMembers, formattedMembers, options.isParallelFormatting());
+
+        String emptyClass = formattedMembers[0];
+        if (!emptyClass.endsWith(CLASS_END)) {
+            return null;
+        }
+        String classStart = emptyClass.substring(0, emptyClass.length() - CLASS_END.length());
+        for (int i : missedMembers) {
+            if (i == 0 || i % 2 == 1) {
+                continue;
+            }
+            String formattedClass = formattedMembers[i];
+            if (!formattedClass.startsWith(classStart) || !formattedClass.endsWith(CLASS_END)
+                    || formattedClass.length() < classStart.length() + CLASS_END.length()) {
+                return null;
+            }
+            formattedMembers[i] = formattedClass.substring(classStart.length(),
+                    formattedClass.length() - CLASS_END.length());
+        }
+
+        StringBuilder client = new StringBuilder(classStart);
+        for (int i = 0; i < operations.size(); i++) {
+            client.append(formattedMembers[2 + 2 * i]);
+        }
+        client.append(CLASS_END);
+        StringJoiner source = new StringJoiner(LINE_BREAK);
+        source.add(client);
+        for (int i = operations.size() - 1; i >= 0; i--) {
+            source.add(formattedMembers[1 + 2 * i]);
+        }
+        formattingCache.add(classFingerprint, classUnit, emptyClass);
+        for (int i = 0; i < operations.size(); i++) {
+            ClientOperation operation = operations.get(i);
+            formattingCache.add(operation.recordsFingerprint(), operation.name(), formattedMembers[1 + 2 * i]);
+            formattingCache.add(operation.functionFingerprint(), operation.name(), formattedMembers[2 + 2 * i]);
+        }
+        formattingCache.count(unitCount - missedMembers.size(), missedMembers.size());
+        if (event.shouldCommit()) {
+            event.memberCount = unitCount;
+            event.characterCount = source.length();
+            event.mode = INCREMENTAL_FORMATTING_MODE;
+            event.commit();
+        }
+        return source.toString();
+    }
+
+    private static ModulePartNode createUnit(NodeList<ImportDeclarationNode> imports,
+                                             List<ModuleMemberDeclarationNode> members) {
+        return NodeFactory.createModulePartNode(imports, AbstractNodeFactory.createNodeList(members),
+                AbstractNodeFactory.createIdentifierToken(""));
     }
 
-    private static void generateTypeDefinition(String namespace, Map<String, ModuleMemberDeclarationNode> nodes,
-                                               String typeName, String bodyContent, boolean includeXmlData) {
-        StringBuilder builder = new StringBuilder();
-        if (includeXmlData) {
-            builder.append(XMLDATA_NAME).append(LINE_BREAK);
+    /**
+     * Formats the missed units of a module one at a time, in chunks on the conversion pool if parallel
+     * formatting is enabled and there is more than one chunk.
+     */
+    private static void formatMembers(List<ModulePartNode> units, List<Integer> missedMembers,
+                                      String[] formattedMembers, boolean parallel) throws FormatterException {
+        int chunkCount = ConversionPool.get().getParallelism() * CHUNKS_PER_THREAD;
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (missedMembers.size() + chunkCount - 1) / chunkCount);
+        if (!parallel || missedMembers.size() <= chunkSize) {
+            for (int i : missedMembers) {
+                formattedMembers[i] = formatModuleParts(units.get(i));
+            }
+            return;
         }
-        if (!namespace.equals(EMPTY_STRING)) {
-            builder.append(String.format(XMLDATA_NAMESPACE, SOAP, namespace)).append(LINE_BREAK);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int start = 0; start < missedMembers.size(); start += chunkSize) {
+            List<Integer> chunk = missedMembers.subList(start, Math.min(start + chunkSize, missedMembers.size()));
+            tasks.add(ConversionMetrics.onWorker(() -> {
+                for (int i : chunk) {
+                    formattedMembers[i] = formatModuleParts(units.get(i));
+                }
+                return null;
+            }));
         }
-        builder.append(PUBLIC_TYPE).append(typeName).append(WHITESPACE).append(RECORD)
-                .append(OPEN_BRACES).append(LINE_BREAK).append(bodyContent).append(LINE_BREAK)
-                .append(CLOSE_BRACES).append(SEMICOLON);
-        nodes.put(typeName, NodeParser.parseModuleMemberDeclaration(builder.toString()));
+        invokeAll(tasks);
+    }
+
+    /**
+     * Formats the members of a module in chunks and joins the results. The formatter separates module members
+     * with a blank line, so joining the formatted chunks with a line break gives the whole-module output.
+     */
+    private static String formatInParallel(ModulePartNode modulePartNode,
+                                           NodeList<ModuleMemberDeclarationNode> members)
+            throws FormatterException {
+        int chunkCount = ConversionPool.get().getParallelism() * CHUNKS_PER_THREAD;
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (members.size() + chunkCount - 1) / chunkCount);
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int start = 0; start < members.size(); start += chunkSize) {
+            List<ModuleMemberDeclarationNode> chunk = new ArrayList<>();
+            for (int i = start; i < Math.min(start + chunkSize, members.size()); i++) {
+                chunk.add(members.get(i));
+            }
+            ModulePartNode chunkModule = NodeFactory.createModulePartNode(
+                    start == 0 ? modulePartNode.imports() : AbstractNodeFactory.createEmptyNodeList(),
+                    AbstractNodeFactory.createNodeList(chunk), AbstractNodeFactory.createIdentifierToken(""));
+            tasks.add(ConversionMetrics.onWorker(() -> formatModuleParts(chunkModule)));
+        }
+        StringJoiner source = new StringJoiner(LINE_BREAK);
+        invokeAll(tasks).forEach(source::add);
+        return source.toString();
+    }
+
+    /**
+     * Runs formatting tasks on the conversion pool and returns their results in the order of the tasks. The
+     * formatter exceptions, unchecked exceptions and errors of a task are rethrown as they are, and any other failure
+     * is the cause of the thrown formatter exception.
+     */
+    private static <T> List<T> invokeAll(List<Callable<T>> tasks) throws FormatterException {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : ConversionPool.get().invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof FormatterException formatterException) {
+                throw formatterException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            FormatterException formatterException = new FormatterException(cause.getMessage());
+            formatterException.initCause(cause);
+            throw formatterException;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            FormatterException formatterException = new FormatterException(
+                    "Formatting of the generated module was interrupted");
+            formatterException.initCause(e);
+            throw formatterException;
+        }
+        return results;
+    }
+
+    public static void generateTypeDefinitions(String namespace, Map<String, ModuleMemberDeclarationNode> nodes,
+                                               String requestType, String requestFieldName, String responseType,
+                                               String responseFieldName, OperationContext operation) {
+        nodes.put(operation.requestName(), createSoapRequestRecord(operation.requestName(), namespace,
+                operation.requestHeaderName(), operation.requestBodyName()));
+        nodes.put(operation.requestBodyName(), createBodyRecord(operation.requestBodyName(), namespace,
+                requestType, requestFieldName));
+        nodes.put(operation.responseName(), createSoapResponseRecord(operation.responseName(),
+                operation.responseBodyName()));
+        nodes.put(operation.responseBodyName(), createBodyRecord(operation.responseBodyName(), EMPTY_STRING,
+                responseType, responseFieldName));
     }
 
-    public static StringBuilder generateClientContext(String soapVersion, String serviceUrl, Port port,
-                                                      boolean hasMultiplePorts) {
-        StringBuilder stringBuilder = new StringBuilder();
-        String version = soapVersion.toLowerCase(Locale.ROOT);
-        String clientName = hasMultiplePorts
-                ? convertToPascalCase(port.getName()) + WsdlToBallerina.CLIENT_NAME : WsdlToBallerina.CLIENT_NAME;
-        stringBuilder.append(WsdlToBallerina.PUBLIC).append(WHITESPACE).append(WsdlToBallerina.ISOLATED)
-                .append(WHITESPACE).append(WsdlToBallerina.CLIENT).append(WHITESPACE).append(CLASS)
-                .append(WHITESPACE).append(clientName).append(WHITESPACE).append(OPEN_BRACES);
-
-        stringBuilder.append(WsdlToBallerina.FINAL).append(WHITESPACE).append(version).append(WsdlToBallerina.COLON)
-                .append(WsdlToBallerina.CLIENT_NAME).append(WHITESPACE)
-                .append(CLIENT_ENDPOINT_FIELD).append(SEMICOLON);
-
-        stringBuilder.append(WsdlToBallerina.PUBLIC).append(WHITESPACE).append(WsdlToBallerina.ISOLATED)
-                .append(WHITESPACE).append(WsdlToBallerina.FUNCTION).append(WHITESPACE).append(WsdlToBallerina.INIT)
-                .append(OPEN_PARENTHESIS).append(WsdlToBallerina.STRING).append(WHITESPACE)
-                .append(SERVICE_URL).append(WHITESPACE).append(EQUALS).append(WHITESPACE).append(QUOTATION)
-                .append(serviceUrl).append(QUOTATION).append(COMMA).append(TYPE_INCLUSION)
-                .append(SOAP).append(WsdlToBallerina.COLON).append(CLIENT_CONFIG).append(WHITESPACE)
-                .append(CONFIG).append(CLOSE_PARENTHESIS).append(WHITESPACE).append(RETURNS).append(WHITESPACE)
-                .append(ERROR_OR_NIL).append(WHITESPACE).append(OPEN_BRACES).append(WHITESPACE);
-
-        stringBuilder.append(SELF).append(DOT).append(CLIENT_ENDPOINT_FIELD).append(WHITESPACE).append(EQUALS)
-                .append(WHITESPACE).append(CHECK).append(WHITESPACE).append(NEW).append(WHITESPACE)
-                .append(OPEN_PARENTHESIS).append(SERVICE_URL).append(COMMA).append(WHITESPACE)
-                .append(CONFIG).append(CLOSE_PARENTHESIS).append(SEMICOLON).append(CLOSE_BRACES);
-        return stringBuilder;
+    /**
+     * The envelope records and the remote function of an operation of a client module, each given either as the
+     * formatted text found in the formatting cache or as the nodes to format.
+     *
+     * @param name                the name of the operation
+     * @param recordsFingerprint  the fingerprint of the envelope records
+     * @param formattedRecords    the formatted envelope records, or {@code null} if they are not cached
+     * @param records             the envelope records in module order, if they are not cached
+     * @param functionFingerprint the fingerprint of the remote function
+     * @param formattedFunction   the formatted remote function, or {@code null} if it is not cached
+     * @param remoteFunction      the remote function, if it is not cached
+     */
+    record ClientOperation(String name, String recordsFingerprint, String formattedRecords,
+                           List<ModuleMemberDeclarationNode> records, String functionFingerprint,
+                           String formattedFunction, FunctionDefinitionNode remoteFunction) {
     }
 }
@@ -0,0 +1,229 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.wsdl.core.handler.model.SoapVersion;
+import io.ballerina.wsdl.core.handler.model.WsdlOperation;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.wsdl.Definition;
+import javax.xml.namespace.QName;
+
+import static io.ballerina.wsdl.core.ConversionMetrics.quote;
+
+/**
+ * The ports of a WSDL definition with the operations of their bindings, for listing the operations of a WSDL file
+ * without generating any source. The index is read from the bindings and messages of the definition only, so the
+ * schemas of the definition are never read.
+ *
+ * @param targetNamespace the target namespace of the definition
+ * @param ports           the SOAP ports of all the services, in document order
+ * @since 0.1.0
+ */
+public record WsdlIndex(String targetNamespace, List<Port> ports) {
+
+    public WsdlIndex {
+        ports = List.copyOf(ports);
+    }
+
+    /**
+     * Reads the index of a WSDL definition.
+     *
+     * @param wsdlDefinition the definition
+     * @return the index
+     */
+    public static WsdlIndex read(Definition wsdlDefinition) {
+        // The schemas are not read, so nothing is retrieved through the resolver
+        return of(WsdlModel.read(wsdlDefinition, new ConversionMetrics(), ImportResolver.direct(true), false));
+    }
+
+    /**
+     * Creates the index of the model of a WSDL definition, such as the model of a snapshot.
+     *
+     * @param wsdlModel the model
+     * @return the index
+     */
+    public static WsdlIndex of(WsdlModel wsdlModel) {
+        List<Port> ports = new ArrayList<>();
+        for (WsdlModel.Port port : wsdlModel.ports()) {
+            List<Operation> operations = new ArrayList<>();
+            for (WsdlOperation operation : port.operations().values()) {
+                operations.add(toOperation(wsdlModel, operation));
+            }
+            operations.sort(Comparator.comparing(Operation::name, Comparator.nullsFirst(Comparator.naturalOrder())));
+            SoapPort soapPort = port.soapPort();
+            ports.add(new Port(soapPort.name(), soapPort.soapVersion(), soapPort.binding(), soapPort.serviceUrl(),
+                    operations, port.error() == null ? null : String.valueOf(port.error().getMessage())));
+        }
+        return new WsdlIndex(wsdlModel.targetNamespace(), ports);
+    }
+
+    /**
+     * Selects the ports to list.
+     *
+     * @param portName the name of a port, or an empty string for all the ports
+     * @return the index of the named port or of all the ports, or {@code null} if there is no SOAP port with the
+     * given name
+     */
+    public WsdlIndex selectPort(String portName) {
+        if (portName.isEmpty()) {
+            return this;
+        }
+        for (Port port : ports) {
+            if (port.name().equals(portName)) {
+                return new WsdlIndex(targetNamespace, List.of(port));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the index as a JSON document.
+     *
+     * @return the JSON document
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\"targetNamespace\":").append(quoteOrNull(targetNamespace))
+                .append(",\"ports\":[");
+        String portSeparator = "";
+        for (Port port : ports) {
+            json.append(portSeparator).append("{\"name\":").append(quoteOrNull(port.name()))
+                    .append(",\"soapVersion\":").append(quote(port.soapVersion().toString()))
+                    .append(",\"binding\":").append(quoteOrNull(port.binding()))
+                    .append(",\"serviceUrl\":").append(quoteOrNull(port.serviceUrl()));
+            if (port.error() != null) {
+                json.append(",\"error\":").append(quote(port.error()));
+            }
+            json.append(",\"operations\":[");
+            String operationSeparator = "";
+            for (Operation operation : port.operations()) {
+                json.append(operationSeparator).append("{\"name\":").append(quoteOrNull(operation.name()))
+                        .append(",\"soapAction\":").append(quoteOrNull(operation.soapAction()))
+                        .append(",\"input\":");
+                appendMessage(json, operation.input());
+                json.append(",\"output\":");
+                appendMessage(json, operation.output());
+                json.append(",\"headers\":[");
+                String headerSeparator = "";
+                for (SoapHeader header : operation.headers()) {
+                    json.append(headerSeparator).append("{\"part\":").append(quoteOrNull(header.part()))
+                            .append(",\"element\":").append(quoteOrNull(header.element())).append('}');
+                    headerSeparator = ",";
+                }
+                json.append("]}");
+                operationSeparator = ",";
+            }
+            json.append("]}");
+            portSeparator = ",";
+        }
+        return json.append("]}").toString();
+    }
+
+    private static Operation toOperation(WsdlModel wsdlModel, WsdlOperation operation) {
+        String targetNamespace = wsdlModel.targetNamespace();
+        List<SoapHeader> headers = new ArrayList<>();
+        String headerMessageName = operation.getInputHeaderName();
+        if (headerMessageName != null && !headerMessageName.isEmpty()) {
+            WsdlModel.Message headerMessage = wsdlModel.findMessage(new QName(targetNamespace, headerMessageName));
+            for (String partName : operation.getHeaderElements().keySet()) {
+                WsdlModel.Part part = headerMessage == null ? null : headerMessage.getPart(partName);
+                headers.add(new SoapHeader(partName, part == null ? null : part.elementName()));
+            }
+            headers.sort(Comparator.comparing(SoapHeader::part));
+        }
+        return new Operation(operation.getOperationName(), operation.getOperationAction(),
+                findMessage(wsdlModel, operation.getOperationInput()),
+                findMessage(wsdlModel, operation.getOperationOutput()), headers);
+    }
+
+    private static WsdlModel.Message findMessage(WsdlModel wsdlModel, String messageName) {
+        if (messageName == null || messageName.isEmpty()) {
+            return null;
+        }
+        return wsdlModel.findMessage(new QName(wsdlModel.targetNamespace(), messageName));
+    }
+
+    private static void appendMessage(StringBuilder json, WsdlModel.Message message) {
+        if (message == null) {
+            json.append("null");
+            return;
+        }
+        json.append("{\"message\":").append(quote(message.name().getLocalPart())).append(",\"parts\":[");
+        String separator = "";
+        for (WsdlModel.Part part : message.parts()) {
+            json.append(separator).append("{\"name\":").append(quoteOrNull(part.name()))
+                    .append(",\"element\":").append(quoteOrNull(part.elementName()))
+                    .append(",\"type\":").append(quoteOrNull(part.typeName())).append('}');
+            separator = ",";
+        }
+        json.append("]}");
+    }
+
+    private static String quoteOrNull(Object value) {
+        return value == null ? "null" : quote(value.toString());
+    }
+
+    /**
+     * A SOAP port and the operations of its binding.
+     *
+     * @param name        the name of the port
+     * @param soapVersion the SOAP version of the port
+     * @param binding     the name of the binding of the port
+     * @param serviceUrl  the address of the port
+     * @param operations  the operations of the binding, by name, empty if the binding could not be read
+     * @param error       the error raised while reading the binding, or {@code null}
+     */
+    public record Port(String name, SoapVersion soapVersion, QName binding, String serviceUrl,
+                       List<Operation> operations, String error) {
+
+        public Port {
+            operations = List.copyOf(operations);
+        }
+    }
+
+    /**
+     * An operation of a binding.
+     *
+     * @param name       the name of the operation
+     * @param soapAction the SOAP action of the operation, or {@code null}
+     * @param input      the input message of the operation, or {@code null} if it is not defined
+     * @param output     the output message of the operation, or {@code null} if it is not defined
+     * @param headers    the SOAP headers of the input of the operation, by part name
+     */
+    public record Operation(String name, String soapAction, WsdlModel.Message input, WsdlModel.Message output,
+                            List<SoapHeader> headers) {
+
+        public Operation {
+            headers = List.copyOf(headers);
+        }
+    }
+
+    /**
+     * A SOAP header of the input of an operation.
+     *
+     * @param part    the name of the part of the header message
+     * @param element the schema element of the part, or {@code null} if the part is not defined
+     */
+    public record SoapHeader(String part, QName element) {
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.wsdl.core.handler.SchemaHandler;
+import io.ballerina.wsdl.core.handler.model.SoapVersion;
+import io.ballerina.wsdl.core.handler.model.WsdlOperation;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import org.w3c.dom.Element;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.wsdl.Definition;
+import javax.wsdl.Service;
+import javax.wsdl.Types;
+import javax.wsdl.extensions.soap.SOAPAddress;
+import javax.wsdl.extensions.soap12.SOAP12Address;
+import javax.xml.namespace.QName;
+
+/**
+ * A compact, immutable view of the parts of a WSDL definition that client generation needs: the SOAP ports with the
+ * operations of their bindings, the messages those operations refer to and a summary of the schemas. It is read
+ * from a definition in a single pass and holds no wsdl4j or DOM object, so the definition can be garbage collected
+ * once the record types are generated from its schemas. Equal qualified names share a single instance.
+ *
+ * @param targetNamespace  the target namespace of the definition
+ * @param ports            the SOAP ports of all the services, in document order
+ * @param messages         the messages of the definition referred to by an operation, by name
+ * @param importedMessages the messages referred to by an operation that are only found in an imported definition
+ * @param schemaNamespaces the target namespaces of the schemas in the types of the definition
+ * @param schemaTypes      the part types defined by the schemas, among the parts of the messages
+ * @since 0.1.0
+ */
+public record WsdlModel(String targetNamespace, List<Port> ports, Map<QName, Message> messages,
+                        Map<QName, Message> importedMessages, List<String> schemaNamespaces,
+                        Set<QName> schemaTypes) {
+    private static final String TARGET_NAMESPACE = "targetNamespace";
+
+    public WsdlModel {
+        ports = List.copyOf(ports);
+        messages = Collections.unmodifiableMap(new LinkedHashMap<>(messages));
+        importedMessages = Collections.unmodifiableMap(new LinkedHashMap<>(importedMessages));
+        schemaNamespaces = List.copyOf(schemaNamespaces);
+        schemaTypes = Collections.unmodifiableSet(new LinkedHashSet<>(schemaTypes));
+    }
+
+    /**
+     * Reads the model of a WSDL definition. The operations of a binding are read once, even if several ports
+     * share it, and a binding that cannot be read is recorded as the error of its ports. The documents imported by
+     * the schemas are retrieved directly from their locations.
+     *
+     * @param wsdlDefinition the definition
+     * @param metrics        receives the binding operation cache counters
+     * @return the model
+     */
+    public static WsdlModel read(Definition wsdlDefinition, ConversionMetrics metrics) {
+        return read(wsdlDefinition, metrics, ImportResolver.direct(false));
+    }
+
+    /**
+     * Reads the model of a WSDL definition, retrieving the documents imported by its schemas through the given
+     * resolver.
+     *
+     * @param wsdlDefinition the definition
+     * @param metrics        receives the binding operation cache counters
+     * @param importResolver opens the documents imported or included by the schemas
+     * @return the model
+     */
+    public static WsdlModel read(Definition wsdlDefinition, ConversionMetrics metrics,
+                                 ImportResolver importResolver) {
+        return read(wsdlDefinition, metrics, importResolver, true);
+    }
+
+    /**
+     * Reads the model of a WSDL definition, optionally without the schema types. Finding the part types among the
+     * schemas reads every schema a part type refers to, which listing the operations does not need.
+     *
+     * @param wsdlDefinition  the definition
+     * @param metrics         receives the binding operation cache counters
+     * @param importResolver  opens the documents imported or included by the schemas
+     * @param readSchemaTypes whether to find the part types defined by the schemas
+     * @return the model, with no schema types unless they were read
+     */
+    static WsdlModel read(Definition wsdlDefinition, ConversionMetrics metrics, ImportResolver importResolver,
+                          boolean readSchemaTypes) {
+        Map<QName, QName> qNames = new HashMap<>();
+        BindingOperationCache bindingOperationCache = new BindingOperationCache(metrics);
+        String targetNamespace = wsdlDefinition.getTargetNamespace();
+        List<Port> ports = new ArrayList<>();
+        for (Service service : (Collection<Service>) wsdlDefinition.getAllServices().values()) {
+            for (javax.wsdl.Port port : (Collection<javax.wsdl.Port>) service.getPorts().values()) {
+                SoapPort soapPort = readSoapPort(port, qNames);
+                if (soapPort == null) {
+                    continue;
+                }
+                try {
+                    ports.add(new Port(soapPort, bindingOperationCache.getOperations(soapPort,
+                            loadedPort -> WsdlToBallerina.getWSDLOperations(port.getBinding(), loadedPort)), null));
+                } catch (Exception e) {
+                    ports.add(new Port(soapPort, Map.of(), e));
+                }
+            }
+        }
+
+        Map<QName, Message> messages = new LinkedHashMap<>();
+        Map<QName, Message> importedMessages = new LinkedHashMap<>();
+        for (Port port : ports) {
+            for (WsdlOperation operation : port.operations().values()) {
+                for (String messageName : new String[]{operation.getOperationInput(), operation.getOperationOutput(),
+                        operation.getInputHeaderName()}) {
+                    readMessage(wsdlDefinition, messageName, messages, importedMessages, qNames);
+                }
+            }
+        }
+
+        List<String> schemaNamespaces = new ArrayList<>();
+        Types types = wsdlDefinition.getTypes();
+        if (types != null) {
+            for (Element schemaElement : WsdlToBallerina.getSchemaElements(types)) {
+                schemaNamespaces.add(schemaElement.getAttribute(TARGET_NAMESPACE));
+            }
+        }
+        Set<QName> schemaTypes = new LinkedHashSet<>();
+        if (!readSchemaTypes) {
+            return new WsdlModel(targetNamespace, ports, messages, importedMessages, schemaNamespaces, schemaTypes);
+        }
+        SchemaHandler schemaHandler = new SchemaHandler(wsdlDefinition, importResolver);
+        for (Message message : messages.values()) {
+            for (Part part : message.parts()) {
+                if (part.typeName() != null && schemaHandler.hasType(part.typeName())) {
+                    schemaTypes.add(part.typeName());
+                }
+            }
+        }
+        return new WsdlModel(targetNamespace, ports, messages, importedMessages, schemaNamespaces, schemaTypes);
+    }
+
+    /**
+     * Selects the ports to generate clients for.
+     *
+     * @param portName the name of a port, or an empty string for all the ports
+     * @return the named port or all the ports, or {@code null} if there is no SOAP port with the given name
+     */
+    public List<Port> selectPorts(String portName) {
+        if (portName.isEmpty()) {
+            return ports;
+        }
+        for (Port port : ports) {
+            if (port.soapPort().name().equals(portName)) {
+                return List.of(port);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds a message of the definition, or of the definitions it imports.
+     *
+     * @param name the name of the message
+     * @return the message, or {@code null} if there is none
+     */
+    public Message findMessage(QName name) {
+        Message message = messages.get(name);
+        return message != null ? message : importedMessages.get(name);
+    }
+
+    private static void readMessage(Definition wsdlDefinition, String messageName, Map<QName, Message> messages,
+                                    Map<QName, Message> importedMessages, Map<QName, QName> qNames) {
+        if (messageName == null || messageName.isEmpty()) {
+            return;
+        }
+        QName name = intern(new QName(wsdlDefinition.getTargetNamespace(), messageName), qNames);
+        if (messages.containsKey(name) || importedMessages.containsKey(name)) {
+            return;
+        }
+        javax.wsdl.Message message = (javax.wsdl.Message) wsdlDefinition.getMessages().get(name);
+        if (message != null) {
+            messages.put(name, toMessage(name, message, qNames));
+            return;
+        }
+        message = wsdlDefinition.getMessage(name);
+        if (message != null) {
+            importedMessages.put(name, toMessage(name, message, qNames));
+        }
+    }
+
+    private static Message toMessage(QName name, javax.wsdl.Message message, Map<QName, QName> qNames) {
+        List<Part> parts = new ArrayList<>();
+        // Parts are kept in the iteration order of the wsdl4j message, which decides the payload of a message
+        for (Object partObject : message.getParts().values()) {
+            javax.wsdl.Part part = (javax.wsdl.Part) partObject;
+            parts.add(new Part(part.getName(), intern(part.getElementName(), qNames),
+                    intern(part.getTypeName(), qNames)));
+        }
+        return new Message(name, parts);
+    }
+
+    private static SoapPort readSoapPort(javax.wsdl.Port port, Map<QName, QName> qNames) {
+        QName binding = port.getBinding() == null ? null : intern(port.getBinding().getQName(), qNames);
+        for (Object extension : port.getExtensibilityElements()) {
+            if (extension instanceof SOAPAddress address) {
+                return new SoapPort(SoapVersion.SOAP11, port.getName(), binding, address.getLocationURI());
+            } else if (extension instanceof SOAP12Address address) {
+                return new SoapPort(SoapVersion.SOAP12, port.getName(), binding, address.getLocationURI());
+            }
+        }
+        return null;
+    }
+
+    private static QName intern(QName qName, Map<QName, QName> qNames) {
+        return qName == null ? null : qNames.computeIfAbsent(qName, name -> name);
+    }
+
+    /**
+     * A SOAP port and the operations of its binding.
+     *
+     * @param soapPort   the port
+     * @param operations the operations of the binding by SOAP action, empty if the binding could not be read
+     * @param error      the error raised while reading the binding, or {@code null}
+     */
+    public record Port(SoapPort soapPort, Map<String, WsdlOperation> operations, Exception error) {
+    }
+
+    /**
+     * A WSDL message.
+     *
+     * @param name  the name of the message
+     * @param parts the parts of the message
+     */
+    public record Message(QName name, List<Part> parts) {
+
+        public Message {
+            parts = List.copyOf(parts);
+        }
+
+        /**
+         * Finds a part of the message.
+         *
+         * @param partName the name of the part
+         * @return the part, or {@code null} if the message has no such part
+         */
+        public Part getPart(String partName) {
+            for (Part part : parts) {
+                if (part.name().equals(partName)) {
+                    return part;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A part of a WSDL message, which refers to either a schema element or a schema type.
+     *
+     * @param name        the name of the part
+     * @param elementName the schema element of the part, or {@code null}
+     * @param typeName    the schema type of the part, or {@code null}
+     */
+    public record Part(String name, QName elementName, QName typeName) {
+    }
+}
@@ -0,0 +1,545 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.wsdl.core.handler.model.SoapVersion;
+import io.ballerina.wsdl.core.handler.model.WsdlOperation;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import org.w3c.dom.Attr;
+import org.w3c.dom.CDATASection;
+import org.w3c.dom.Comment;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.wsdl.Definition;
+import javax.wsdl.Types;
+import javax.wsdl.WSDLException;
+import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * A parsed WSDL definition reduced to what a conversion reads from it: its {@link WsdlModel} and the schemas of its
+ * types. A snapshot can be written in a compact, versioned binary format and read back much faster than the WSDL
+ * document can be parsed, since reading it neither parses XML nor resolves imports. Every conversion of a snapshot
+ * gives the same sources as a conversion of the definition it was taken from, whatever the operations and port.
+ *
+ * <p>The schemas are stored as a tree of nodes with their WSDL ancestors, so that they keep the namespace
+ * declarations and the document URI they had in the WSDL document. A snapshot read from a stream is not safe for
+ * concurrent conversions, because the schemas share a DOM document.</p>
+ *
+ * @since 0.1.0
+ */
+public final class WsdlSnapshot {
+    public static final String FILE_EXTENSION = ".wsdlsnap";
+    public static final int FORMAT_VERSION = 1;
+    private static final int MAGIC = 0x57534E50;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final byte END = 0;
+    private static final byte ELEMENT = 1;
+    private static final byte TEXT = 2;
+    private static final byte CDATA = 3;
+    private static final byte COMMENT = 4;
+    private static final byte NO_ERROR = 0;
+    private static final byte WSDL_ERROR = 1;
+    private static final byte GENERAL_ERROR = 2;
+
+    private final WsdlModel wsdlModel;
+    private final List<Element> schemaElements;
+
+    private WsdlSnapshot(WsdlModel wsdlModel, List<Element> schemaElements) {
+        this.wsdlModel = wsdlModel;
+        this.schemaElements = schemaElements == null ? null : List.copyOf(schemaElements);
+    }
+
+    /**
+     * Takes a snapshot of a WSDL definition. The snapshot refers to the schema elements of the definition.
+     *
+     * @param wsdlDefinition the definition
+     * @return the snapshot
+     */
+    public static WsdlSnapshot of(Definition wsdlDefinition) {
+        return of(wsdlDefinition, ImportResolver.direct(false));
+    }
+
+    /**
+     * Takes a snapshot of a WSDL definition, retrieving the documents imported by its schemas through the given
+     * resolver. The snapshot refers to the schema elements of the definition.
+     *
+     * @param wsdlDefinition the definition
+     * @param importResolver opens the documents imported or included by the schemas
+     * @return the snapshot
+     */
+    public static WsdlSnapshot of(Definition wsdlDefinition, ImportResolver importResolver) {
+        Types types = wsdlDefinition.getTypes();
+        return new WsdlSnapshot(WsdlModel.read(wsdlDefinition, new ConversionMetrics(), importResolver),
+                types == null ? null : WsdlToBallerina.getSchemaElements(types));
+    }
+
+    public WsdlModel getWsdlModel() {
+        return wsdlModel;
+    }
+
+    /**
+     * Returns the schemas of the types of the definition.
+     *
+     * @return the schema elements, or {@code null} if the definition has no types
+     */
+    public List<Element> getSchemaElements() {
+        return schemaElements;
+    }
+
+    /**
+     * Tells whether a file starts like a snapshot, of any format version.
+     *
+     * @param file the file
+     * @return whether the file is a snapshot
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean isSnapshot(Path file) throws IOException {
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(file))) {
+            return input.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads a snapshot from a file.
+     *
+     * @param file the snapshot file
+     * @return the snapshot
+     * @throws IOException if the file cannot be read, is not a snapshot or has another format version
+     */
+    public static WsdlSnapshot read(Path file) throws IOException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(input);
+        }
+    }
+
+    /**
+     * Reads a snapshot from a stream, which is not closed.
+     *
+     * @param inputStream the snapshot
+     * @return the snapshot
+     * @throws IOException if the stream cannot be read, is not a snapshot or has another format version
+     */
+    public static WsdlSnapshot read(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(inputStream);
+        if (input.readInt() != MAGIC) {
+            throw new IOException("The file is not a WSDL snapshot");
+        }
+        int version = input.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format("Unsupported WSDL snapshot format version %d, expected %d",
+                    version, FORMAT_VERSION));
+        }
+        return new SnapshotReader(input).readSnapshot();
+    }
+
+    /**
+     * Writes the snapshot to a file atomically.
+     *
+     * @param file the snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                write(output);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the snapshot to a stream, which is flushed but not closed. Every string is written once, in a table
+     * that precedes the content.
+     *
+     * @param outputStream receives the snapshot
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        SnapshotWriter writer = new SnapshotWriter();
+        writer.writeSnapshot(this);
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(writer.strings.size());
+        for (String string : writer.strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+        writer.content.writeTo(output);
+        output.flush();
+    }
+
+    private static final class SnapshotWriter {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final DataOutputStream output = new DataOutputStream(content);
+
+        void writeSnapshot(WsdlSnapshot snapshot) throws IOException {
+            WsdlModel wsdlModel = snapshot.wsdlModel;
+            writeString(wsdlModel.targetNamespace());
+            // Ports sharing a binding share its operations, which are written once
+            Map<Map<String, WsdlOperation>, Integer> operationSets = new IdentityHashMap<>();
+            List<Map<String, WsdlOperation>> distinctOperationSets = new ArrayList<>();
+            for (WsdlModel.Port port : wsdlModel.ports()) {
+                if (operationSets.putIfAbsent(port.operations(), operationSets.size()) == null) {
+                    distinctOperationSets.add(port.operations());
+                }
+            }
+            output.writeInt(distinctOperationSets.size());
+            for (Map<String, WsdlOperation> operations : distinctOperationSets) {
+                writeOperations(operations);
+            }
+            output.writeInt(wsdlModel.ports().size());
+            for (WsdlModel.Port port : wsdlModel.ports()) {
+                SoapPort soapPort = port.soapPort();
+                writeString(soapPort.soapVersion().name());
+                writeString(soapPort.name());
+                writeQName(soapPort.binding());
+                writeString(soapPort.serviceUrl());
+                output.writeInt(operationSets.get(port.operations()));
+                Exception error = port.error();
+                output.writeByte(error == null ? NO_ERROR : error instanceof WSDLException ? WSDL_ERROR
+                        : GENERAL_ERROR);
+                writeString(error == null ? null : error.getMessage());
+            }
+            writeMessages(wsdlModel.messages());
+            writeMessages(wsdlModel.importedMessages());
+            output.writeInt(wsdlModel.schemaNamespaces().size());
+            for (String schemaNamespace : wsdlModel.schemaNamespaces()) {
+                writeString(schemaNamespace);
+            }
+            output.writeInt(wsdlModel.schemaTypes().size());
+            for (QName schemaType : wsdlModel.schemaTypes()) {
+                writeQName(schemaType);
+            }
+            writeSchemas(snapshot.schemaElements);
+        }
+
+        private void writeOperations(Map<String, WsdlOperation> operations) throws IOException {
+            output.writeInt(operations.size());
+            for (Map.Entry<String, WsdlOperation> entry : operations.entrySet()) {
+                WsdlOperation operation = entry.getValue();
+                writeString(entry.getKey());
+                writeString(operation.getOperationName());
+                writeString(operation.getOperationAction());
+                writeString(operation.getOperationInput());
+                writeString(operation.getOperationOutput());
+                writeString(operation.getOperationUri());
+                writeString(operation.getInputHeaderName());
+                output.writeInt(operation.getHeaderElements().size());
+                for (Map.Entry<String, HeaderPart> header : operation.getHeaderElements().entrySet()) {
+                    writeString(header.getKey());
+                    writeString(header.getValue().typeName());
+                    writeString(header.getValue().namespace());
+                }
+            }
+        }
+
+        private void writeMessages(Map<QName, WsdlModel.Message> messages) throws IOException {
+            output.writeInt(messages.size());
+            for (WsdlModel.Message message : messages.values()) {
+                writeQName(message.name());
+                output.writeInt(message.parts().size());
+                for (WsdlModel.Part part : message.parts()) {
+                    writeString(part.name());
+                    writeQName(part.elementName());
+                    writeQName(part.typeName());
+                }
+            }
+        }
+
+        private void writeSchemas(List<Element> schemaElements) throws IOException {
+            output.writeBoolean(schemaElements != null);
+            if (schemaElements == null) {
+                return;
+            }
+            output.writeInt(schemaElements.size());
+            if (schemaElements.isEmpty()) {
+                return;
+            }
+            // The schemas are children of the types element, whose ancestors declare namespaces they may use
+            Element firstSchema = schemaElements.get(0);
+            writeString(firstSchema.getOwnerDocument().getDocumentURI());
+            Deque<Element> ancestors = new ArrayDeque<>();
+            for (Node ancestor = firstSchema.getParentNode(); ancestor instanceof Element element;
+                 ancestor = ancestor.getParentNode()) {
+                ancestors.push(element);
+            }
+            output.writeInt(ancestors.size());
+            for (Element ancestor : ancestors) {
+                writeElementStart(ancestor);
+            }
+            for (Element schemaElement : schemaElements) {
+                writeNode(schemaElement);
+            }
+        }
+
+        private void writeNode(Node node) throws IOException {
+            if (node instanceof Element element) {
+                output.writeByte(ELEMENT);
+                writeElementStart(element);
+                for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+                    writeNode(child);
+                }
+                output.writeByte(END);
+            } else if (node instanceof CDATASection cdata) {
+                output.writeByte(CDATA);
+                writeString(cdata.getData());
+            } else if (node instanceof Text text) {
+                output.writeByte(TEXT);
+                writeString(text.getData());
+            } else if (node instanceof Comment comment) {
+                output.writeByte(COMMENT);
+                writeString(comment.getData());
+            }
+        }
+
+        private void writeElementStart(Element element) throws IOException {
+            writeString(element.getNamespaceURI());
+            writeString(element.getNodeName());
+            NamedNodeMap attributes = element.getAttributes();
+            output.writeInt(attributes.getLength());
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Attr attribute = (Attr) attributes.item(i);
+                writeString(attribute.getNamespaceURI());
+                writeString(attribute.getName());
+                writeString(attribute.getValue());
+            }
+        }
+
+        private void writeQName(QName qName) throws IOException {
+            if (qName == null) {
+                writeString(null);
+                return;
+            }
+            writeString(qName.getNamespaceURI());
+            writeString(qName.getLocalPart());
+        }
+
+        private void writeString(String string) throws IOException {
+            output.writeInt(string == null ? -1 : strings.computeIfAbsent(string, key -> strings.size()));
+        }
+    }
+
+    private static final class SnapshotReader {
+        private final DataInputStream input;
+        private final Map<QName, QName> qNames = new HashMap<>();
+        private String[] strings;
+
+        SnapshotReader(DataInputStream input) {
+            this.input = input;
+        }
+
+        WsdlSnapshot readSnapshot() throws IOException {
+            strings = new String[input.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            String targetNamespace = readString();
+            List<Map<String, WsdlOperation>> operationSets = new ArrayList<>();
+            int operationSetCount = input.readInt();
+            for (int i = 0; i < operationSetCount; i++) {
+                operationSets.add(readOperations());
+            }
+            List<WsdlModel.Port> ports = new ArrayList<>();
+            int portCount = input.readInt();
+            for (int i = 0; i < portCount; i++) {
+                SoapPort soapPort = new SoapPort(SoapVersion.valueOf(readString()), readString(), readQName(),
+                        readString());
+                Map<String, WsdlOperation> operations = operationSets.get(input.readInt());
+                byte errorKind = input.readByte();
+                String errorMessage = readString();
+                Exception error = switch (errorKind) {
+                    case NO_ERROR -> null;
+                    case WSDL_ERROR -> new WSDLException(WSDLException.OTHER_ERROR, errorMessage);
+                    default -> new IllegalStateException(errorMessage);
+                };
+                ports.add(new WsdlModel.Port(soapPort, operations, error));
+            }
+            Map<QName, WsdlModel.Message> messages = readMessages();
+            Map<QName, WsdlModel.Message> importedMessages = readMessages();
+            List<String> schemaNamespaces = new ArrayList<>();
+            int schemaNamespaceCount = input.readInt();
+            for (int i = 0; i < schemaNamespaceCount; i++) {
+                schemaNamespaces.add(readString());
+            }
+            Set<QName> schemaTypes = new LinkedHashSet<>();
+            int schemaTypeCount = input.readInt();
+            for (int i = 0; i < schemaTypeCount; i++) {
+                schemaTypes.add(readQName());
+            }
+            WsdlModel wsdlModel = new WsdlModel(targetNamespace, ports, messages, importedMessages,
+                    schemaNamespaces, schemaTypes);
+            return new WsdlSnapshot(wsdlModel, readSchemas());
+        }
+
+        private Map<String, WsdlOperation> readOperations() throws IOException {
+            Map<String, WsdlOperation> operations = new LinkedHashMap<>();
+            int operationCount = input.readInt();
+            for (int i = 0; i < operationCount; i++) {
+                String key = readString();
+                WsdlOperation.Builder builder = new WsdlOperation.Builder(readString())
+                        .setOperationAction(readString())
+                        .setOperationInput(readString())
+                        .setOperationOutput(readString());
+                builder.setOperationUri(readString());
+                builder.setInputHeaderName(readString());
+                Map<String, HeaderPart> headerElements = new LinkedHashMap<>();
+                int headerCount = input.readInt();
+                for (int j = 0; j < headerCount; j++) {
+                    headerElements.put(readString(), new HeaderPart(readString(), readString()));
+                }
+                operations.put(key, builder.setHeaderElements(headerElements).build());
+            }
+            return Collections.unmodifiableMap(operations);
+        }
+
+        private Map<QName, WsdlModel.Message> readMessages() throws IOException {
+            Map<QName, WsdlModel.Message> messages = new LinkedHashMap<>();
+            int messageCount = input.readInt();
+            for (int i = 0; i < messageCount; i++) {
+                QName name = readQName();
+                List<WsdlModel.Part> parts = new ArrayList<>();
+                int partCount = input.readInt();
+                for (int j = 0; j < partCount; j++) {
+                    parts.add(new WsdlModel.Part(readString(), readQName(), readQName()));
+                }
+                messages.put(name, new WsdlModel.Message(name, parts));
+            }
+            return messages;
+        }
+
+        private List<Element> readSchemas() throws IOException {
+            if (!input.readBoolean()) {
+                return null;
+            }
+            int schemaCount = input.readInt();
+            List<Element> schemaElements = new ArrayList<>();
+            if (schemaCount == 0) {
+                return schemaElements;
+            }
+            Document document = newDocument();
+            document.setDocumentURI(readString());
+            Node parent = document;
+            int ancestorCount = input.readInt();
+            for (int i = 0; i < ancestorCount; i++) {
+                parent = parent.appendChild(readElementStart(document));
+            }
+            for (int i = 0; i < schemaCount; i++) {
+                if (input.readByte() != ELEMENT) {
+                    throw new IOException("Invalid WSDL snapshot: expected a schema element");
+                }
+                Element schemaElement = readElement(document);
+                parent.appendChild(schemaElement);
+                schemaElements.add(schemaElement);
+            }
+            return schemaElements;
+        }
+
+        private Element readElement(Document document) throws IOException {
+            Element element = readElementStart(document);
+            for (byte kind = input.readByte(); kind != END; kind = input.readByte()) {
+                switch (kind) {
+                    case ELEMENT -> element.appendChild(readElement(document));
+                    case TEXT -> element.appendChild(document.createTextNode(readString()));
+                    case CDATA -> element.appendChild(document.createCDATASection(readString()));
+                    case COMMENT -> element.appendChild(document.createComment(readString()));
+                    default -> throw new IOException("Invalid WSDL snapshot: unknown node kind " + kind);
+                }
+            }
+            return element;
+        }
+
+        private Element readElementStart(Document document) throws IOException {
+            Element element = document.createElementNS(readString(), readString());
+            int attributeCount = input.readInt();
+            for (int i = 0; i < attributeCount; i++) {
+                element.setAttributeNS(readString(), readString(), readString());
+            }
+            return element;
+        }
+
+        private QName readQName() throws IOException {
+            String namespaceUri = readString();
+            if (namespaceUri == null) {
+                return null;
+            }
+            return qNames.computeIfAbsent(new QName(namespaceUri, readString()), name -> name);
+        }
+
+        private String readString() throws IOException {
+            int index = input.readInt();
+            if (index < -1 || index >= strings.length) {
+                throw new IOException("Invalid WSDL snapshot: string " + index + " is out of range");
+            }
+            return index == -1 ? null : strings[index];
+        }
+
+        private static Document newDocument() {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            try {
+                return factory.newDocumentBuilder().newDocument();
+            } catch (ParserConfigurationException e) {
+                throw new IllegalStateException("Failed to create an XML document: " + e.getMessage(), e);
+            }
+        }
+    }
+}
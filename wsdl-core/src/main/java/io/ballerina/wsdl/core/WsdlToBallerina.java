@@ -18,11 +18,11 @@
 
 package io.ballerina.wsdl.core;
 
-import com.ibm.wsdl.MessageImpl;
-import com.ibm.wsdl.PartImpl;
 import com.ibm.wsdl.extensions.soap.SOAPHeaderImpl;
 import com.ibm.wsdl.extensions.soap12.SOAP12HeaderImpl;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
@@ -31,59 +31,61 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.wsdl.core.diagnostic.DiagnosticMessage;
 import io.ballerina.wsdl.core.diagnostic.DiagnosticUtils;
+import io.ballerina.wsdl.core.generator.ClientSyntaxFactory;
+import io.ballerina.wsdl.core.generator.ClientSyntaxFactory.HeaderField;
 import io.ballerina.wsdl.core.generator.GeneratedSource;
-import io.ballerina.wsdl.core.handler.SchemaHandler;
+import io.ballerina.wsdl.core.handler.SchemaTreeShaker;
 import io.ballerina.wsdl.core.handler.model.SoapVersion;
 import io.ballerina.wsdl.core.handler.model.WsdlOperation;
-import io.ballerina.xsd.core.node.MemberNode;
-import io.ballerina.xsd.core.visitor.XSDVisitor;
-import io.ballerina.xsd.core.visitor.XSDVisitorImpl;
-import org.apache.ws.commons.schema.XmlSchema;
-import org.apache.ws.commons.schema.XmlSchemaCollection;
+import io.ballerina.wsdl.core.jfr.GenerateClientEvent;
+import io.ballerina.wsdl.core.jfr.GenerateEnvelopeEvent;
+import io.ballerina.wsdl.core.jfr.GenerateTypesEvent;
+import io.ballerina.wsdl.core.jfr.ReadBindingOperationsEvent;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import io.ballerina.wsdl.core.parser.WsdlParser;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
+import javax.wsdl.Binding;
 import javax.wsdl.BindingOperation;
 import javax.wsdl.Definition;
 import javax.wsdl.Message;
 import javax.wsdl.Part;
-import javax.wsdl.Port;
-import javax.wsdl.Service;
 import javax.wsdl.Types;
 import javax.wsdl.WSDLException;
 import javax.wsdl.extensions.schema.Schema;
-import javax.wsdl.extensions.soap.SOAPAddress;
 import javax.wsdl.extensions.soap.SOAPOperation;
-import javax.wsdl.extensions.soap12.SOAP12Address;
 import javax.wsdl.extensions.soap12.SOAP12Operation;
 import javax.xml.namespace.QName;
 
-import static io.ballerina.wsdl.core.Utils.LINE_BREAK;
-import static io.ballerina.xsd.core.Utils.generateModulePartNode;
-import static io.ballerina.xsd.core.XSDToRecord.TARGET_NAMESPACE;
-import static io.ballerina.xsd.core.XSDToRecord.XMLDATA_NAME_ANNOTATION;
-import static io.ballerina.xsd.core.XSDToRecord.generateNodes;
-import static io.ballerina.xsd.core.XSDToRecord.generateResidualNodes;
+import static io.ballerina.wsdl.core.generator.ClientSyntaxFactory.createHeaderRecord;
+import static io.ballerina.wsdl.core.generator.ClientSyntaxFactory.createRemoteFunction;
 import static io.ballerina.xsd.core.visitor.Utils.UNDERSCORE;
-import static io.ballerina.xsd.core.visitor.Utils.URI;
-import static io.ballerina.xsd.core.visitor.Utils.XMLDATA_NAMESPACE;
 import static io.ballerina.xsd.core.visitor.Utils.convertToCamelCase;
 import static io.ballerina.xsd.core.visitor.Utils.isSimpleType;
 import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.EMPTY_STRING;
-import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.QUESTION_MARK;
-import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.RECORD;
-import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.TYPE;
 
 /**
  * Provides functionality to convert WSDL specifications into Ballerina source code.
@@ -91,139 +93,238 @@ import static io.ballerina.xsd.core.visitor.XSDVisitorImpl.TYPE;
  * @since 0.1.0
  */
 public class WsdlToBallerina {
-    public static final String OPEN_BRACES = "{";
-    public static final String CLIENT_ENDPOINT_FIELD = "clientEp";
     private static final String TYPES_FILE_NAME = "types.bal";
     private static final String CLIENT_FILE_NAME = "client.bal";
-    private static final String TARGET_NS = "targetNamespace";
-    public static final String PUBLIC = "public";
-    public static final String WHITESPACE = " ";
-    public static final String ISOLATED = "isolated";
-    public static final String CLIENT = "client";
-    public static final String CLASS = "class";
+    private static final String PARALLEL_MODE = "parallel";
+    private static final String SEQUENTIAL_MODE = "sequential";
     public static final String CLIENT_NAME = "Client";
-    public static final String FINAL = "final";
     public static final String SOAP = "soap";
-    public static final String COLON = ":";
-    public static final String SEMICOLON = ";";
-    public static final String FUNCTION = "function";
-    public static final String INIT = "init";
-    public static final String OPEN_PARENTHESIS = "(";
-    public static final String STRING = "string";
-    public static final String SERVICE_URL = "serviceUrl";
-    public static final String COMMA = ",";
-    public static final String TYPE_INCLUSION = "*";
-    public static final String CLIENT_CONFIG = "ClientConfig";
-    public static final String CONFIG = "config";
-    public static final String CLOSE_PARENTHESIS = ")";
-    public static final String RETURNS = "returns";
-    public static final String ERROR_OR_NIL = "error?";
-    public static final String EQUALS = "=";
-    public static final String CHECK = "check";
-    public static final String NEW = "new";
-    public static final String SELF = "self";
-    public static final String RETURN = "return";
     public static final String EOF_TOKEN = "";
-    public static final String CLOSE_BRACES = "}";
-    public static final String DOT = ".";
-    public static final String PREFIX = "prefix";
-    public static final String REMOTE = "remote";
-    public static final String SOAP_REQUEST = "SoapRequest";
-    public static final String ENVELOPE = "envelope";
-    public static final String SOAP_RESPONSE = "SoapResponse";
-    public static final String VERTICAL_BAR = "|";
-    public static final String ERROR = "error";
     public static final String XML = "xml";
-    public static final String RESULT = "result";
-    public static final String ARROW = "->";
-    public static final String SEND_RECEIVE = "sendReceive";
-    public static final String XMLDATA_TO_XML = "xmldata:toXml";
-    public static final String QUOTATION_MARK = "\"";
-    public static final String XMLDATA_PARSE_AS_TYPE = "xmldata:parseAsType";
     public static final String SOAP11_NAMESPACE = "http://schemas.xmlsoap.org/soap/envelope/";
     public static final String SOAP12_NAMESPACE = "http://www.w3.org/2003/05/soap-envelope";
     public static final String HEADER = "Header";
     public static final String SLASH = "/";
-    public static final String MODULES = "modules";
-    public static final String XMLDATA_NAMESPACE_URI = "@xmldata:Namespace {uri: \"%s\"}";
     public static final String MISSING_HEADER_ELEMENT_ERROR = "Header element name cannot be extracted.";
     public static final String MISSING_DATA_IN_HEADER_ERROR = "Header element is not found in the WSDL Definition: ";
     public static final String MISSING_PART_IN_HEADER_ERROR =
             "Processing Operation ''%s'' - Missing Part ''%s'' in Header ''%s''";
     public static final String OPERATION_NOT_FOUND_ERROR = "WSDL operation is not found: ";
-    private Definition wsdlDefinition;
-    private ArrayList<SoapPort> soapPorts = new ArrayList<>();
-    private SoapVersion soapVersion;
-    private String soapNamespace;
-    private String serviceUrl;
+    public static final String MISSING_TYPES_ERROR = "Could not find <wsdl:types> in the file";
 
-    public Definition getWsdlDefinition() {
-        return wsdlDefinition;
+    private final GenerationOptions options;
+    private final FormattingCache formattingCache;
+    private final ImportResolver importResolver;
+
+    public WsdlToBallerina() {
+        this(GenerationOptions.defaults());
     }
 
-    public void setWsdlDefinition(Definition wsdlDefinition) {
-        this.wsdlDefinition = wsdlDefinition;
+    public WsdlToBallerina(GenerationOptions options) {
+        this(options, null);
     }
 
-    public SoapVersion getSoapVersion() {
-        return soapVersion;
+    /**
+     * Creates a converter that formats only the generated members missing from the given cache, and adds the
+     * formatted members to it.
+     *
+     * @param options         the generation options
+     * @param formattingCache the formatted members of a previous conversion, or {@code null} to format every member
+     */
+    public WsdlToBallerina(GenerationOptions options, FormattingCache formattingCache) {
+        this(options, formattingCache, ImportResolver.direct(false));
     }
 
-    public void setSoapVersion(SoapVersion soapVersion) {
-        this.soapVersion = soapVersion;
+    /**
+     * Creates a converter that retrieves the documents imported or included by the schemas of the definitions it
+     * converts through the given resolver, which should be the one the definitions were parsed with.
+     *
+     * @param options         the generation options
+     * @param formattingCache the formatted members of a previous conversion, or {@code null} to format every member
+     * @param importResolver  opens the documents imported or included by the schemas
+     */
+    public WsdlToBallerina(GenerationOptions options, FormattingCache formattingCache,
+                           ImportResolver importResolver) {
+        this.options = options;
+        this.formattingCache = formattingCache;
+        this.importResolver = importResolver;
     }
 
-    public String getSoapNamespace() {
-        return soapNamespace;
+    public void generateFromWSDL(WsdlToBallerinaResponse response, Definition wsdlDefinition,
+                                 String outputDirectory, List<DiagnosticMessage> diagnosticMessages,
+                                 String[] filteredWSDLOperations, String portName) {
+        generateFromWSDL(response, new AtomicReference<>(wsdlDefinition), outputDirectory, diagnosticMessages,
+                         filteredWSDLOperations, portName);
     }
 
-    public void setSoapNamespace(String soapNamespace) {
-        this.soapNamespace = soapNamespace;
+    /**
+     * Converts a WSDL definition, releasing it as soon as it is no longer needed. The definition is read into a
+     * compact {@link WsdlModel}, and the reference is cleared once the record types are generated from its schemas,
+     * so that the definition and its DOM can be garbage collected before the clients are generated and the sources
+     * are formatted, provided that the caller holds no other reference to it.
+     *
+     * @param response               receives the generated sources and the diagnostics
+     * @param wsdlDefinition         a reference to the definition, which is cleared during the conversion
+     * @param outputDirectory        the directory the sources are generated for
+     * @param diagnosticMessages     receives the errors of the conversion
+     * @param filteredWSDLOperations the SOAP actions of the operations to generate, or an empty array for all
+     * @param portName               the port to generate a client for, or an empty string for all the ports
+     */
+    public void generateFromWSDL(WsdlToBallerinaResponse response, AtomicReference<Definition> wsdlDefinition,
+                                 String outputDirectory, List<DiagnosticMessage> diagnosticMessages,
+                                 String[] filteredWSDLOperations, String portName) {
+        convert(response, new DefinitionInput(wsdlDefinition, importResolver), outputDirectory,
+                diagnosticMessages, filteredWSDLOperations, portName);
     }
 
-    public String getServiceUrl() {
-        return serviceUrl;
+    /**
+     * Converts a snapshot of a WSDL definition. The output is the same as that of the definition the snapshot was
+     * taken from, and the snapshot can be converted again with other operations or another port.
+     *
+     * @param response               receives the generated sources and the diagnostics
+     * @param wsdlSnapshot           the snapshot
+     * @param outputDirectory        the directory the sources are generated for
+     * @param diagnosticMessages     receives the errors of the conversion
+     * @param filteredWSDLOperations the SOAP actions of the operations to generate, or an empty array for all
+     * @param portName               the port to generate a client for, or an empty string for all the ports
+     */
+    public void generateFromSnapshot(WsdlToBallerinaResponse response, WsdlSnapshot wsdlSnapshot,
+                                     String outputDirectory, List<DiagnosticMessage> diagnosticMessages,
+                                     String[] filteredWSDLOperations, String portName) {
+        convert(response, new SnapshotInput(wsdlSnapshot), outputDirectory, diagnosticMessages,
+                filteredWSDLOperations, portName);
     }
 
-    public void setServiceUrl(String serviceUrl) {
-        this.serviceUrl = serviceUrl;
+    /**
+     * Converts a WSDL document held in memory. Every other document the conversion reads, namely the imported WSDL
+     * documents, the documents imported or included by the schemas and the external DTD of the document, is
+     * opened through the given resolver, so the resolver alone decides which files and hosts are read. Relative
+     * locations are resolved against the base URI, or against the working directory without one. Nothing is
+     * written: the generated sources are returned in the response, with file names relative to the output
+     * directory.
+     *
+     * @param response               receives the generated sources and the diagnostics
+     * @param wsdlContent            the content of the WSDL document
+     * @param baseUri                the location relative imports are resolved against, or {@code null}
+     * @param importResolver         opens the imported WSDL and XML schema documents
+     * @param outputDirectory        the directory the sources are generated for
+     * @param diagnosticMessages     receives the errors of the conversion
+     * @param filteredWSDLOperations the SOAP actions of the operations to generate, or an empty array for all
+     * @param portName               the port to generate a client for, or an empty string for all the ports
+     */
+    public void generateFromContent(WsdlToBallerinaResponse response, byte[] wsdlContent, URI baseUri,
+                                    ImportResolver importResolver, String outputDirectory,
+                                    List<DiagnosticMessage> diagnosticMessages, String[] filteredWSDLOperations,
+                                    String portName) {
+        generateFromContent(response, new ByteArrayInputStream(wsdlContent), baseUri, importResolver,
+                            outputDirectory, diagnosticMessages, filteredWSDLOperations, portName);
     }
 
-    public void generateFromWSDL(WsdlToBallerinaResponse response, Definition wsdlDefinition,
-                                 String outputDirectory, List<DiagnosticMessage> diagnosticMessages,
-                                 String[] filteredWSDLOperations, String portName) {
+    /**
+     * Converts a WSDL document read from a stream, which is not closed. As with
+     * {@link #generateFromContent(WsdlToBallerinaResponse, byte[], URI, ImportResolver, String, List, String[],
+     * String)}, every other document is opened through the given resolver and the generated sources are returned
+     * in the response.
+     *
+     * @param response               receives the generated sources and the diagnostics
+     * @param wsdlContent            a stream of the content of the WSDL document
+     * @param baseUri                the location relative imports are resolved against, or {@code null}
+     * @param importResolver         opens the imported WSDL and XML schema documents
+     * @param outputDirectory        the directory the sources are generated for
+     * @param diagnosticMessages     receives the errors of the conversion
+     * @param filteredWSDLOperations the SOAP actions of the operations to generate, or an empty array for all
+     * @param portName               the port to generate a client for, or an empty string for all the ports
+     */
+    public void generateFromContent(WsdlToBallerinaResponse response, InputStream wsdlContent, URI baseUri,
+                                    ImportResolver importResolver, String outputDirectory,
+                                    List<DiagnosticMessage> diagnosticMessages, String[] filteredWSDLOperations,
+                                    String portName) {
+        InputSource inputSource = new InputSource(wsdlContent);
+        if (baseUri != null) {
+            inputSource.setSystemId(baseUri.toString());
+        }
+        // Only the reference holds the parsed definition, so that it can be released during the conversion
+        AtomicReference<Definition> wsdlDefinition = new AtomicReference<>();
+        try (ConversionMetrics.Timer ignored = response.getMetrics().startPhase(ConversionMetrics.PARSE_PHASE)) {
+            wsdlDefinition.set(WsdlParser.parse(inputSource, message -> { }, importResolver));
+        } catch (WSDLException e) {
+            diagnosticMessages.add(DiagnosticMessage.wsdlToBallerinaParserError(e, null));
+            DiagnosticUtils.getDiagnosticResponse(diagnosticMessages, response);
+            return;
+        }
+        convert(response, new DefinitionInput(wsdlDefinition, importResolver), outputDirectory,
+                diagnosticMessages, filteredWSDLOperations, portName);
+    }
+
+    /**
+     * Converts the WSDL document at a location, opening it and every document it refers to, including the
+     * documents imported by its schemas, through the given resolver. A resolver that serves documents from memory
+     * or over HTTP keeps the conversion off the file system.
+     *
+     * @param response               receives the generated sources and the diagnostics
+     * @param location               the absolute location of the WSDL document
+     * @param importResolver         opens the WSDL document and the documents it imports
+     * @param outputDirectory        the directory the sources are generated for
+     * @param diagnosticMessages     receives the errors of the conversion
+     * @param filteredWSDLOperations the SOAP actions of the operations to generate, or an empty array for all
+     * @param portName               the port to generate a client for, or an empty string for all the ports
+     */
+    public void generateFromLocation(WsdlToBallerinaResponse response, URI location, ImportResolver importResolver,
+                                     String outputDirectory, List<DiagnosticMessage> diagnosticMessages,
+                                     String[] filteredWSDLOperations, String portName) {
+        byte[] wsdlContent;
+        try (InputStream wsdlStream = importResolver.open(location)) {
+            wsdlContent = wsdlStream.readAllBytes();
+        } catch (IOException e) {
+            diagnosticMessages.add(DiagnosticMessage.wsdlToBallerinaIOError(e, null));
+            DiagnosticUtils.getDiagnosticResponse(diagnosticMessages, response);
+            return;
+        }
+        generateFromContent(response, wsdlContent, location, importResolver, outputDirectory, diagnosticMessages,
+                            filteredWSDLOperations, portName);
+    }
+
+    private void convert(WsdlToBallerinaResponse response, ConversionInput input, String outputDirectory,
+                         List<DiagnosticMessage> diagnosticMessages, String[] filteredWSDLOperations,
+                         String portName) {
         try {
-            setWsdlDefinition(wsdlDefinition);
-            boolean hasPortName = generateSoapPorts(wsdlDefinition, portName);
-            if (!hasPortName) {
+            ConversionMetrics metrics = response.getMetrics();
+            WsdlModel wsdlModel;
+            try (ConversionMetrics.Timer ignored = metrics.startPhase(ConversionMetrics.BINDING_PHASE)) {
+                wsdlModel = input.readModel(metrics);
+            }
+            List<WsdlModel.Port> ports = wsdlModel.selectPorts(portName);
+            if (ports == null) {
                 DiagnosticMessage message = DiagnosticMessage.wsdlToBallerinaInputError(null);
                 diagnosticMessages.add(message);
                 DiagnosticUtils.getDiagnosticResponse(diagnosticMessages, response);
                 return;
             }
-            Types types = wsdlDefinition.getTypes();
-            Objects.requireNonNull(types, "Could not find <wsdl:types> in the file");
-            generateTypes(response, types, outputDirectory);
-            for (SoapPort port: soapPorts) {
-                setSoapVersion(port.soapVersion());
-                setServiceUrl(port.serviceUrl());
-                setSoapNamespace(getSoapVersion().equals(SoapVersion.SOAP12) ? SOAP12_NAMESPACE : SOAP11_NAMESPACE);
-                initializeSchemas(wsdlDefinition);
-                Map<String, WsdlOperation> wsdlOperations = getWSDLOperations(port.soapPort());
-                ArrayList<WsdlOperation> operations = new ArrayList<>();
-                if (filteredWSDLOperations.length == 0) {
-                    for (Map.Entry<String, WsdlOperation> entry : wsdlOperations.entrySet()) {
-                        operations.add(entry.getValue());
-                    }
-                } else {
-                    for (String operationName : filteredWSDLOperations) {
-                        WsdlOperation operation = validateAndRetrieveOperation(operationName.strip(), wsdlOperations);
-                        operations.add(operation);
-                    }
+            List<SoapPort> soapPorts = ports.stream().map(WsdlModel.Port::soapPort).toList();
+            ConversionContext context = new ConversionContext(wsdlModel, soapPorts, outputDirectory, metrics);
+            if (!input.hasTypes()) {
+                throw new IllegalStateException(MISSING_TYPES_ERROR);
+            }
+            Map<SoapPort, ArrayList<WsdlOperation>> portOperations = new LinkedHashMap<>();
+            for (WsdlModel.Port port : ports) {
+                try {
+                    portOperations.put(port.soapPort(), getPortOperations(port, filteredWSDLOperations));
+                } catch (Exception e) {
+                    diagnosticMessages.add(toDiagnosticMessage(port.soapPort().name(), e));
                 }
-                generateClient(response, outputDirectory, port, operations,
-                               soapPorts.size() > 1 ? port.soapPort().getName() + UNDERSCORE : EMPTY_STRING);
             }
+            if (portOperations.isEmpty()) {
+                DiagnosticUtils.getDiagnosticResponse(diagnosticMessages, response);
+                return;
+            }
+            TypesGenerator.GeneratedTypes generatedTypes = generateTypes(input.takeSchemaElements(), wsdlModel,
+                    portOperations.values(), filteredWSDLOperations.length > 0, metrics);
+            String typesFileName = outputDirectory.equals(EMPTY_STRING)
+                    ? TYPES_FILE_NAME : outputDirectory + SLASH + TYPES_FILE_NAME;
+            String typesSource = format(generatedTypes.modulePartNode(), metrics);
+            response.setTypesSource(new GeneratedSource(typesFileName, typesSource));
+            response.setResolvedNameMeta(generatedTypes.resolvedNameMeta());
+            generateClients(context, response, portOperations, diagnosticMessages);
         } catch (WSDLException e) {
             DiagnosticMessage message = DiagnosticMessage.wsdlToBallerinaError(null);
             diagnosticMessages.add(message);
@@ -234,6 +335,77 @@ public class WsdlToBallerina {
         DiagnosticUtils.getDiagnosticResponse(diagnosticMessages, response);
     }
 
+    private ArrayList<WsdlOperation> getPortOperations(WsdlModel.Port port, String[] filteredWSDLOperations)
+            throws Exception {
+        if (port.error() != null) {
+            throw port.error();
+        }
+        Map<String, WsdlOperation> wsdlOperations = port.operations();
+        ArrayList<WsdlOperation> operations = new ArrayList<>();
+        if (filteredWSDLOperations.length == 0) {
+            for (Map.Entry<String, WsdlOperation> entry : wsdlOperations.entrySet()) {
+                operations.add(entry.getValue());
+            }
+        } else {
+            for (String operationName : filteredWSDLOperations) {
+                WsdlOperation operation = validateAndRetrieveOperation(operationName.strip(), wsdlOperations);
+                operations.add(operation);
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * Generates the clients of the ports, concurrently on the conversion pool if parallel client generation
+     * is enabled. The client sources are added in the order of the ports, and a port that fails only adds a
+     * diagnostic.
+     */
+    private void generateClients(ConversionContext context, WsdlToBallerinaResponse response,
+                                 Map<SoapPort, ArrayList<WsdlOperation>> portOperations,
+                                 List<DiagnosticMessage> diagnosticMessages) {
+        Map<String, String> resolvedNameMeta = response.getResolvedNameMeta();
+        List<String> portNames = new ArrayList<>();
+        List<Callable<GeneratedSource>> tasks = new ArrayList<>();
+        for (Map.Entry<SoapPort, ArrayList<WsdlOperation>> entry : portOperations.entrySet()) {
+            SoapPort port = entry.getKey();
+            String filePrefix = context.hasMultiplePorts() ? port.name() + UNDERSCORE : EMPTY_STRING;
+            portNames.add(port.name());
+            tasks.add(() -> generateClient(context, resolvedNameMeta, port, entry.getValue(), filePrefix));
+        }
+        if (!options.isParallelClientGeneration() || tasks.size() == 1) {
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    response.addClientSource(tasks.get(i).call());
+                } catch (Exception e) {
+                    diagnosticMessages.add(toDiagnosticMessage(portNames.get(i), e));
+                }
+            }
+            return;
+        }
+        try {
+            List<Future<GeneratedSource>> futures = ConversionPool.get().invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    response.addClientSource(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    diagnosticMessages.add(toDiagnosticMessage(portNames.get(i),
+                            cause instanceof Exception exception ? exception : e));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            diagnosticMessages.add(DiagnosticMessage.wsdlToBallerinaGeneralError(e, null));
+        }
+    }
+
+    private static DiagnosticMessage toDiagnosticMessage(String portName, Exception e) {
+        if (e instanceof WSDLException) {
+            return DiagnosticMessage.wsdlToBallerinaPortError(portName, e, null);
+        }
+        return DiagnosticMessage.wsdlToBallerinaGeneralError(e, null);
+    }
+
     public static Header extractHeader(Definition wsdlDefinition, QName headerName, String elementName,
                                        String operationName) {
         Objects.requireNonNull(headerName, MISSING_HEADER_ELEMENT_ERROR);
@@ -246,80 +418,152 @@ public class WsdlToBallerina {
         return new Header(element.getLocalPart(), element.getNamespaceURI());
     }
 
-    private void generateClient(WsdlToBallerinaResponse response, String outputDirectory, SoapPort port,
-                                ArrayList<WsdlOperation> operation, String filePrefix) throws FormatterException {
-        ModulePartNode clientModule = generateClientModule(operation, port.soapPort(), response);
+    private static Header extractHeader(WsdlModel wsdlModel, QName headerName, String elementName,
+                                        String operationName) {
+        Objects.requireNonNull(headerName, MISSING_HEADER_ELEMENT_ERROR);
+        WsdlModel.Message message = wsdlModel.messages().get(headerName);
+        Objects.requireNonNull(message, MISSING_DATA_IN_HEADER_ERROR + headerName);
+        WsdlModel.Part part = message.getPart(elementName);
+        Objects.requireNonNull(part, String.format(MISSING_PART_IN_HEADER_ERROR, operationName, elementName,
+                headerName.getLocalPart()));
+        QName element = part.elementName();
+        return new Header(element.getLocalPart(), element.getNamespaceURI());
+    }
+
+    private GeneratedSource generateClient(ConversionContext context, Map<String, String> resolvedNameMeta,
+                                           SoapPort port, ArrayList<WsdlOperation> operation, String filePrefix)
+            throws FormatterException {
+        GenerateClientEvent event = new GenerateClientEvent();
+        event.begin();
+        ConversionMetrics metrics = context.metrics();
+        String source = formattingCache == null || options.isFastFormatting() ? null
+                : generateCachedClient(context, resolvedNameMeta, port, operation);
+        if (source == null) {
+            ModulePartNode clientModule;
+            try (ConversionMetrics.Timer ignored = metrics.startPhase(ConversionMetrics.CLIENTS_PHASE)) {
+                clientModule = generateClientModule(context, operation, port, resolvedNameMeta);
+            }
+            source = format(clientModule, metrics);
+        }
         String prefix = filePrefix.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+        String outputDirectory = context.outputDirectory();
         String clientFileName = outputDirectory.equals(EMPTY_STRING)
                 ? prefix + CLIENT_FILE_NAME : outputDirectory + SLASH + prefix + CLIENT_FILE_NAME;
-        response.addClientSource(new GeneratedSource(clientFileName, Utils.formatModuleParts(clientModule)));
+        GeneratedSource clientSource = new GeneratedSource(clientFileName, source);
+        if (event.shouldCommit()) {
+            event.port = port.name();
+            event.operationCount = operation.size();
+            event.fileName = clientFileName;
+            event.commit();
+        }
+        return clientSource;
     }
 
-    private void generateTypes(WsdlToBallerinaResponse response, Types types,
-                               String outputDirectory) throws Exception {
-        XSDVisitor xsdVisitor = new XSDVisitorImpl();
-        Map<String, MemberNode> nodes = generateTypeNodes(types, xsdVisitor);
-        ModulePartNode typeNodes = generateModulePartNode(nodes, xsdVisitor);
-        String typesFileName = outputDirectory.equals(EMPTY_STRING)
-                ? TYPES_FILE_NAME : outputDirectory + SLASH + TYPES_FILE_NAME;
-        response.setTypesSource(new GeneratedSource(typesFileName, Utils.formatModuleParts(typeNodes)));
-        response.setResolvedNameMeta(xsdVisitor.getResolvedNameMeta());
+    /**
+     * Generates the record types of the schemas of a definition, pruned to the selected operations if only some of
+     * them are generated. The schemas are not referenced once this returns.
+     */
+    private TypesGenerator.GeneratedTypes generateTypes(List<Element> schemaElements, WsdlModel wsdlModel,
+                                                        Collection<ArrayList<WsdlOperation>> portOperations,
+                                                        boolean filtered, ConversionMetrics metrics)
+            throws Exception {
+        if (filtered) {
+            schemaElements = shakeSchemas(wsdlModel, schemaElements, portOperations);
+        }
+        metrics.add(ConversionMetrics.SCHEMAS, schemaElements.size());
+        GenerateTypesEvent event = new GenerateTypesEvent();
+        event.begin();
+        TypesGenerator.GeneratedTypes generatedTypes;
+        try (ConversionMetrics.Timer ignored = metrics.startPhase(ConversionMetrics.TYPES_PHASE)) {
+            generatedTypes = TypesGenerator.generate(schemaElements, options.isParallelTypeGeneration());
+        }
+        int recordCount = generatedTypes.modulePartNode().members().size();
+        if (event.shouldCommit()) {
+            event.schemaCount = schemaElements.size();
+            event.recordCount = recordCount;
+            event.mode = generatedTypes.parallel() ? PARALLEL_MODE : SEQUENTIAL_MODE;
+            event.commit();
+        }
+        metrics.add(ConversionMetrics.RECORDS, recordCount);
+        return generatedTypes;
     }
 
-    private OperationContext generateEnvelopeTypes(WsdlOperation operation,
-                                                   Map<String, ModuleMemberDeclarationNode> nodes, Port port,
-                                                   Map<String, String> resolvedNameMeta) {
-        String requestType = getElementType(operation.getOperationInput(), getWsdlDefinition(), nodes);
+    private String format(ModulePartNode modulePartNode, ConversionMetrics metrics) throws FormatterException {
+        String source;
+        try (ConversionMetrics.Timer ignored = metrics.startPhase(ConversionMetrics.FORMAT_PHASE)) {
+            source = formattingCache == null ? Utils.formatModuleParts(modulePartNode, options)
+                    : Utils.formatModuleParts(modulePartNode, options, formattingCache);
+        }
+        metrics.add(ConversionMetrics.FORMATTED_CHARACTERS, source.length());
+        return source;
+    }
+
+    private static OperationContext generateEnvelopeTypes(ConversionContext context, WsdlOperation operation,
+                                                          Map<String, ModuleMemberDeclarationNode> nodes,
+                                                          SoapPort port, Map<String, String> resolvedNameMeta) {
+        GenerateEnvelopeEvent event = new GenerateEnvelopeEvent();
+        event.begin();
+        Envelope envelope = describeEnvelope(context, operation, nodes.keySet(), port, resolvedNameMeta);
+        addEnvelopeTypes(envelope, port, nodes);
+        if (event.shouldCommit()) {
+            event.port = port.name();
+            event.operation = operation.getOperationName();
+            event.commit();
+        }
+        return envelope.operationContext();
+    }
+
+    /**
+     * Resolves the names and types the envelope records and the remote function of an operation are generated
+     * from, by reading its messages and headers.
+     *
+     * @param memberNames the names of the envelope records of the preceding operations of the port
+     */
+    private static Envelope describeEnvelope(ConversionContext context, WsdlOperation operation,
+                                             Set<String> memberNames, SoapPort port,
+                                             Map<String, String> resolvedNameMeta) {
+        WsdlModel wsdlModel = context.wsdlModel();
+        String requestType = getElementType(operation.getOperationInput(), wsdlModel, memberNames);
         String requestFieldName = isSimpleType(requestType)
-                ? getElementName(operation.getOperationInput(), getWsdlDefinition()) : requestType;
-        String responseType = getElementType(operation.getOperationOutput(), getWsdlDefinition(), nodes);
+                ? getElementName(operation.getOperationInput(), wsdlModel) : requestType;
+        String responseType = getElementType(operation.getOperationOutput(), wsdlModel, memberNames);
         String responseFieldName = isSimpleType(responseType)
-                ? getElementName(operation.getOperationOutput(), getWsdlDefinition()) : responseType;
-        String suffix = soapPorts.size() > 1 ? convertToPascalCase(port.getName()) : EMPTY_STRING;
+                ? getElementName(operation.getOperationOutput(), wsdlModel) : responseType;
+        String suffix = context.hasMultiplePorts() ? convertToPascalCase(port.name()) : EMPTY_STRING;
         OperationContext operationContext = new OperationContext(operation.getOperationName(), suffix);
-        Utils.generateTypeDefinitions(getSoapNamespace(), nodes, requestType, requestFieldName, responseType,
-                                      responseFieldName, operationContext);
-        ModuleMemberDeclarationNode headerNode = generateHeaderNode(operation, operationContext, resolvedNameMeta);
-        nodes.put(operation.getOperationName() + HEADER, headerNode);
-        return operationContext;
+        return new Envelope(operation, operationContext, requestType, requestFieldName, responseType,
+                responseFieldName, getHeaderFields(wsdlModel, operation, resolvedNameMeta));
     }
 
-    private ModuleMemberDeclarationNode generateHeaderNode(WsdlOperation operation,
-                                                           OperationContext operationContext,
-                                                           Map<String, String> resolvedNameMeta) {
+    private static void addEnvelopeTypes(Envelope envelope, SoapPort port,
+                                         Map<String, ModuleMemberDeclarationNode> nodes) {
+        OperationContext operationContext = envelope.operationContext();
+        Utils.generateTypeDefinitions(port.soapNamespace(), nodes, envelope.requestType(),
+                                      envelope.requestFieldName(), envelope.responseType(),
+                                      envelope.responseFieldName(), operationContext);
+        nodes.put(envelope.operation().getOperationName() + HEADER, createHeaderRecord(
+                operationContext.requestHeaderName(), port.soapNamespace(), envelope.headerFields()));
+    }
+
+    private static List<HeaderField> getHeaderFields(WsdlModel wsdlModel, WsdlOperation operation,
+                                                     Map<String, String> resolvedNameMeta) {
         Map<String, Header> headers = new HashMap<>();
         Map<String, HeaderPart> elementNames = operation.getHeaderElements();
         String localPart = operation.getInputHeaderName();
-        QName headerName = new QName(getWsdlDefinition().getTargetNamespace(), localPart);
+        QName headerName = new QName(wsdlModel.targetNamespace(), localPart);
         for (String elementName : elementNames.keySet()) {
-            Header header = extractHeader(getWsdlDefinition(), headerName, elementName, operation.getOperationName());
+            Header header = extractHeader(wsdlModel, headerName, elementName, operation.getOperationName());
             headers.put(elementName, header);
         }
-        StringBuilder stringBuilder = new StringBuilder();
-        stringBuilder.append(String.format(Utils.XMLDATA_NAMESPACE, SOAP, getSoapNamespace())).append(LINE_BREAK);
-        stringBuilder.append(PUBLIC).append(WHITESPACE).append(TYPE).append(WHITESPACE)
-                .append(operationContext.requestHeaderName()).append(WHITESPACE)
-                .append(RECORD).append(OPEN_BRACES);
+        List<HeaderField> headerFields = new ArrayList<>();
         for (Map.Entry<String, Header> entry : headers.entrySet()) {
-            String key = entry.getKey();
             Header header = entry.getValue();
             String elementName = header.getElementName();
             String namespace = header.getElementNamespace();
             String resolvedName = resolvedNameMeta.getOrDefault(namespace + elementName, elementName);
-            if (!resolvedName.equals(key)) {
-                stringBuilder.append(String.format(XMLDATA_NAME_ANNOTATION, elementName))
-                        .append(XMLDATA_NAMESPACE + WHITESPACE + OPEN_BRACES + PREFIX + COLON + QUOTATION_MARK)
-                        .append(key).append(QUOTATION_MARK).append(COMMA).append(URI).append(COLON)
-                        .append(QUOTATION_MARK).append(namespace).append(QUOTATION_MARK).append(CLOSE_BRACES)
-                        .append(resolvedName).append(WHITESPACE).append(key).append(QUESTION_MARK).append(SEMICOLON);
-            } else {
-                String field = String.format(XMLDATA_NAMESPACE_URI, namespace);
-                stringBuilder.append(field).append(resolvedName).append(WHITESPACE)
-                        .append(key).append(QUESTION_MARK).append(SEMICOLON);
-            }
+            headerFields.add(new HeaderField(entry.getKey(), elementName, namespace, resolvedName));
         }
-        stringBuilder.append(CLOSE_BRACES).append(SEMICOLON);
-        return NodeParser.parseModuleMemberDeclaration(stringBuilder.toString());
+        return headerFields;
     }
 
     private WsdlOperation validateAndRetrieveOperation(String operationName,
@@ -329,26 +573,29 @@ public class WsdlToBallerina {
         return operation;
     }
 
-    private ModulePartNode generateClientModule(ArrayList<WsdlOperation> operations, Port port,
-                                                WsdlToBallerinaResponse response) {
-        StringBuilder clientContext = Utils.generateClientContext(getSoapVersion().toString(), getServiceUrl(),
-                                                                  port, soapPorts.size() > 1);
-        return getClientModulePartNode(clientContext, operations, getSoapVersion().toString(), port, response);
-    }
-
-    private ModulePartNode getClientModulePartNode(StringBuilder stringBuilder, ArrayList<WsdlOperation> operations,
-                                                   String soapVersion, Port port, WsdlToBallerinaResponse response) {
+    static ModulePartNode generateClientModule(ConversionContext context, ArrayList<WsdlOperation> operations,
+                                               SoapPort port, Map<String, String> resolvedNameMeta) {
         Map<String, ModuleMemberDeclarationNode> nodes = new LinkedHashMap<>();
+        List<FunctionDefinitionNode> remoteFunctions = new ArrayList<>();
         for (WsdlOperation operation: operations) {
-            OperationContext operationContext = generateEnvelopeTypes(operation, nodes, port,
-                    response.getResolvedNameMeta());
-            String functionCode = buildRemoteFunctionCode(operationContext, operation.getOperationName(),
-                    operation.getOperationAction());
-            stringBuilder.append(functionCode);
-        }
-        stringBuilder.append(CLOSE_BRACES);
-        ModuleMemberDeclarationNode functionNode = NodeParser.parseModuleMemberDeclaration(stringBuilder.toString());
-        nodes.put("generatedFunctionNode", functionNode);
+            try (ConversionMetrics.Timer ignored = context.metrics()
+                    .startOperation(port.name() + SLASH + operation.getOperationName())) {
+                OperationContext operationContext = generateEnvelopeTypes(context, operation, nodes, port,
+                                                                          resolvedNameMeta);
+                remoteFunctions.add(createRemoteFunction(convertToCamelCase(operation.getOperationName()),
+                        operationContext.requestName(), operationContext.responseName(),
+                        operation.getOperationAction()));
+            }
+            context.metrics().increment(ConversionMetrics.OPERATIONS);
+        }
+        return createClientModule(context, port, nodes, remoteFunctions);
+    }
+
+    private static ModulePartNode createClientModule(ConversionContext context, SoapPort port,
+                                                     Map<String, ModuleMemberDeclarationNode> nodes,
+                                                     List<FunctionDefinitionNode> remoteFunctions) {
+        String soapVersion = port.soapVersion().toString();
+        nodes.put("generatedFunctionNode", createClientClass(context, port, remoteFunctions));
         NodeList<ImportDeclarationNode> imports = generateImportDeclarationNodes(soapVersion);
         List<ModuleMemberDeclarationNode> nodeList = new ArrayList<>(nodes.values());
         Collections.reverse(nodeList);
@@ -357,6 +604,96 @@ public class WsdlToBallerina {
                                                 AbstractNodeFactory.createIdentifierToken(EOF_TOKEN));
     }
 
+    private static ClassDefinitionNode createClientClass(ConversionContext context, SoapPort port,
+                                                         List<FunctionDefinitionNode> remoteFunctions) {
+        String clientName = context.hasMultiplePorts()
+                ? convertToPascalCase(port.name()) + CLIENT_NAME : CLIENT_NAME;
+        return ClientSyntaxFactory.createClientClass(clientName,
+                port.soapVersion().toString().toLowerCase(Locale.ROOT), port.serviceUrl(), remoteFunctions);
+    }
+
+    /**
+     * Generates and formats the client module of a port, reusing the formatted text of the operations that did not
+     * change since the previous conversion. The envelope records and the remote function of an operation are
+     * fingerprinted by the names and types they are generated from, which are read from the binding operation and
+     * its messages and headers, and are generated only if their fingerprint is not found in the formatting cache.
+     *
+     * <p>
+     * Formatting the operations one at a time costs more than formatting the module at once, so like the members of
+     * the types module, the client module is formatted as a whole when the cache is empty, unless parallel
+     * formatting is enabled.
+     *
+     * @return the formatted module, or {@code null} if the module is to be generated and formatted as a whole
+     */
+    private String generateCachedClient(ConversionContext context, Map<String, String> resolvedNameMeta,
+                                        SoapPort port, List<WsdlOperation> operations) throws FormatterException {
+        if (formattingCache.isEmpty() && !options.isParallelFormatting()) {
+            return null;
+        }
+        ConversionMetrics metrics = context.metrics();
+        List<Envelope> envelopes = new ArrayList<>();
+        List<Utils.ClientOperation> clientOperations = new ArrayList<>();
+        try (ConversionMetrics.Timer ignored = metrics.startPhase(ConversionMetrics.CLIENTS_PHASE)) {
+            Set<String> memberNames = new HashSet<>();
+            for (WsdlOperation operation : operations) {
+                Envelope envelope = describeEnvelope(context, operation, memberNames, port, resolvedNameMeta);
+                for (String memberName : envelope.memberNames()) {
+                    // A record replacing the record of another operation keeps its position in the module
+                    if (!memberNames.add(memberName)) {
+                        return null;
+                    }
+                }
+                envelopes.add(envelope);
+            }
+            for (Envelope envelope : envelopes) {
+                WsdlOperation operation = envelope.operation();
+                try (ConversionMetrics.Timer operationTimer = metrics
+                        .startOperation(port.name() + SLASH + operation.getOperationName())) {
+                    clientOperations.add(createClientOperation(envelope, port));
+                }
+                metrics.increment(ConversionMetrics.OPERATIONS);
+            }
+        }
+        String source;
+        try (ConversionMetrics.Timer ignored = metrics.startPhase(ConversionMetrics.FORMAT_PHASE)) {
+            source = Utils.formatClientModule(generateImportDeclarationNodes(port.soapVersion().toString()),
+                    remoteFunctions -> createClientClass(context, port, remoteFunctions), clientOperations,
+                    options, formattingCache);
+        }
+        if (source == null) {
+            Map<String, ModuleMemberDeclarationNode> nodes = new LinkedHashMap<>();
+            List<FunctionDefinitionNode> remoteFunctions = new ArrayList<>();
+            for (Envelope envelope : envelopes) {
+                addEnvelopeTypes(envelope, port, nodes);
+                remoteFunctions.add(envelope.createRemoteFunction());
+            }
+            return format(createClientModule(context, port, nodes, remoteFunctions), metrics);
+        }
+        metrics.add(ConversionMetrics.FORMATTED_CHARACTERS, source.length());
+        return source;
+    }
+
+    /**
+     * Looks up the formatted envelope records and remote function of an operation, and generates the ones that are
+     * not found in the formatting cache.
+     */
+    private Utils.ClientOperation createClientOperation(Envelope envelope, SoapPort port) {
+        String recordsFingerprint = envelope.recordsFingerprint(port);
+        String functionFingerprint = envelope.functionFingerprint();
+        String formattedRecords = formattingCache.find(recordsFingerprint);
+        String formattedFunction = formattingCache.find(functionFingerprint);
+        List<ModuleMemberDeclarationNode> records = null;
+        if (formattedRecords == null) {
+            Map<String, ModuleMemberDeclarationNode> nodes = new LinkedHashMap<>();
+            addEnvelopeTypes(envelope, port, nodes);
+            records = new ArrayList<>(nodes.values());
+            Collections.reverse(records);
+        }
+        FunctionDefinitionNode remoteFunction = formattedFunction == null ? envelope.createRemoteFunction() : null;
+        return new Utils.ClientOperation(envelope.operation().getOperationName(), recordsFingerprint,
+                formattedRecords, records, functionFingerprint, formattedFunction, remoteFunction);
+    }
+
     private static NodeList<ImportDeclarationNode> generateImportDeclarationNodes(String soapVersion) {
         String[] imports = new String[]{
                 "import ballerina/data.xmldata;",
@@ -366,26 +703,6 @@ public class WsdlToBallerina {
         return createImportNodes(imports);
     }
 
-    private static String buildRemoteFunctionCode(OperationContext operationContext, String operationName,
-                                                  String operationAction) {
-        return new StringBuilder()
-            .append(REMOTE).append(WHITESPACE).append(ISOLATED).append(WHITESPACE).append(FUNCTION)
-            .append(WHITESPACE).append(convertToCamelCase(operationName))
-            .append(OPEN_PARENTHESIS).append(operationContext.requestName()).append(WHITESPACE).append(ENVELOPE)
-            .append(CLOSE_PARENTHESIS).append(WHITESPACE).append(RETURNS).append(WHITESPACE)
-            .append(operationContext.responseName()).append(VERTICAL_BAR).append(ERROR).append(WHITESPACE)
-            .append(OPEN_BRACES).append(XML).append(WHITESPACE).append(RESULT).append(WHITESPACE).append(EQUALS)
-            .append(WHITESPACE).append(CHECK).append(WHITESPACE).append(SELF).append(DOT).append(CLIENT_ENDPOINT_FIELD)
-            .append(ARROW).append(SEND_RECEIVE).append(OPEN_PARENTHESIS).append(CHECK).append(WHITESPACE)
-            .append(XMLDATA_TO_XML).append(OPEN_PARENTHESIS).append(ENVELOPE).append(CLOSE_PARENTHESIS)
-            .append(COMMA).append(WHITESPACE).append(QUOTATION_MARK).append(operationAction)
-            .append(QUOTATION_MARK).append(CLOSE_PARENTHESIS).append(SEMICOLON)
-            .append(RETURN).append(WHITESPACE).append(XMLDATA_PARSE_AS_TYPE)
-            .append(OPEN_PARENTHESIS).append(RESULT).append(CLOSE_PARENTHESIS).append(SEMICOLON)
-            .append(CLOSE_BRACES)
-            .toString();
-    }
-
     private static NodeList<ImportDeclarationNode> createImportNodes(String... importStatements) {
         List<ImportDeclarationNode> importNodes = Arrays.stream(importStatements)
                 .map(NodeParser::parseImportDeclaration)
@@ -393,90 +710,80 @@ public class WsdlToBallerina {
         return AbstractNodeFactory.createNodeList(importNodes);
     }
 
-    private Map<String, MemberNode> generateTypeNodes(Types types, XSDVisitor xsdVisitor) throws Exception {
-        List<?> extElements = types.getExtensibilityElements();
-        Map<String, MemberNode> nodes = new LinkedHashMap<>();
-        for (Object extElement : extElements) {
-            if (!(extElement instanceof Schema)) {
-                continue;
+    static List<Element> getSchemaElements(Types types) {
+        List<Element> schemaElements = new ArrayList<>();
+        for (Object extElement : types.getExtensibilityElements()) {
+            if (extElement instanceof Schema schema) {
+                schemaElements.add(schema.getElement());
             }
-            xsdVisitor.setTargetNamespace(((Schema) extElement).getElement().getAttribute(TARGET_NS));
-            generateTypeNode(xsdVisitor, (Schema) extElement, nodes);
         }
-        generateResidualNodes(nodes, xsdVisitor);
-        return nodes;
+        return schemaElements;
     }
 
-    private static void generateTypeNode(XSDVisitor xsdVisitor, Schema schema,
-                                         Map<String, MemberNode> nodes) throws Exception {
-        Element schemaElement = schema.getElement();
-        xsdVisitor.setTargetNamespace(schemaElement.getAttribute(TARGET_NAMESPACE));
-        generateNodes(schemaElement, nodes, xsdVisitor);
+    /**
+     * Prunes the schemas down to the elements and types reachable from the input, output and header messages of
+     * the selected operations.
+     */
+    private static List<Element> shakeSchemas(WsdlModel wsdlModel, List<Element> schemaElements,
+                                              Collection<ArrayList<WsdlOperation>> portOperations) {
+        SchemaTreeShaker treeShaker = new SchemaTreeShaker(schemaElements);
+        for (List<WsdlOperation> operations : portOperations) {
+            for (WsdlOperation operation : operations) {
+                addMessageRoots(treeShaker, wsdlModel, operation.getOperationInput());
+                addMessageRoots(treeShaker, wsdlModel, operation.getOperationOutput());
+                addMessageRoots(treeShaker, wsdlModel, operation.getInputHeaderName());
+            }
+        }
+        return treeShaker.shake();
     }
 
-    private static String getElementType(String messageName, Definition wsdlDefinition,
-                                         Map<String, ModuleMemberDeclarationNode> nodes) {
-        QName qName = new QName(wsdlDefinition.getTargetNamespace(), messageName);
-        MessageImpl message = (MessageImpl) wsdlDefinition.getMessages().get(qName);
+    private static void addMessageRoots(SchemaTreeShaker treeShaker, WsdlModel wsdlModel, String messageName) {
+        if (messageName == null || messageName.isEmpty()) {
+            return;
+        }
+        WsdlModel.Message message = wsdlModel.findMessage(new QName(wsdlModel.targetNamespace(), messageName));
+        if (message == null) {
+            return;
+        }
+        for (WsdlModel.Part part : message.parts()) {
+            if (part.elementName() != null) {
+                treeShaker.addElementRoot(part.elementName());
+            }
+            if (part.typeName() != null) {
+                treeShaker.addTypeRoot(part.typeName());
+            }
+        }
+    }
+
+    private static String getElementType(String messageName, WsdlModel wsdlModel, Set<String> memberNames) {
+        WsdlModel.Message message = wsdlModel.messages().get(new QName(wsdlModel.targetNamespace(), messageName));
         Objects.requireNonNull(message, "Message not found: " + messageName);
-        Map<String, PartImpl> parts = message.getParts();
+        List<WsdlModel.Part> parts = message.parts();
         if (parts.isEmpty()) {
             throw new IllegalStateException("No parts found for message: " + messageName);
         }
-        for (Map.Entry<String, PartImpl> entry : parts.entrySet()) {
-            PartImpl part = entry.getValue();
-            if (part.getTypeName() != null) {
-                String requestType = part.getTypeName().getLocalPart();
-                if (nodes.containsKey(requestType) || isSimpleType(requestType)) {
+        for (WsdlModel.Part part : parts) {
+            if (part.typeName() != null) {
+                String requestType = part.typeName().getLocalPart();
+                if (memberNames.contains(requestType) || isSimpleType(requestType)
+                        || wsdlModel.schemaTypes().contains(part.typeName())) {
                     return requestType;
                 }
             }
-            return part.getElementName().getLocalPart();
+            return part.elementName().getLocalPart();
         }
         throw new IllegalStateException("Unexpected state: Unable to determine element " +
                 "type for message: " + messageName);
     }
 
-    private static String getElementName(String messageName, Definition wsdlDefinition) {
-        QName qName = new QName(wsdlDefinition.getTargetNamespace(), messageName);
-        MessageImpl message = (MessageImpl) wsdlDefinition.getMessages().get(qName);
+    private static String getElementName(String messageName, WsdlModel wsdlModel) {
+        WsdlModel.Message message = wsdlModel.messages().get(new QName(wsdlModel.targetNamespace(), messageName));
         Objects.requireNonNull(message, "Message not found: " + messageName);
-        Map<String, PartImpl> parts = message.getParts();
+        List<WsdlModel.Part> parts = message.parts();
         if (parts.isEmpty()) {
             throw new IllegalStateException("No parts found for message: " + messageName);
         }
-        return parts.keySet().iterator().next();
-    }
-
-    private boolean generateSoapPorts(Definition wsdlDefinition, String portName) {
-        boolean hasPortName = false;
-        Collection<Service> services = wsdlDefinition.getAllServices().values();
-        for (Service service : services) {
-            for (Port port : (Collection<Port>) service.getPorts().values()) {
-                hasPortName = port.getName().equals(portName);
-                SoapPort soapPort = extractSoapPort(port);
-                if (soapPort != null) {
-                    soapPorts.add(soapPort);
-                    if (portName.equals(port.getName())) {
-                        soapPorts.clear();
-                        soapPorts.add(soapPort);
-                        return true;
-                    }
-                }
-            }
-        }
-        return hasPortName || portName.isEmpty();
-    }
-
-    private SoapPort extractSoapPort(Port port) {
-        for (Object extension : port.getExtensibilityElements()) {
-            if (extension instanceof SOAPAddress) {
-                return new SoapPort(SoapVersion.SOAP11, port, ((SOAPAddress) extension).getLocationURI());
-            } else if (extension instanceof SOAP12Address) {
-                return new SoapPort(SoapVersion.SOAP12, port, ((SOAP12Address) extension).getLocationURI());
-            }
-        }
-        return null;
+        return parts.get(0).name();
     }
 
     public static String convertToPascalCase(String pascalCase) {
@@ -487,30 +794,13 @@ public class WsdlToBallerina {
         return Character.toUpperCase(pascalCase.charAt(0)) + pascalCase.substring(1);
     }
 
-    private void initializeSchemas(Definition wsdlDefinition) {
-        Map<String, XmlSchema> targetNSToSchema = new HashMap<>();
-        Types types = wsdlDefinition.getTypes();
-        List<?> extensions = new ArrayList<>();
-        if (types != null) {
-            extensions = wsdlDefinition.getTypes().getExtensibilityElements();
-        }
-        for (Object extension : extensions) {
-            if (extension instanceof Schema) {
-                Element schElement = ((Schema) extension).getElement();
-                String targetNamespace = schElement.getAttribute(TARGET_NS);
-                if (!targetNamespace.isEmpty()) {
-                    targetNSToSchema.put(targetNamespace, new XmlSchemaCollection().read(schElement));
-                }
-            }
-        }
-        SchemaHandler.getInstance().initializeSchemas(targetNSToSchema);
-    }
-
-    private Map<String, WsdlOperation> getWSDLOperations(Port soapPort) throws Exception {
+    static Map<String, WsdlOperation> getWSDLOperations(Binding binding, SoapPort port) throws Exception {
+        ReadBindingOperationsEvent event = new ReadBindingOperationsEvent();
+        event.begin();
         Map<String, WsdlOperation> wsdlOperations = new HashMap<>();
-        for (Object op : soapPort.getBinding().getBindingOperations()) {
+        for (Object op : binding.getBindingOperations()) {
             BindingOperation bindingOperation = (BindingOperation) op;
-            WsdlOperation wsdlOperation = getWsdlOperation(bindingOperation);
+            WsdlOperation wsdlOperation = getWsdlOperation(bindingOperation, port.soapVersion());
             Objects.requireNonNull(bindingOperation.getBindingInput(),
                     "Invalid binding operation: Binding input is null.");
             Objects.requireNonNull(bindingOperation.getBindingOutput(),
@@ -518,7 +808,8 @@ public class WsdlToBallerina {
             String inputPayload = bindingOperation.getBindingInput().getName();
             String outputPayload = bindingOperation.getBindingOutput().getName();
             Map<String, HeaderPart> headerParts = new HashMap<>();
-            String inputHeaderName = generateSOAPInputHeaderParts(bindingOperation, headerParts, getSoapVersion());
+            String inputHeaderName = generateSOAPInputHeaderParts(bindingOperation, headerParts,
+                                                                  port.soapVersion());
             Objects.requireNonNull(bindingOperation.getOperation().getInput().getMessage(),
                     "Message element is missing in the input of the operation: " +
                     bindingOperation.getOperation().getName());
@@ -540,6 +831,13 @@ public class WsdlToBallerina {
                     .build();
             wsdlOperations.put(wsdlOperation.getOperationAction(), wsdlOperation);
         }
+        if (event.shouldCommit()) {
+            event.port = port.name();
+            event.binding = String.valueOf(port.binding());
+            event.soapVersion = port.soapVersion().toString();
+            event.operationCount = wsdlOperations.size();
+            event.commit();
+        }
         return wsdlOperations;
     }
 
@@ -578,13 +876,13 @@ public class WsdlToBallerina {
         return headerMessageName;
     }
 
-    private WsdlOperation getWsdlOperation(BindingOperation bindingOperation) {
+    private static WsdlOperation getWsdlOperation(BindingOperation bindingOperation, SoapVersion soapVersion) {
         String operationName = bindingOperation.getName();
         String operationAction = null;
         for (Object element : bindingOperation.getExtensibilityElements()) {
-            if (getSoapVersion() == SoapVersion.SOAP11 && element instanceof SOAPOperation soapOperation) {
+            if (soapVersion == SoapVersion.SOAP11 && element instanceof SOAPOperation soapOperation) {
                 operationAction = soapOperation.getSoapActionURI();
-            } else if (getSoapVersion() == SoapVersion.SOAP12 && element instanceof SOAP12Operation soapOperation) {
+            } else if (soapVersion == SoapVersion.SOAP12 && element instanceof SOAP12Operation soapOperation) {
                 operationAction = soapOperation.getSoapActionURI();
             }
         }
@@ -592,4 +890,96 @@ public class WsdlToBallerina {
                 .setOperationAction(operationAction)
                 .build();
     }
+
+    /**
+     * The names and types the envelope records and the remote function of an operation are generated from.
+     */
+    private record Envelope(WsdlOperation operation, OperationContext operationContext, String requestType,
+                            String requestFieldName, String responseType, String responseFieldName,
+                            List<HeaderField> headerFields) {
+
+        /**
+         * Returns the keys of the envelope records in the generated nodes of a port.
+         */
+        List<String> memberNames() {
+            return List.of(operationContext.requestName(), operationContext.requestBodyName(),
+                    operationContext.responseName(), operationContext.responseBodyName(),
+                    operation.getOperationName() + HEADER);
+        }
+
+        String recordsFingerprint(SoapPort port) {
+            List<String> values = new ArrayList<>(Arrays.asList(port.soapNamespace(), operationContext.requestName(),
+                    operationContext.responseName(), operationContext.requestHeaderName(),
+                    operationContext.requestBodyName(), operationContext.responseBodyName(), requestType,
+                    requestFieldName, responseType, responseFieldName));
+            for (HeaderField headerField : headerFields) {
+                values.addAll(Arrays.asList(headerField.fieldName(), headerField.elementName(),
+                        headerField.namespace(), headerField.typeName()));
+            }
+            return FormattingCache.fingerprint("records", values);
+        }
+
+        String functionFingerprint() {
+            return FormattingCache.fingerprint("function", Arrays.asList(
+                    convertToCamelCase(operation.getOperationName()), operationContext.requestName(),
+                    operationContext.responseName(), operation.getOperationAction()));
+        }
+
+        FunctionDefinitionNode createRemoteFunction() {
+            return ClientSyntaxFactory.createRemoteFunction(convertToCamelCase(operation.getOperationName()),
+                    operationContext.requestName(), operationContext.responseName(), operation.getOperationAction());
+        }
+    }
+
+    /**
+     * The WSDL definition a conversion reads, as a parsed definition or a snapshot of one.
+     */
+    private interface ConversionInput {
+
+        WsdlModel readModel(ConversionMetrics metrics);
+
+        boolean hasTypes();
+
+        /**
+         * Returns the schemas of the types of the definition, after which the input may release the definition.
+         */
+        List<Element> takeSchemaElements();
+    }
+
+    private record DefinitionInput(AtomicReference<Definition> wsdlDefinition, ImportResolver importResolver)
+            implements ConversionInput {
+
+        @Override
+        public WsdlModel readModel(ConversionMetrics metrics) {
+            return WsdlModel.read(wsdlDefinition.get(), metrics, importResolver);
+        }
+
+        @Override
+        public boolean hasTypes() {
+            return wsdlDefinition.get().getTypes() != null;
+        }
+
+        @Override
+        public List<Element> takeSchemaElements() {
+            return getSchemaElements(wsdlDefinition.getAndSet(null).getTypes());
+        }
+    }
+
+    private record SnapshotInput(WsdlSnapshot wsdlSnapshot) implements ConversionInput {
+
+        @Override
+        public WsdlModel readModel(ConversionMetrics metrics) {
+            return wsdlSnapshot.getWsdlModel();
+        }
+
+        @Override
+        public boolean hasTypes() {
+            return wsdlSnapshot.getSchemaElements() != null;
+        }
+
+        @Override
+        public List<Element> takeSchemaElements() {
+            return wsdlSnapshot.getSchemaElements();
+        }
+    }
 }
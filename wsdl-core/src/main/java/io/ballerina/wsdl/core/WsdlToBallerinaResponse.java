@@ -36,6 +36,7 @@ public class WsdlToBallerinaResponse {
     private GeneratedSource typesSource;
     private Map<String, String> resolvedNameMeta = new HashMap<>();
     private List<WsdlToBallerinaDiagnostic> diagnostics = new ArrayList<>();
+    private final ConversionMetrics metrics = new ConversionMetrics();
 
     public ArrayList<GeneratedSource> getClientSources() {
         return clientSources;
@@ -68,4 +69,8 @@ public class WsdlToBallerinaResponse {
     public void setDiagnostics(List<WsdlToBallerinaDiagnostic> diagnostics) {
         this.diagnostics = diagnostics;
     }
+
+    public ConversionMetrics getMetrics() {
+        return metrics;
+    }
 }
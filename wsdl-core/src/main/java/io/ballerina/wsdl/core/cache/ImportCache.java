@@ -0,0 +1,223 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.cache;
+
+import io.ballerina.wsdl.core.parser.ImportResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A persistent cache of the remote documents imported by WSDL definitions. Documents are stored once under the
+ * SHA-256 hash of their content in the {@code objects} directory, and each retrieved location is recorded in the
+ * {@code refs} directory as a file named after the hash of the location and holding the hash of its content.
+ * Remote locations found in the cache are served without touching the network; other locations are retrieved
+ * through the delegate resolver and stored. Documents on the local file system are never cached.
+ *
+ * <p>A cached location is retrieved again once its entry is older than the maximum age, one day by default, so
+ * that changes to remote documents are picked up. If the document cannot be retrieved again, for example in
+ * offline mode, the cached copy is served instead, unless the maximum age is zero, which forces every remote
+ * location to be retrieved.</p>
+ *
+ * <p>Every file is written to a temporary file and moved into place, so the cache can be shared by concurrent
+ * conversions and processes. A cached document whose content no longer matches its hash is retrieved again.</p>
+ *
+ * @since 0.1.0
+ */
+public class ImportCache implements ImportResolver {
+    public static final String BALLERINA_HOME_DIR = "BALLERINA_HOME_DIR";
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofDays(1);
+    private static final String USER_HOME = "user.home";
+    private static final String BALLERINA_USER_DIR = ".ballerina";
+    private static final String OBJECTS_DIR = "objects";
+    private static final String REFS_DIR = "refs";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path objectsDirectory;
+    private final Path refsDirectory;
+    private final ImportResolver delegate;
+    private final Duration maxAge;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    public ImportCache(Path cacheDirectory, ImportResolver delegate) {
+        this(cacheDirectory, delegate, DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * Creates a cache whose entries are retrieved again once they are older than the given age.
+     *
+     * @param cacheDirectory the cache directory
+     * @param delegate       retrieves the documents that are not in the cache
+     * @param maxAge         the age after which a cached location is retrieved again, or zero to retrieve every
+     *                       remote location and only update the cache
+     */
+    public ImportCache(Path cacheDirectory, ImportResolver delegate, Duration maxAge) {
+        this.objectsDirectory = cacheDirectory.resolve(OBJECTS_DIR);
+        this.refsDirectory = cacheDirectory.resolve(REFS_DIR);
+        this.delegate = delegate;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Returns the default cache location, {@code wsdl/cache/imports} under the Ballerina user home. The user home
+     * is {@code ~/.ballerina} unless overridden by the {@value #BALLERINA_HOME_DIR} environment variable.
+     *
+     * @return the default cache directory
+     */
+    public static Path defaultDirectory() {
+        return ballerinaUserHome().resolve("wsdl").resolve("cache").resolve("imports");
+    }
+
+    /**
+     * Returns the Ballerina user home directory.
+     *
+     * @return the value of the {@value #BALLERINA_HOME_DIR} environment variable if set, {@code ~/.ballerina}
+     * otherwise
+     */
+    public static Path ballerinaUserHome() {
+        String ballerinaHome = System.getenv(BALLERINA_HOME_DIR);
+        if (ballerinaHome != null && !ballerinaHome.isBlank()) {
+            return Paths.get(ballerinaHome);
+        }
+        return Paths.get(System.getProperty(USER_HOME), BALLERINA_USER_DIR);
+    }
+
+    @Override
+    public InputStream open(URI location) throws IOException {
+        if (FILE_SCHEME.equals(location.getScheme())) {
+            return delegate.open(location);
+        }
+        Path refFile = refsDirectory.resolve(hash(location.toString().getBytes(StandardCharsets.UTF_8)));
+        Optional<byte[]> cachedContent = maxAge.isZero() ? Optional.empty() : readCached(refFile);
+        if (cachedContent.isPresent() && !isExpired(refFile)) {
+            hits.incrementAndGet();
+            return new ByteArrayInputStream(cachedContent.get());
+        }
+        byte[] content;
+        try (InputStream remoteStream = delegate.open(location)) {
+            content = remoteStream.readAllBytes();
+        } catch (IOException e) {
+            if (cachedContent.isPresent()) {
+                hits.incrementAndGet();
+                return new ByteArrayInputStream(cachedContent.get());
+            }
+            misses.incrementAndGet();
+            throw e;
+        }
+        misses.incrementAndGet();
+        store(refFile, content);
+        return new ByteArrayInputStream(content);
+    }
+
+    /**
+     * Returns the number of remote documents served from the cache.
+     *
+     * @return the cache hit count
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of remote documents that were not in the cache and had to be retrieved.
+     *
+     * @return the cache miss count
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    private boolean isExpired(Path refFile) throws IOException {
+        Instant storedAt = Files.getLastModifiedTime(refFile).toInstant();
+        return storedAt.plus(maxAge).isBefore(Instant.now());
+    }
+
+    private Optional<byte[]> readCached(Path refFile) throws IOException {
+        if (!Files.isRegularFile(refFile)) {
+            return Optional.empty();
+        }
+        String contentHash = Files.readString(refFile, StandardCharsets.US_ASCII).trim();
+        Path objectFile = objectsDirectory.resolve(contentHash);
+        if (!Files.isRegularFile(objectFile)) {
+            return Optional.empty();
+        }
+        byte[] content = Files.readAllBytes(objectFile);
+        return contentHash.equals(hash(content)) ? Optional.of(content) : Optional.empty();
+    }
+
+    private void store(Path refFile, byte[] content) throws IOException {
+        String contentHash = hash(content);
+        Path objectFile = objectsDirectory.resolve(contentHash);
+        if (!Files.isRegularFile(objectFile)) {
+            writeAtomically(objectFile, content);
+        }
+        writeAtomically(refFile, contentHash.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static void writeAtomically(Path file, byte[] content) throws IOException {
+        Path directory = file.getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            Files.write(tempFile, content);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(HASH_ALGORITHM).digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported by this runtime", e);
+        }
+    }
+
+    static String hash(InputStream content) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported by this runtime", e);
+        }
+        byte[] buffer = new byte[BUFFER_SIZE];
+        for (int count = content.read(buffer); count != -1; count = content.read(buffer)) {
+            digest.update(buffer, 0, count);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.cache;
+
+import io.ballerina.wsdl.core.GenerationOptions;
+import io.ballerina.wsdl.core.WsdlToBallerinaResponse;
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * A persistent cache of generated sources, so that converting an unchanged WSDL file with the same options again
+ * neither parses the WSDL file nor generates or formats any source. Each entry is a file named after the
+ * fingerprint of the conversion, which covers the content of the WSDL file, the requested operations, port and
+ * output directory, the generation options and the tool version. An entry also records the locations and content
+ * hashes of the documents imported while the WSDL file was parsed, and is only used if all of them still resolve
+ * to the same content.
+ *
+ * <p>The least recently used entries are evicted once the entries exceed the size limit of the cache. Entries are
+ * written to a temporary file and moved into place, so the cache can be shared by concurrent processes.</p>
+ *
+ * @since 0.1.0
+ */
+public class ResultCache {
+    public static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+    private static final int MAGIC = 0x5753444C;
+    private static final int FORMAT_VERSION = 1;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String TOOL_PROPERTIES = "tool.properties";
+    private static final String VERSION_PROPERTY = "version";
+    private static final String UNKNOWN_VERSION = "unknown";
+    private static final String SNAPSHOT_SUFFIX = "-SNAPSHOT";
+    private static final char SEPARATOR = '\0';
+
+    private final Path cacheDirectory;
+    private final long maxSize;
+
+    public ResultCache(Path cacheDirectory, long maxSize) {
+        this.cacheDirectory = cacheDirectory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the default cache location, {@code wsdl/cache/results} under the Ballerina user home.
+     *
+     * @return the default cache directory
+     */
+    public static Path defaultDirectory() {
+        return ImportCache.ballerinaUserHome().resolve("wsdl").resolve("cache").resolve("results");
+    }
+
+    /**
+     * Returns the version of the tool, which is part of every fingerprint so that upgrading the tool never serves
+     * sources generated by an earlier version.
+     *
+     * @return the tool version
+     */
+    public static String toolVersion() {
+        try (InputStream propertiesStream = ResultCache.class.getResourceAsStream(TOOL_PROPERTIES)) {
+            if (propertiesStream == null) {
+                return UNKNOWN_VERSION;
+            }
+            Properties properties = new Properties();
+            properties.load(propertiesStream);
+            String version = properties.getProperty(VERSION_PROPERTY, UNKNOWN_VERSION);
+            // Snapshot builds share a version, so they are told apart by the time the tool was built
+            return version.endsWith(SNAPSHOT_SUFFIX) ? version + "+" + buildTime() : version;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long buildTime() throws IOException {
+        CodeSource codeSource = ResultCache.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return 0;
+        }
+        try {
+            return Files.getLastModifiedTime(Paths.get(codeSource.getLocation().toURI())).toMillis();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Computes the fingerprint of a conversion.
+     *
+     * @param wsdlFile        the WSDL file, which is hashed as it is read rather than loaded into memory
+     * @param outputDirectory the directory the sources are generated for
+     * @param operations      the requested operations, or an empty array for all the operations
+     * @param portName        the requested port, or an empty string for all the ports
+     * @param options         the generation options
+     * @return the fingerprint
+     * @throws IOException if the WSDL file cannot be read
+     */
+    public static String fingerprint(Path wsdlFile, String outputDirectory, String[] operations,
+                                     String portName, GenerationOptions options) throws IOException {
+        String wsdlHash;
+        try (InputStream wsdlStream = Files.newInputStream(wsdlFile)) {
+            wsdlHash = ImportCache.hash(wsdlStream);
+        }
+        StringBuilder builder = new StringBuilder()
+                .append(toolVersion()).append(SEPARATOR)
+                .append(FORMAT_VERSION).append(SEPARATOR)
+                .append(wsdlHash).append(SEPARATOR)
+                .append(outputDirectory).append(SEPARATOR)
+                .append(portName).append(SEPARATOR)
+                .append(options.isFastFormatting()).append(SEPARATOR)
+                .append(operations.length);
+        for (String operation : operations) {
+            builder.append(SEPARATOR).append(operation);
+        }
+        return ImportCache.hash(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Looks up the sources of a conversion. The imports recorded with the entry are opened through the given
+     * resolver, and the entry is only used if each of them still has the recorded content.
+     *
+     * @param fingerprint    the fingerprint of the conversion
+     * @param importResolver opens the imported documents
+     * @return a response holding the cached sources, or an empty optional if there is no valid entry
+     */
+    public Optional<WsdlToBallerinaResponse> get(String fingerprint, ImportResolver importResolver) {
+        Path entryFile = cacheDirectory.resolve(fingerprint);
+        if (!Files.isRegularFile(entryFile)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(entryFile)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            int importCount = input.readInt();
+            for (int i = 0; i < importCount; i++) {
+                URI location = URI.create(input.readUTF());
+                String contentHash = input.readUTF();
+                try (InputStream importStream = importResolver.open(location)) {
+                    if (!contentHash.equals(ImportCache.hash(importStream))) {
+                        return Optional.empty();
+                    }
+                }
+            }
+            WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+            if (input.readBoolean()) {
+                response.setTypesSource(readSource(input));
+            }
+            int clientCount = input.readInt();
+            for (int i = 0; i < clientCount; i++) {
+                response.addClientSource(readSource(input));
+            }
+            Files.setLastModifiedTime(entryFile, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(response);
+        } catch (IOException | IllegalArgumentException e) {
+            // A truncated entry or an import that can no longer be opened is a miss
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the sources of a successful conversion and evicts the least recently used entries if the cache
+     * exceeds its size limit. Responses with diagnostics are not stored.
+     *
+     * @param fingerprint the fingerprint of the conversion
+     * @param imports     the content hashes of the documents imported by the WSDL file, by location
+     * @param response    the response of the conversion
+     */
+    public void put(String fingerprint, Map<String, String> imports, WsdlToBallerinaResponse response)
+            throws IOException {
+        if (!response.getDiagnostics().isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(imports.size());
+            for (Map.Entry<String, String> entry : imports.entrySet()) {
+                output.writeUTF(entry.getKey());
+                output.writeUTF(entry.getValue());
+            }
+            GeneratedSource typesSource = response.getTypesSource();
+            output.writeBoolean(typesSource != null);
+            if (typesSource != null) {
+                writeSource(output, typesSource);
+            }
+            output.writeInt(response.getClientSources().size());
+            for (GeneratedSource clientSource : response.getClientSources()) {
+                writeSource(output, clientSource);
+            }
+        }
+        ImportCache.writeAtomically(cacheDirectory.resolve(fingerprint), bytes.toByteArray());
+        evict();
+    }
+
+    /**
+     * Returns the entries of the cache, the most recently used first.
+     *
+     * @return the cache entries
+     */
+    public List<Entry> entries() throws IOException {
+        if (!Files.isDirectory(cacheDirectory)) {
+            return List.of();
+        }
+        List<Entry> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : files.toList()) {
+                if (file.getFileName().toString().endsWith(TEMP_FILE_SUFFIX)) {
+                    continue;
+                }
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    entries.add(new Entry(file.getFileName().toString(), attributes.size(),
+                            attributes.lastModifiedTime()));
+                } catch (NoSuchFileException e) {
+                    // Evicted by a concurrent process
+                }
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::lastUsed).reversed());
+        return entries;
+    }
+
+    /**
+     * Removes every entry of the cache.
+     *
+     * @return the number of removed entries
+     */
+    public int clear() throws IOException {
+        int removed = 0;
+        for (Entry entry : entries()) {
+            if (Files.deleteIfExists(cacheDirectory.resolve(entry.fingerprint()))) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the directory of the cache.
+     *
+     * @return the cache directory
+     */
+    public Path getDirectory() {
+        return cacheDirectory;
+    }
+
+    /**
+     * Returns the size limit of the cache.
+     *
+     * @return the maximum total size of the entries, in bytes
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns a resolver that records the content hash of every document it opens through the given resolver, to
+     * be stored with the entry of the conversion.
+     *
+     * @param delegate the resolver that opens the documents
+     * @return the recording resolver
+     */
+    public static RecordingImportResolver recording(ImportResolver delegate) {
+        return new RecordingImportResolver(delegate);
+    }
+
+    private void evict() throws IOException {
+        List<Entry> entries = entries();
+        long totalSize = entries.stream().mapToLong(Entry::size).sum();
+        for (int i = entries.size() - 1; i >= 0 && totalSize > maxSize; i--) {
+            Files.deleteIfExists(cacheDirectory.resolve(entries.get(i).fingerprint()));
+            totalSize -= entries.get(i).size();
+        }
+    }
+
+    private static GeneratedSource readSource(DataInputStream input) throws IOException {
+        String fileName = input.readUTF();
+        byte[] content = new byte[input.readInt()];
+        input.readFully(content);
+        return new GeneratedSource(fileName, new String(content, StandardCharsets.UTF_8));
+    }
+
+    private static void writeSource(DataOutputStream output, GeneratedSource source) throws IOException {
+        output.writeUTF(source.fileName());
+        byte[] content = source.content().getBytes(StandardCharsets.UTF_8);
+        output.writeInt(content.length);
+        output.write(content);
+    }
+
+    /**
+     * An entry of the cache.
+     *
+     * @param fingerprint the fingerprint of the cached conversion
+     * @param size        the size of the entry, in bytes
+     * @param lastUsed    the time the entry was last stored or used
+     */
+    public record Entry(String fingerprint, long size, FileTime lastUsed) {
+    }
+
+    /**
+     * An import resolver that records the content hash of the documents it opens.
+     */
+    public static final class RecordingImportResolver implements ImportResolver {
+        private final ImportResolver delegate;
+        private final Map<String, String> imports = new LinkedHashMap<>();
+
+        private RecordingImportResolver(ImportResolver delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public InputStream open(URI location) throws IOException {
+            byte[] content;
+            try (InputStream importStream = delegate.open(location)) {
+                content = importStream.readAllBytes();
+            }
+            synchronized (imports) {
+                imports.putIfAbsent(location.toString(), ImportCache.hash(content));
+            }
+            return new ByteArrayInputStream(content);
+        }
+
+        /**
+         * Returns the content hashes of the opened documents.
+         *
+         * @return the content hashes, by location
+         */
+        public Map<String, String> getImports() {
+            synchronized (imports) {
+                return Map.copyOf(imports);
+            }
+        }
+    }
+}
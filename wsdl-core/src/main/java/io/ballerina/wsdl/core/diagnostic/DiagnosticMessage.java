@@ -62,6 +62,11 @@ public class DiagnosticMessage {
                 "Invalid WSDL. Provided WSDL is invalid.", DiagnosticSeverity.ERROR, args);
     }
 
+    public static DiagnosticMessage wsdlToBallerinaPortError(String portName, Exception e, Object[] args) {
+        return new DiagnosticMessage("Error",
+                "Invalid WSDL. Port '" + portName + "' is invalid. " + e.getMessage(), DiagnosticSeverity.ERROR, args);
+    }
+
     public static DiagnosticMessage wsdlToBallerinaInputError(Object[] args) {
         return new DiagnosticMessage("Error",
                           "Provided port name is invalid", DiagnosticSeverity.ERROR, args);
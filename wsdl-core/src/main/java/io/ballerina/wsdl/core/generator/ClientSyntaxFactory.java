@@ -0,0 +1,430 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.generator;
+
+import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.MinutiaeList;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.RecordFieldNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the SOAP envelope records and the client class of the generated client module straight from syntax
+ * nodes, without running the Ballerina parser over generated source text.
+ *
+ * <p>Every token carries the same whitespace the parser would have attached to it when parsing the source text
+ * that was generated before. The formatter gets the same trees as before and so gives the same output.</p>
+ *
+ * @since 0.1.0
+ */
+public final class ClientSyntaxFactory {
+    private static final String XMLDATA = "xmldata";
+    private static final String SOAP = "soap";
+    private static final String NAME_ANNOTATION = "Name";
+    private static final String NAMESPACE_ANNOTATION = "Namespace";
+    private static final String ENVELOPE = "Envelope";
+    private static final String HEADER_FIELD = "Header";
+    private static final String BODY_FIELD = "Body";
+    private static final String CLIENT_ENDPOINT_FIELD = "clientEp";
+    private static final String CLIENT_TYPE = "Client";
+    private static final String CLIENT_CONFIG_TYPE = "ClientConfig";
+    private static final String SERVICE_URL = "serviceUrl";
+    private static final String CONFIG = "config";
+    private static final String SELF = "self";
+    private static final String INIT = "init";
+    private static final String ENVELOPE_PARAMETER = "envelope";
+    private static final String RESULT = "result";
+    private static final String SEND_RECEIVE = "sendReceive";
+    private static final String TO_XML = "toXml";
+    private static final String PARSE_AS_TYPE = "parseAsType";
+    private static final String VALUE = "value";
+    private static final String PREFIX = "prefix";
+    private static final String URI = "uri";
+    private static final String XML = "xml";
+    private static final Map<String, SyntaxKind[]> BUILTIN_TYPES = Map.of(
+            "string", new SyntaxKind[]{SyntaxKind.STRING_TYPE_DESC, SyntaxKind.STRING_KEYWORD},
+            "int", new SyntaxKind[]{SyntaxKind.INT_TYPE_DESC, SyntaxKind.INT_KEYWORD},
+            "boolean", new SyntaxKind[]{SyntaxKind.BOOLEAN_TYPE_DESC, SyntaxKind.BOOLEAN_KEYWORD},
+            "decimal", new SyntaxKind[]{SyntaxKind.DECIMAL_TYPE_DESC, SyntaxKind.DECIMAL_KEYWORD},
+            "float", new SyntaxKind[]{SyntaxKind.FLOAT_TYPE_DESC, SyntaxKind.FLOAT_KEYWORD},
+            "byte", new SyntaxKind[]{SyntaxKind.BYTE_TYPE_DESC, SyntaxKind.BYTE_KEYWORD},
+            "anydata", new SyntaxKind[]{SyntaxKind.ANYDATA_TYPE_DESC, SyntaxKind.ANYDATA_KEYWORD},
+            "json", new SyntaxKind[]{SyntaxKind.JSON_TYPE_DESC, SyntaxKind.JSON_KEYWORD},
+            "any", new SyntaxKind[]{SyntaxKind.ANY_TYPE_DESC, SyntaxKind.ANY_KEYWORD}
+    );
+
+    private static final MinutiaeList NONE = AbstractNodeFactory.createEmptyMinutiaeList();
+    private static final MinutiaeList SPACE =
+            AbstractNodeFactory.createMinutiaeList(AbstractNodeFactory.createWhitespaceMinutiae(" "));
+    private static final MinutiaeList NEW_LINE =
+            AbstractNodeFactory.createMinutiaeList(AbstractNodeFactory.createEndOfLineMinutiae("\n"));
+
+    private ClientSyntaxFactory() {}
+
+    /**
+     * A field of the SOAP header record of an operation.
+     *
+     * @param fieldName   the name of the header part
+     * @param elementName the local name of the header element
+     * @param namespace   the namespace of the header element
+     * @param typeName    the record type generated for the header element
+     */
+    public record HeaderField(String fieldName, String elementName, String namespace, String typeName) {
+    }
+
+    /**
+     * Creates the record of a SOAP request envelope, which has an optional header and a body.
+     *
+     * @param typeName       the name of the envelope record
+     * @param soapNamespace  the SOAP envelope namespace
+     * @param headerTypeName the name of the header record
+     * @param bodyTypeName   the name of the body record
+     * @return the type definition
+     */
+    public static TypeDefinitionNode createSoapRequestRecord(String typeName, String soapNamespace,
+                                                             String headerTypeName, String bodyTypeName) {
+        List<Node> fields = new ArrayList<>();
+        fields.add(createRecordField(soapNamespaceMetadata(soapNamespace, NEW_LINE), headerTypeName, HEADER_FIELD,
+                                     true, NONE));
+        fields.add(createRecordField(soapNamespaceMetadata(soapNamespace, NEW_LINE), bodyTypeName, BODY_FIELD,
+                                     false, NEW_LINE));
+        List<AnnotationNode> annotations = new ArrayList<>();
+        annotations.add(envelopeNameAnnotation());
+        annotations.add(soapNamespaceAnnotation(soapNamespace, NEW_LINE));
+        return createRecordType(annotations, typeName, NEW_LINE, fields);
+    }
+
+    /**
+     * Creates the record of a SOAP response envelope, which only has a body.
+     *
+     * @param typeName     the name of the envelope record
+     * @param bodyTypeName the name of the body record
+     * @return the type definition
+     */
+    public static TypeDefinitionNode createSoapResponseRecord(String typeName, String bodyTypeName) {
+        List<Node> fields = List.of(createRecordField(null, bodyTypeName, BODY_FIELD, false, NEW_LINE));
+        return createRecordType(List.of(envelopeNameAnnotation()), typeName, NEW_LINE, fields);
+    }
+
+    /**
+     * Creates the record of a SOAP body holding the payload of a message.
+     *
+     * @param typeName      the name of the body record
+     * @param soapNamespace the SOAP envelope namespace to annotate the record with, or an empty string for none
+     * @param payloadType   the type of the payload
+     * @param payloadName   the field name of the payload
+     * @return the type definition
+     */
+    public static TypeDefinitionNode createBodyRecord(String typeName, String soapNamespace, String payloadType,
+                                                      String payloadName) {
+        List<Node> fields = List.of(createRecordField(null, payloadType, payloadName, true, NEW_LINE));
+        List<AnnotationNode> annotations = soapNamespace.isEmpty()
+                ? List.of() : List.of(soapNamespaceAnnotation(soapNamespace, NEW_LINE));
+        return createRecordType(annotations, typeName, NEW_LINE, fields);
+    }
+
+    /**
+     * Creates the record of the SOAP header of an operation. A field is annotated with the name of its header
+     * element if the record type of the element is not named after the field.
+     *
+     * @param typeName      the name of the header record
+     * @param soapNamespace the SOAP envelope namespace
+     * @param headerFields  the fields of the header
+     * @return the type definition
+     */
+    public static TypeDefinitionNode createHeaderRecord(String typeName, String soapNamespace,
+                                                        List<HeaderField> headerFields) {
+        List<Node> fields = new ArrayList<>();
+        for (HeaderField headerField : headerFields) {
+            List<AnnotationNode> annotations = new ArrayList<>();
+            if (!headerField.typeName().equals(headerField.fieldName())) {
+                annotations.add(annotation(NAME_ANNOTATION, true, NONE, VALUE, headerField.elementName()));
+                annotations.add(annotation(NAMESPACE_ANNOTATION, false, NONE, PREFIX, headerField.fieldName(),
+                                           URI, headerField.namespace()));
+            } else {
+                annotations.add(annotation(NAMESPACE_ANNOTATION, true, NONE, URI, headerField.namespace()));
+            }
+            fields.add(createRecordField(metadata(annotations), headerField.typeName(), headerField.fieldName(),
+                                         true, NONE));
+        }
+        return createRecordType(List.of(soapNamespaceAnnotation(soapNamespace, NEW_LINE)), typeName, NONE,
+                                fields);
+    }
+
+    /**
+     * Creates the client class of a port.
+     *
+     * @param className         the name of the client class
+     * @param soapModulePrefix  the prefix of the SOAP version module, such as {@code soap11}
+     * @param serviceUrl        the default service URL
+     * @param remoteFunctions   the remote functions of the operations
+     * @return the class definition
+     */
+    public static ClassDefinitionNode createClientClass(String className, String soapModulePrefix,
+                                                        String serviceUrl,
+                                                        List<FunctionDefinitionNode> remoteFunctions) {
+        List<Node> members = new ArrayList<>();
+        members.add(NodeFactory.createObjectFieldNode(null, null,
+                AbstractNodeFactory.createNodeList(token(SyntaxKind.FINAL_KEYWORD, SPACE)),
+                qualifiedName(soapModulePrefix, CLIENT_TYPE, SPACE), identifier(CLIENT_ENDPOINT_FIELD, NONE),
+                null, null, token(SyntaxKind.SEMICOLON_TOKEN, NONE)));
+        members.add(createInitFunction(serviceUrl));
+        members.addAll(remoteFunctions);
+        return NodeFactory.createClassDefinitionNode(null, token(SyntaxKind.PUBLIC_KEYWORD, SPACE),
+                AbstractNodeFactory.createNodeList(token(SyntaxKind.ISOLATED_KEYWORD, SPACE),
+                                                   token(SyntaxKind.CLIENT_KEYWORD, SPACE)),
+                token(SyntaxKind.CLASS_KEYWORD, SPACE), identifier(className, SPACE),
+                token(SyntaxKind.OPEN_BRACE_TOKEN, NONE), AbstractNodeFactory.createNodeList(members),
+                token(SyntaxKind.CLOSE_BRACE_TOKEN, NONE), null);
+    }
+
+    /**
+     * Creates the remote function of an operation, which sends the request envelope to the service and converts
+     * the reply to the response envelope.
+     *
+     * @param functionName the name of the function
+     * @param requestType  the name of the request envelope record
+     * @param responseType the name of the response envelope record
+     * @param soapAction   the SOAP action of the operation
+     * @return the function definition
+     */
+    public static FunctionDefinitionNode createRemoteFunction(String functionName, String requestType,
+                                                              String responseType, String soapAction) {
+        SeparatedNodeList<ParameterNode> parameters = AbstractNodeFactory.createSeparatedNodeList(
+                NodeFactory.createRequiredParameterNode(AbstractNodeFactory.createEmptyNodeList(),
+                        typeReference(requestType, SPACE), identifier(ENVELOPE_PARAMETER, NONE)));
+        TypeDescriptorNode returnType = NodeFactory.createUnionTypeDescriptorNode(typeReference(responseType, NONE),
+                token(SyntaxKind.PIPE_TOKEN, NONE),
+                NodeFactory.createErrorTypeDescriptorNode(token(SyntaxKind.ERROR_KEYWORD, SPACE), null));
+
+        ExpressionNode toXml = NodeFactory.createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION,
+                token(SyntaxKind.CHECK_KEYWORD, SPACE),
+                functionCall(qualifiedName(XMLDATA, TO_XML, NONE), nameReference(ENVELOPE_PARAMETER, NONE)));
+        ExpressionNode sendReceive = NodeFactory.createRemoteMethodCallActionNode(clientEndpoint(NONE),
+                token(SyntaxKind.RIGHT_ARROW_TOKEN, NONE), nameReference(SEND_RECEIVE, NONE),
+                token(SyntaxKind.OPEN_PAREN_TOKEN, NONE),
+                arguments(toXml, NodeFactory.createBasicLiteralNode(SyntaxKind.STRING_LITERAL,
+                        stringLiteral(soapAction, NONE))),
+                token(SyntaxKind.CLOSE_PAREN_TOKEN, NONE));
+        StatementNode resultDeclaration = NodeFactory.createVariableDeclarationNode(
+                AbstractNodeFactory.createEmptyNodeList(), null,
+                NodeFactory.createTypedBindingPatternNode(
+                        typeReference(XML, SPACE),
+                        NodeFactory.createCaptureBindingPatternNode(identifier(RESULT, SPACE))),
+                token(SyntaxKind.EQUAL_TOKEN, SPACE),
+                NodeFactory.createCheckExpressionNode(SyntaxKind.CHECK_ACTION, token(SyntaxKind.CHECK_KEYWORD, SPACE),
+                                                      sendReceive),
+                token(SyntaxKind.SEMICOLON_TOKEN, NONE));
+        StatementNode returnStatement = NodeFactory.createReturnStatementNode(
+                token(SyntaxKind.RETURN_KEYWORD, SPACE),
+                functionCall(qualifiedName(XMLDATA, PARSE_AS_TYPE, NONE), nameReference(RESULT, NONE)),
+                token(SyntaxKind.SEMICOLON_TOKEN, NONE));
+
+        return NodeFactory.createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, null,
+                AbstractNodeFactory.createNodeList(token(SyntaxKind.REMOTE_KEYWORD, SPACE),
+                                                   token(SyntaxKind.ISOLATED_KEYWORD, SPACE)),
+                token(SyntaxKind.FUNCTION_KEYWORD, SPACE), identifier(functionName, NONE),
+                AbstractNodeFactory.createEmptyNodeList(),
+                NodeFactory.createFunctionSignatureNode(token(SyntaxKind.OPEN_PAREN_TOKEN, NONE), parameters,
+                        token(SyntaxKind.CLOSE_PAREN_TOKEN, SPACE),
+                        NodeFactory.createReturnTypeDescriptorNode(token(SyntaxKind.RETURNS_KEYWORD, SPACE),
+                                AbstractNodeFactory.createEmptyNodeList(), returnType)),
+                functionBody(NONE, resultDeclaration, returnStatement));
+    }
+
+    private static FunctionDefinitionNode createInitFunction(String serviceUrl) {
+        SeparatedNodeList<ParameterNode> parameters = AbstractNodeFactory.createSeparatedNodeList(
+                NodeFactory.createDefaultableParameterNode(AbstractNodeFactory.createEmptyNodeList(),
+                        typeReference("string", SPACE), identifier(SERVICE_URL, SPACE),
+                        token(SyntaxKind.EQUAL_TOKEN, SPACE),
+                        NodeFactory.createBasicLiteralNode(SyntaxKind.STRING_LITERAL, stringLiteral(serviceUrl, NONE))),
+                token(SyntaxKind.COMMA_TOKEN, NONE),
+                NodeFactory.createIncludedRecordParameterNode(AbstractNodeFactory.createEmptyNodeList(),
+                        token(SyntaxKind.ASTERISK_TOKEN, NONE), qualifiedName(SOAP, CLIENT_CONFIG_TYPE, SPACE),
+                        identifier(CONFIG, NONE)));
+        TypeDescriptorNode returnType = NodeFactory.createOptionalTypeDescriptorNode(
+                NodeFactory.createErrorTypeDescriptorNode(token(SyntaxKind.ERROR_KEYWORD, NONE), null),
+                token(SyntaxKind.QUESTION_MARK_TOKEN, SPACE));
+        StatementNode assignment = NodeFactory.createAssignmentStatementNode(clientEndpoint(SPACE),
+                token(SyntaxKind.EQUAL_TOKEN, SPACE),
+                NodeFactory.createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION,
+                        token(SyntaxKind.CHECK_KEYWORD, SPACE),
+                        NodeFactory.createImplicitNewExpressionNode(token(SyntaxKind.NEW_KEYWORD, SPACE),
+                                NodeFactory.createParenthesizedArgList(token(SyntaxKind.OPEN_PAREN_TOKEN, NONE),
+                                        arguments(nameReference(SERVICE_URL, NONE), nameReference(CONFIG, NONE)),
+                                        token(SyntaxKind.CLOSE_PAREN_TOKEN, NONE)))),
+                token(SyntaxKind.SEMICOLON_TOKEN, NONE));
+        return NodeFactory.createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, null,
+                AbstractNodeFactory.createNodeList(token(SyntaxKind.PUBLIC_KEYWORD, SPACE),
+                                                   token(SyntaxKind.ISOLATED_KEYWORD, SPACE)),
+                token(SyntaxKind.FUNCTION_KEYWORD, SPACE), identifier(INIT, NONE),
+                AbstractNodeFactory.createEmptyNodeList(),
+                NodeFactory.createFunctionSignatureNode(token(SyntaxKind.OPEN_PAREN_TOKEN, NONE), parameters,
+                        token(SyntaxKind.CLOSE_PAREN_TOKEN, SPACE),
+                        NodeFactory.createReturnTypeDescriptorNode(token(SyntaxKind.RETURNS_KEYWORD, SPACE),
+                                AbstractNodeFactory.createEmptyNodeList(), returnType)),
+                functionBody(SPACE, assignment));
+    }
+
+    private static TypeDefinitionNode createRecordType(List<AnnotationNode> annotations, String typeName,
+                                                       MinutiaeList openBraceTrailing, List<Node> fields) {
+        return NodeFactory.createTypeDefinitionNode(metadata(annotations), token(SyntaxKind.PUBLIC_KEYWORD, SPACE),
+                token(SyntaxKind.TYPE_KEYWORD, SPACE), identifier(typeName, SPACE),
+                NodeFactory.createRecordTypeDescriptorNode(token(SyntaxKind.RECORD_KEYWORD, NONE),
+                        token(SyntaxKind.OPEN_BRACE_TOKEN, openBraceTrailing),
+                        AbstractNodeFactory.createNodeList(fields), null,
+                        token(SyntaxKind.CLOSE_BRACE_TOKEN, NONE)),
+                token(SyntaxKind.SEMICOLON_TOKEN, NONE));
+    }
+
+    private static RecordFieldNode createRecordField(MetadataNode metadata, String typeName, String fieldName,
+                                                     boolean optional, MinutiaeList semicolonTrailing) {
+        return NodeFactory.createRecordFieldNode(metadata, null, typeReference(typeName, SPACE),
+                identifier(fieldName, NONE), optional ? token(SyntaxKind.QUESTION_MARK_TOKEN, NONE) : null,
+                token(SyntaxKind.SEMICOLON_TOKEN, semicolonTrailing));
+    }
+
+    private static MetadataNode metadata(List<AnnotationNode> annotations) {
+        if (annotations.isEmpty()) {
+            return null;
+        }
+        return NodeFactory.createMetadataNode(null, AbstractNodeFactory.createNodeList(annotations));
+    }
+
+    private static MetadataNode soapNamespaceMetadata(String soapNamespace, MinutiaeList trailing) {
+        return metadata(List.of(soapNamespaceAnnotation(soapNamespace, trailing)));
+    }
+
+    private static AnnotationNode envelopeNameAnnotation() {
+        return annotation(NAME_ANNOTATION, true, NEW_LINE, VALUE, ENVELOPE);
+    }
+
+    private static AnnotationNode soapNamespaceAnnotation(String soapNamespace, MinutiaeList trailing) {
+        return annotation(NAMESPACE_ANNOTATION, true, trailing, PREFIX, SOAP, URI, soapNamespace);
+    }
+
+    /**
+     * Creates an {@code xmldata} annotation whose fields are all string literals.
+     *
+     * @param spaced         whether the fields are separated by a space after each colon and comma
+     * @param fieldsAndValues the field names, each followed by its value
+     */
+    private static AnnotationNode annotation(String name, boolean spaced, MinutiaeList trailing,
+                                             String... fieldsAndValues) {
+        MinutiaeList separatorTrailing = spaced ? SPACE : NONE;
+        List<Node> fields = new ArrayList<>();
+        for (int i = 0; i < fieldsAndValues.length; i += 2) {
+            if (i > 0) {
+                fields.add(token(SyntaxKind.COMMA_TOKEN, separatorTrailing));
+            }
+            fields.add(NodeFactory.createSpecificFieldNode(null, identifier(fieldsAndValues[i], NONE),
+                    token(SyntaxKind.COLON_TOKEN, separatorTrailing),
+                    NodeFactory.createBasicLiteralNode(SyntaxKind.STRING_LITERAL,
+                                                       stringLiteral(fieldsAndValues[i + 1], NONE))));
+        }
+        SeparatedNodeList<MappingFieldNode> mappingFields = AbstractNodeFactory.createSeparatedNodeList(fields);
+        return NodeFactory.createAnnotationNode(token(SyntaxKind.AT_TOKEN, NONE),
+                qualifiedName(XMLDATA, name, SPACE),
+                NodeFactory.createMappingConstructorExpressionNode(token(SyntaxKind.OPEN_BRACE_TOKEN, NONE),
+                        mappingFields, token(SyntaxKind.CLOSE_BRACE_TOKEN, trailing)));
+    }
+
+    private static ExpressionNode clientEndpoint(MinutiaeList trailing) {
+        return NodeFactory.createFieldAccessExpressionNode(nameReference(SELF, NONE),
+                token(SyntaxKind.DOT_TOKEN, NONE), nameReference(CLIENT_ENDPOINT_FIELD, trailing));
+    }
+
+    private static ExpressionNode functionCall(QualifiedNameReferenceNode functionName, ExpressionNode argument) {
+        return NodeFactory.createFunctionCallExpressionNode(functionName, token(SyntaxKind.OPEN_PAREN_TOKEN, NONE),
+                arguments(argument), token(SyntaxKind.CLOSE_PAREN_TOKEN, NONE));
+    }
+
+    private static SeparatedNodeList<FunctionArgumentNode> arguments(ExpressionNode... expressions) {
+        List<Node> arguments = new ArrayList<>();
+        for (int i = 0; i < expressions.length; i++) {
+            if (i > 0) {
+                arguments.add(token(SyntaxKind.COMMA_TOKEN, SPACE));
+            }
+            arguments.add(NodeFactory.createPositionalArgumentNode(expressions[i]));
+        }
+        return AbstractNodeFactory.createSeparatedNodeList(arguments);
+    }
+
+    private static Node functionBody(MinutiaeList openBraceTrailing, StatementNode... statements) {
+        NodeList<StatementNode> statementList = AbstractNodeFactory.createNodeList(statements);
+        return NodeFactory.createFunctionBodyBlockNode(token(SyntaxKind.OPEN_BRACE_TOKEN, openBraceTrailing), null,
+                statementList, token(SyntaxKind.CLOSE_BRACE_TOKEN, NONE), null);
+    }
+
+    private static TypeDescriptorNode typeReference(String typeName, MinutiaeList trailing) {
+        if (XML.equals(typeName)) {
+            return NodeFactory.createXmlTypeDescriptorNode(token(SyntaxKind.XML_KEYWORD, trailing), null);
+        }
+        SyntaxKind[] builtinType = BUILTIN_TYPES.get(typeName);
+        if (builtinType != null) {
+            return NodeFactory.createBuiltinSimpleNameReferenceNode(builtinType[0], token(builtinType[1], trailing));
+        }
+        return nameReference(typeName, trailing);
+    }
+
+    private static SimpleNameReferenceNode nameReference(String name, MinutiaeList trailing) {
+        return NodeFactory.createSimpleNameReferenceNode(identifier(name, trailing));
+    }
+
+    private static QualifiedNameReferenceNode qualifiedName(String modulePrefix, String name,
+                                                            MinutiaeList trailing) {
+        return NodeFactory.createQualifiedNameReferenceNode(identifier(modulePrefix, NONE),
+                token(SyntaxKind.COLON_TOKEN, NONE), identifier(name, trailing));
+    }
+
+    private static Token stringLiteral(String value, MinutiaeList trailing) {
+        return AbstractNodeFactory.createLiteralValueToken(SyntaxKind.STRING_LITERAL_TOKEN, "\"" + value + "\"",
+                                                           NONE, trailing);
+    }
+
+    private static IdentifierToken identifier(String name, MinutiaeList trailing) {
+        return AbstractNodeFactory.createIdentifierToken(name, NONE, trailing);
+    }
+
+    private static Token token(SyntaxKind kind, MinutiaeList trailing) {
+        return AbstractNodeFactory.createToken(kind, NONE, trailing);
+    }
+}
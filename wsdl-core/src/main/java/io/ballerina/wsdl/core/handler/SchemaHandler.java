@@ -18,40 +18,129 @@
 
 package io.ballerina.wsdl.core.handler;
 
+import io.ballerina.wsdl.core.jfr.ReadSchemasEvent;
+import io.ballerina.wsdl.core.parser.ImportResolver;
 import org.apache.ws.commons.schema.XmlSchema;
+import org.apache.ws.commons.schema.XmlSchemaCollection;
+import org.apache.ws.commons.schema.XmlSchemaType;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.wsdl.Definition;
+import javax.wsdl.Types;
+import javax.wsdl.extensions.schema.Schema;
+import javax.xml.namespace.QName;
 
 /**
- * Handles XML schema management, providing mechanisms to store and retrieve schemas based on namespace.
+ * Indexes the XML schemas embedded in a WSDL definition and resolves schema types by QName.
+ * The schema elements are grouped by target namespace when the index is created, but they are only read into
+ * an {@link XmlSchema} on the first lookup for that namespace. The documents the schemas import or include are
+ * retrieved through an {@link ImportResolver}. A single index is shared by all the ports of a definition and is
+ * safe to query from multiple threads.
  *
  * @since 0.1.0
  */
 public class SchemaHandler {
+    private static final String TARGET_NS = "targetNamespace";
 
-    private static final SchemaHandler instance = new SchemaHandler();
-    private Map<String, XmlSchema> targetNSToSchema;
+    private final Map<String, List<Schema>> targetNSToWsdlSchemas;
+    private final Map<String, List<XmlSchema>> targetNSToSchemas = new ConcurrentHashMap<>();
+    private final ImportResolver importResolver;
+    private final String documentBaseUri;
 
-    private SchemaHandler() {
-        targetNSToSchema = new HashMap<>();
+    public SchemaHandler(Definition wsdlDefinition) {
+        this(wsdlDefinition, ImportResolver.direct(false));
     }
 
-    public static SchemaHandler getInstance() {
-        return instance;
+    /**
+     * Creates the index of the schemas of a definition.
+     *
+     * @param wsdlDefinition the definition
+     * @param importResolver opens the documents referred to by the {@code schemaLocation} of schema imports and
+     *                       includes
+     */
+    public SchemaHandler(Definition wsdlDefinition, ImportResolver importResolver) {
+        Map<String, List<Schema>> wsdlSchemas = new LinkedHashMap<>();
+        Types types = wsdlDefinition.getTypes();
+        if (types != null) {
+            for (Object extension : types.getExtensibilityElements()) {
+                if (extension instanceof Schema schema) {
+                    wsdlSchemas.computeIfAbsent(schema.getElement().getAttribute(TARGET_NS),
+                            ns -> new ArrayList<>()).add(schema);
+                }
+            }
+        }
+        this.targetNSToWsdlSchemas = Collections.unmodifiableMap(wsdlSchemas);
+        this.importResolver = importResolver;
+        this.documentBaseUri = wsdlDefinition.getDocumentBaseURI();
     }
 
-    public void initializeSchemas(Map<String, XmlSchema> targetNSToSchema) {
-        this.targetNSToSchema = targetNSToSchema;
+    /**
+     * Retrieves all the XML schemas declared for a specific namespace, reading them on the first request.
+     *
+     * @param ns The target namespace of the schemas.
+     * @return The schemas of the namespace in document order, or an empty list if none are declared.
+     */
+    private List<XmlSchema> getSchemas(String ns) {
+        if (ns == null || !targetNSToWsdlSchemas.containsKey(ns)) {
+            return Collections.emptyList();
+        }
+        List<XmlSchema> schemas = targetNSToSchemas.get(ns);
+        if (schemas != null) {
+            return schemas;
+        }
+        // The schema elements share one DOM document, which is not safe for concurrent reads.
+        synchronized (this) {
+            return targetNSToSchemas.computeIfAbsent(ns, this::readSchemas);
+        }
     }
 
     /**
-     * Retrieves an XML schema associated with a specific namespace.
+     * Resolves a global schema type definition.
      *
-     * @param ns The namespace string for which the schema is required.
-     * @return The XmlSchema associated with the provided namespace, or null if no schema is found.
+     * @param qName The qualified name of the type.
+     * @return The type definition, or null if no schema of the namespace defines it.
      */
-    public XmlSchema getSchema(String ns) {
-        return targetNSToSchema.get(ns);
+    private XmlSchemaType getType(QName qName) {
+        if (qName == null) {
+            return null;
+        }
+        for (XmlSchema schema : getSchemas(qName.getNamespaceURI())) {
+            XmlSchemaType type = schema.getTypeByName(qName);
+            if (type != null) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    public boolean hasType(QName qName) {
+        return getType(qName) != null;
+    }
+
+    private List<XmlSchema> readSchemas(String ns) {
+        ReadSchemasEvent event = new ReadSchemasEvent();
+        event.begin();
+        List<XmlSchema> schemas = new ArrayList<>();
+        for (Schema schema : targetNSToWsdlSchemas.get(ns)) {
+            String baseUri = schema.getDocumentBaseURI() != null ? schema.getDocumentBaseURI() : documentBaseUri;
+            XmlSchemaCollection schemaCollection = new XmlSchemaCollection();
+            if (baseUri != null) {
+                schemaCollection.setBaseUri(baseUri);
+            }
+            schemaCollection.setSchemaResolver(new SchemaImportResolver(importResolver, baseUri));
+            schemas.add(schemaCollection.read(schema.getElement()));
+        }
+        if (event.shouldCommit()) {
+            event.namespace = ns;
+            event.schemaCount = schemas.size();
+            event.commit();
+        }
+        return Collections.unmodifiableList(schemas);
     }
 }
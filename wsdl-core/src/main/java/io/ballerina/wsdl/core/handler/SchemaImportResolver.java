@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.handler;
+
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import org.apache.ws.commons.schema.resolver.URIResolver;
+import org.xml.sax.InputSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+
+/**
+ * Bridges the resolution of the {@code schemaLocation} of XML schema imports and includes to an
+ * {@link ImportResolver}, so that XmlSchema retrieves the documents a schema refers to through the same catalogs and
+ * cache as the WSDL parser, instead of opening them itself. Relative locations are resolved against the location
+ * of the referring schema, or against the location of the WSDL document if XmlSchema does not know it.
+ *
+ * @since 0.1.0
+ */
+class SchemaImportResolver implements URIResolver {
+    private final ImportResolver importResolver;
+    private final String defaultBaseUri;
+
+    SchemaImportResolver(ImportResolver importResolver, String defaultBaseUri) {
+        this.importResolver = importResolver;
+        this.defaultBaseUri = defaultBaseUri;
+    }
+
+    @Override
+    public InputSource resolveEntity(String targetNamespace, String schemaLocation, String baseUri) {
+        URI location = ImportResolver.resolveLocation(baseUri != null ? baseUri : defaultBaseUri, schemaLocation);
+        try (InputStream schemaStream = importResolver.open(location)) {
+            InputSource inputSource = new InputSource(new ByteArrayInputStream(schemaStream.readAllBytes()));
+            inputSource.setSystemId(location.toString());
+            return inputSource;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to retrieve '" + location + "': " + e.getMessage(), e);
+        }
+    }
+}
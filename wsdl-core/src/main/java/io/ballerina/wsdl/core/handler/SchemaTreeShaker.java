@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.handler;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+
+import static io.ballerina.wsdl.core.handler.SchemaUtils.NAME;
+import static io.ballerina.wsdl.core.handler.SchemaUtils.TARGET_NAMESPACE;
+import static io.ballerina.wsdl.core.handler.SchemaUtils.declareInheritedNamespaces;
+import static io.ballerina.wsdl.core.handler.SchemaUtils.getChildElements;
+import static io.ballerina.wsdl.core.handler.SchemaUtils.getMemberTypes;
+import static io.ballerina.wsdl.core.handler.SchemaUtils.resolveQName;
+
+/**
+ * Removes the top-level schema components that cannot be reached from a set of root elements and types, so
+ * that records are only generated for the types used by the selected operations. A component is reachable if
+ * it is a root, or if a reachable component refers to it through an element, attribute, group or attribute
+ * group reference, a type, a base type, a list item type, a union member type or a substitution group head.
+ * Imports, includes and annotations are always kept.
+ *
+ * <p>The schema elements given to the shaker are never modified. Pruned schemas are deep copies that carry the
+ * namespace declarations inherited from the WSDL document, so that they can be processed on their own.</p>
+ *
+ * @since 0.1.0
+ */
+public class SchemaTreeShaker {
+    private static final String REF = "ref";
+    private static final String TYPE = "type";
+    private static final String BASE = "base";
+    private static final String ITEM_TYPE = "itemType";
+    private static final String SUBSTITUTION_GROUP = "substitutionGroup";
+
+    private final List<Element> schemaElements;
+    private final Map<Component, Element> components = new HashMap<>();
+    private final Set<Component> roots = new HashSet<>();
+
+    public SchemaTreeShaker(List<Element> schemaElements) {
+        this.schemaElements = List.copyOf(schemaElements);
+        for (Element schemaElement : this.schemaElements) {
+            String targetNamespace = schemaElement.getAttribute(TARGET_NAMESPACE);
+            for (Element child : getChildElements(schemaElement)) {
+                Kind kind = Kind.of(child);
+                if (kind != null && child.hasAttribute(NAME)) {
+                    components.putIfAbsent(new Component(kind, new QName(targetNamespace,
+                            child.getAttribute(NAME))), child);
+                }
+            }
+        }
+    }
+
+    public SchemaTreeShaker addElementRoot(QName elementName) {
+        roots.add(new Component(Kind.ELEMENT, elementName));
+        return this;
+    }
+
+    public SchemaTreeShaker addTypeRoot(QName typeName) {
+        roots.add(new Component(Kind.TYPE, typeName));
+        return this;
+    }
+
+    /**
+     * Prunes the schemas down to the components reachable from the roots.
+     *
+     * @return the pruned schemas, in the order of the given schemas. A schema with nothing to prune is returned
+     * as is.
+     */
+    public List<Element> shake() {
+        Set<Element> reachable = findReachableComponents();
+        List<Element> prunedSchemas = new ArrayList<>();
+        for (Element schemaElement : schemaElements) {
+            Set<Element> unreachable = new HashSet<>();
+            List<Element> children = getChildElements(schemaElement);
+            for (Element child : children) {
+                if (Kind.of(child) != null && !reachable.contains(child)) {
+                    unreachable.add(child);
+                }
+            }
+            prunedSchemas.add(unreachable.isEmpty() ? schemaElement : prune(schemaElement, children, unreachable));
+        }
+        return prunedSchemas;
+    }
+
+    private Set<Element> findReachableComponents() {
+        Set<Element> reachable = new HashSet<>();
+        Deque<Component> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            Element component = components.get(pending.pop());
+            if (component == null || !reachable.add(component)) {
+                continue;
+            }
+            collectReferences(component, pending);
+            NodeList descendants = component.getElementsByTagNameNS(XMLConstants.W3C_XML_SCHEMA_NS_URI, "*");
+            for (int i = 0; i < descendants.getLength(); i++) {
+                collectReferences((Element) descendants.item(i), pending);
+            }
+        }
+        return reachable;
+    }
+
+    private static void collectReferences(Element element, Deque<Component> pending) {
+        addReference(element, TYPE, Kind.TYPE, pending);
+        addReference(element, BASE, Kind.TYPE, pending);
+        addReference(element, ITEM_TYPE, Kind.TYPE, pending);
+        addReference(element, SUBSTITUTION_GROUP, Kind.ELEMENT, pending);
+        Kind kind = Kind.of(element);
+        if (kind != null && kind != Kind.TYPE) {
+            addReference(element, REF, kind, pending);
+        }
+        for (String memberType : getMemberTypes(element)) {
+            pending.push(new Component(Kind.TYPE, resolveQName(element, memberType)));
+        }
+    }
+
+    private static void addReference(Element element, String attribute, Kind kind, Deque<Component> pending) {
+        if (element.hasAttribute(attribute)) {
+            pending.push(new Component(kind, resolveQName(element, element.getAttribute(attribute))));
+        }
+    }
+
+    private static Element prune(Element schemaElement, List<Element> children, Set<Element> unreachable) {
+        Element prunedSchema = (Element) schemaElement.cloneNode(true);
+        List<Element> clonedChildren = getChildElements(prunedSchema);
+        for (int i = 0; i < children.size(); i++) {
+            if (unreachable.contains(children.get(i))) {
+                prunedSchema.removeChild(clonedChildren.get(i));
+            }
+        }
+        declareInheritedNamespaces(schemaElement, prunedSchema);
+        return prunedSchema;
+    }
+
+    private enum Kind {
+        ELEMENT, TYPE, GROUP, ATTRIBUTE_GROUP, ATTRIBUTE;
+
+        static Kind of(Element element) {
+            if (!XMLConstants.W3C_XML_SCHEMA_NS_URI.equals(element.getNamespaceURI())) {
+                return null;
+            }
+            return switch (element.getLocalName()) {
+                case "element" -> ELEMENT;
+                case "complexType", "simpleType" -> TYPE;
+                case "group" -> GROUP;
+                case "attributeGroup" -> ATTRIBUTE_GROUP;
+                case "attribute" -> ATTRIBUTE;
+                default -> null;
+            };
+        }
+    }
+
+    private record Component(Kind kind, QName name) {
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.handler;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Utilities for the XML schemas embedded in a WSDL document.
+ *
+ * @since 0.1.0
+ */
+public final class SchemaUtils {
+    public static final String TARGET_NAMESPACE = "targetNamespace";
+    public static final String NAME = "name";
+    private static final String[] QNAME_ATTRIBUTES = {"type", "base", "itemType", "ref", "substitutionGroup"};
+    private static final String MEMBER_TYPES = "memberTypes";
+
+    private SchemaUtils() {}
+
+    /**
+     * Copies a schema into a new standalone document, declaring the namespaces it inherits from the WSDL document.
+     * The copy shares no state with the WSDL document, so it can be read by another thread.
+     *
+     * @param schemaElement the schema element of the WSDL document
+     * @return the document element of the copy
+     */
+    public static Element copyToNewDocument(Element schemaElement) {
+        Document document;
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            document = factory.newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("Failed to create an XML document: " + e.getMessage(), e);
+        }
+        Element copy = (Element) document.importNode(schemaElement, true);
+        declareInheritedNamespaces(schemaElement, copy);
+        document.appendChild(copy);
+        return copy;
+    }
+
+    /**
+     * Declares on a copy of a schema the namespaces that the original schema inherits from its ancestors, unless
+     * the copy already declares the same prefix.
+     *
+     * @param schemaElement the schema element of the WSDL document
+     * @param copy          the copy detached from the WSDL document
+     */
+    public static void declareInheritedNamespaces(Element schemaElement, Element copy) {
+        for (Node ancestor = schemaElement.getParentNode(); ancestor instanceof Element;
+             ancestor = ancestor.getParentNode()) {
+            NamedNodeMap attributes = ancestor.getAttributes();
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Attr attribute = (Attr) attributes.item(i);
+                if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())
+                        && !copy.hasAttribute(attribute.getName())) {
+                    copy.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, attribute.getName(),
+                                        attribute.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the top-level components declared by a schema.
+     *
+     * @param schemaElement the schema element
+     * @return the names of the top-level elements, types, groups, attributes and attribute groups
+     */
+    public static List<String> getTopLevelNames(Element schemaElement) {
+        List<String> names = new ArrayList<>();
+        for (Element child : getChildElements(schemaElement)) {
+            if (XMLConstants.W3C_XML_SCHEMA_NS_URI.equals(child.getNamespaceURI()) && child.hasAttribute(NAME)) {
+                names.add(child.getAttribute(NAME));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns the namespaces of all the components referred to from a schema through element, attribute, group
+     * and attribute group references, types, base types, list item types, union member types and substitution
+     * groups.
+     *
+     * @param schemaElement the schema element
+     * @return the referenced namespaces, which may include the target namespace of the schema
+     */
+    public static Set<String> getReferencedNamespaces(Element schemaElement) {
+        Set<String> namespaces = new HashSet<>();
+        NodeList descendants = schemaElement.getElementsByTagNameNS(XMLConstants.W3C_XML_SCHEMA_NS_URI, "*");
+        for (int i = 0; i < descendants.getLength(); i++) {
+            Element element = (Element) descendants.item(i);
+            for (String attribute : QNAME_ATTRIBUTES) {
+                if (element.hasAttribute(attribute)) {
+                    namespaces.add(resolveQName(element, element.getAttribute(attribute)).getNamespaceURI());
+                }
+            }
+            for (String memberType : getMemberTypes(element)) {
+                namespaces.add(resolveQName(element, memberType).getNamespaceURI());
+            }
+        }
+        return namespaces;
+    }
+
+    /**
+     * Resolves a QName-valued attribute against the namespace declarations in scope of an element.
+     *
+     * @param context the element the value belongs to
+     * @param value   the prefixed or unprefixed name
+     * @return the resolved name
+     */
+    public static QName resolveQName(Element context, String value) {
+        String name = value.trim();
+        int colon = name.indexOf(':');
+        String prefix = colon < 0 ? null : name.substring(0, colon);
+        String namespace = context.lookupNamespaceURI(prefix);
+        return new QName(namespace == null ? XMLConstants.NULL_NS_URI : namespace, name.substring(colon + 1));
+    }
+
+    /**
+     * Returns the member types of a union.
+     *
+     * @param element a schema element
+     * @return the names in the {@code memberTypes} attribute, or an empty list if the element has none
+     */
+    public static List<String> getMemberTypes(Element element) {
+        List<String> memberTypes = new ArrayList<>();
+        for (String memberType : element.getAttribute(MEMBER_TYPES).trim().split("\\s+")) {
+            if (!memberType.isEmpty()) {
+                memberTypes.add(memberType);
+            }
+        }
+        return memberTypes;
+    }
+
+    public static List<Element> getChildElements(Element parent) {
+        List<Element> children = new ArrayList<>();
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element element) {
+                children.add(element);
+            }
+        }
+        return children;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted around the formatting of a generated module.
+ *
+ * @since 0.1.0
+ */
+@Name(WsdlEvents.NAME_PREFIX + "FormatModule")
+@Label("Format Module")
+@Category({WsdlEvents.CATEGORY_BALLERINA, WsdlEvents.CATEGORY_WSDL})
+@Description("Formatting of a generated module")
+public final class FormatModuleEvent extends Event {
+    @Label("Members")
+    public int memberCount;
+
+    @Label("Characters")
+    public int characterCount;
+
+    @Label("Mode")
+    @Description("How the module was formatted: fast, parallel, incremental or formatter")
+    public String mode;
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted around the generation and formatting of the client module of a port.
+ *
+ * @since 0.1.0
+ */
+@Name(WsdlEvents.NAME_PREFIX + "GenerateClient")
+@Label("Generate Client")
+@Category({WsdlEvents.CATEGORY_BALLERINA, WsdlEvents.CATEGORY_WSDL})
+@Description("Generation of the client module of a port")
+public final class GenerateClientEvent extends Event {
+    @Label("Port")
+    public String port;
+
+    @Label("Operations")
+    public int operationCount;
+
+    @Label("File")
+    public String fileName;
+}
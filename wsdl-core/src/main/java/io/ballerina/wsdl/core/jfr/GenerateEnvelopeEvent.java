@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted around the generation of the envelope, body and header records of an operation.
+ *
+ * @since 0.1.0
+ */
+@Name(WsdlEvents.NAME_PREFIX + "GenerateEnvelope")
+@Label("Generate Envelope")
+@Category({WsdlEvents.CATEGORY_BALLERINA, WsdlEvents.CATEGORY_WSDL})
+@Description("Generation of the SOAP envelope records of an operation")
+public final class GenerateEnvelopeEvent extends Event {
+    @Label("Port")
+    public String port;
+
+    @Label("Operation")
+    public String operation;
+}
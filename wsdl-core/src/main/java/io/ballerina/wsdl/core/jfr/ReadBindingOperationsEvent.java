@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted around reading the operations of the binding of a port.
+ *
+ * @since 0.1.0
+ */
+@Name(WsdlEvents.NAME_PREFIX + "ReadBindingOperations")
+@Label("Read Binding Operations")
+@Category({WsdlEvents.CATEGORY_BALLERINA, WsdlEvents.CATEGORY_WSDL})
+@Description("Reading of the operations of a SOAP binding")
+public final class ReadBindingOperationsEvent extends Event {
+    @Label("Port")
+    public String port;
+
+    @Label("Binding")
+    public String binding;
+
+    @Label("SOAP Version")
+    public String soapVersion;
+
+    @Label("Operations")
+    public int operationCount;
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.jfr;
+
+/**
+ * The names shared by the Java Flight Recorder events of the WSDL tool. The events are emitted around the phases
+ * of a conversion. They are only committed while a recording enables them, so they cost next to nothing otherwise.
+ *
+ * @since 0.1.0
+ */
+public final class WsdlEvents {
+    public static final String NAME_PREFIX = "io.ballerina.wsdl.";
+    public static final String CATEGORY_BALLERINA = "Ballerina";
+    public static final String CATEGORY_WSDL = "WSDL";
+
+    private WsdlEvents() {}
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.xml.catalog.CatalogFeatures;
+import javax.xml.catalog.CatalogManager;
+import javax.xml.catalog.CatalogResolver;
+import javax.xml.transform.Source;
+
+/**
+ * Maps the locations of imported documents through OASIS XML catalogs before opening them, so that well-known
+ * remote schemas can be served from local copies. Both the {@code uri} family of entries ({@code uri},
+ * {@code rewriteURI}, {@code uriSuffix}) and the {@code system} family of entries are consulted, in the order the
+ * catalog files are given. Locations without a matching entry are opened unchanged.
+ *
+ * @since 0.1.0
+ */
+public class CatalogImportResolver implements ImportResolver {
+    private static final String CONTINUE = "continue";
+
+    private final CatalogResolver catalogResolver;
+    private final ImportResolver delegate;
+
+    public CatalogImportResolver(List<Path> catalogFiles, ImportResolver delegate) {
+        if (catalogFiles.isEmpty()) {
+            throw new IllegalArgumentException("At least one XML catalog file is required");
+        }
+        URI[] catalogUris = catalogFiles.stream().map(file -> file.toAbsolutePath().toUri()).toArray(URI[]::new);
+        CatalogFeatures features = CatalogFeatures.builder().with(CatalogFeatures.Feature.RESOLVE, CONTINUE).build();
+        this.catalogResolver = CatalogManager.catalogResolver(features, catalogUris);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public InputStream open(URI location) throws IOException {
+        return delegate.open(map(location));
+    }
+
+    /**
+     * Maps a location through the catalogs.
+     *
+     * @param location the location of an imported document
+     * @return the location given by the first matching catalog entry, or the location itself if none matches
+     */
+    public URI map(URI location) {
+        Source source;
+        // The catalog keeps the state of the current match, so lookups cannot overlap.
+        synchronized (catalogResolver) {
+            source = catalogResolver.resolve(location.toString(), null);
+        }
+        if (source == null || source.getSystemId() == null) {
+            return location;
+        }
+        return URI.create(source.getSystemId());
+    }
+}
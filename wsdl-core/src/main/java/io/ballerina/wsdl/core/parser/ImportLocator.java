@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.parser;
+
+import org.xml.sax.InputSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.function.Consumer;
+
+import javax.wsdl.xml.WSDLLocator;
+
+/**
+ * Bridges wsdl4j import resolution to an {@link ImportResolver}. Relative import locations are resolved against
+ * the location of the importing document. The reason a document cannot be retrieved is reported to the message
+ * sink, since wsdl4j only reports the location that failed.
+ *
+ * @since 0.1.0
+ */
+class ImportLocator implements WSDLLocator {
+    private final InputSource baseInputSource;
+    private final ImportResolver importResolver;
+    private final Consumer<String> messageSink;
+    private String latestImportURI;
+
+    ImportLocator(InputSource baseInputSource, ImportResolver importResolver, Consumer<String> messageSink) {
+        this.baseInputSource = baseInputSource;
+        this.importResolver = importResolver;
+        this.messageSink = messageSink;
+    }
+
+    @Override
+    public InputSource getBaseInputSource() {
+        return baseInputSource;
+    }
+
+    @Override
+    public String getBaseURI() {
+        return baseInputSource.getSystemId();
+    }
+
+    @Override
+    public InputSource getImportInputSource(String parentLocation, String importLocation) {
+        URI location = ImportResolver.resolveLocation(parentLocation, importLocation);
+        latestImportURI = location.toString();
+        try (InputStream importStream = importResolver.open(location)) {
+            InputSource inputSource = new InputSource(new ByteArrayInputStream(importStream.readAllBytes()));
+            inputSource.setSystemId(latestImportURI);
+            return inputSource;
+        } catch (IOException e) {
+            messageSink.accept("Failed to retrieve '" + location + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public String getLatestImportURI() {
+        return latestImportURI;
+    }
+
+    @Override
+    public void close() {
+    }
+}
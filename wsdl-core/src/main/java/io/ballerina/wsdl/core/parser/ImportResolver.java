@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+
+/**
+ * Opens the documents imported by a WSDL definition, such as imported WSDL definitions and XML schemas
+ * referenced through a schema location.
+ *
+ * @since 0.1.0
+ */
+@FunctionalInterface
+public interface ImportResolver {
+    String FILE_SCHEME = "file";
+
+    /**
+     * Opens an imported document.
+     *
+     * @param location the absolute location of the document
+     * @return a stream of the document content, which is closed by the caller
+     * @throws IOException if the document cannot be retrieved
+     */
+    InputStream open(URI location) throws IOException;
+
+    /**
+     * Returns a resolver that retrieves documents straight from their locations.
+     *
+     * @param offline whether to refuse locations that are not on the local file system
+     * @return the resolver
+     */
+    static ImportResolver direct(boolean offline) {
+        return location -> {
+            if (offline && !FILE_SCHEME.equals(location.getScheme())) {
+                throw new IOException("Cannot retrieve '" + location + "' in offline mode");
+            }
+            return location.toURL().openStream();
+        };
+    }
+
+    /**
+     * Resolves the location of an imported document against the location of the importing document.
+     *
+     * @param parentLocation the location of the importing document, or {@code null} if it is not known
+     * @param importLocation the location given by the import, which may be relative
+     * @return the absolute location of the imported document, relative to the working directory if the location
+     * of the importing document is not known
+     */
+    static URI resolveLocation(String parentLocation, String importLocation) {
+        URI importUri = toUri(importLocation);
+        if (importUri.isAbsolute()) {
+            return importUri;
+        }
+        if (parentLocation == null) {
+            return Paths.get(importLocation).toAbsolutePath().toUri();
+        }
+        return toUri(parentLocation).resolve(importUri);
+    }
+
+    private static URI toUri(String location) {
+        try {
+            return new URI(location);
+        } catch (URISyntaxException e) {
+            return Paths.get(location).toAbsolutePath().toUri();
+        }
+    }
+}
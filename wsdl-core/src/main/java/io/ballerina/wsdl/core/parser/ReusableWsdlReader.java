@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.parser;
+
+import com.ibm.wsdl.xml.WSDLReaderImpl;
+import org.w3c.dom.Document;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+import javax.wsdl.xml.WSDLLocator;
+
+/**
+ * A wsdl4j reader that can be used for more than one document. The stock reader remembers every schema it has
+ * read, which would leak schemas of previous documents into the next one, so the cache is cleared before each
+ * read. An instance must only be used by one thread at a time.
+ *
+ * @since 0.1.0
+ */
+class ReusableWsdlReader extends WSDLReaderImpl {
+    private static final String VERBOSE_FEATURE = "javax.wsdl.verbose";
+    private static final String IMPORT_DOCUMENTS_FEATURE = "javax.wsdl.importDocuments";
+
+    ReusableWsdlReader() {
+        setFeature(VERBOSE_FEATURE, false);
+        setFeature(IMPORT_DOCUMENTS_FEATURE, true);
+    }
+
+    Definition read(String documentBaseURI, Document document) throws WSDLException {
+        return read(documentBaseURI, document, null);
+    }
+
+    /**
+     * Reads a WSDL document, retrieving its imports through the given locator. Without a locator, imports are
+     * read straight from their locations.
+     */
+    Definition read(String documentBaseURI, Document document, WSDLLocator locator) throws WSDLException {
+        allSchemas.clear();
+        loc = locator;
+        try {
+            return readWSDL(documentBaseURI, document);
+        } finally {
+            loc = null;
+            allSchemas.clear();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core.parser;
+
+import org.w3c.dom.Document;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Parses WSDL documents into wsdl4j definitions. The XML parser and the wsdl4j reader are configured once per
+ * thread and reused for every document parsed on that thread, so the parser can be called from many threads at
+ * once. Messages reported while parsing are handed to a sink given per call instead of being printed to the
+ * standard error stream.
+ *
+ * @since 0.1.0
+ */
+public final class WsdlParser {
+    private static final String WSDL_DOCUMENT = "- WSDL Document -";
+    private static final String PARSER_ERROR_MESSAGE = "Problem parsing " + WSDL_DOCUMENT + ".";
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER =
+            ThreadLocal.withInitial(WsdlParser::newDocumentBuilder);
+    private static final ThreadLocal<ReusableWsdlReader> WSDL_READER =
+            ThreadLocal.withInitial(ReusableWsdlReader::new);
+
+    private WsdlParser() {}
+
+    /**
+     * Parses a WSDL file, streaming it from disk. The character encoding is detected from the byte order mark or
+     * the XML declaration of the file, and relative imports are resolved against the location of the file.
+     *
+     * @param wsdlFile the WSDL file
+     * @return the parsed WSDL definition
+     * @throws IOException   if the file cannot be read
+     * @throws WSDLException if the document is not well-formed or is not a valid WSDL definition
+     */
+    public static Definition parse(Path wsdlFile) throws IOException, WSDLException {
+        return parse(wsdlFile, message -> { });
+    }
+
+    /**
+     * Parses a WSDL file, streaming it from disk. The character encoding is detected from the byte order mark or
+     * the XML declaration of the file, and relative imports are resolved against the location of the file.
+     *
+     * @param wsdlFile    the WSDL file
+     * @param messageSink receives the warnings and recoverable errors reported while parsing the document
+     * @return the parsed WSDL definition
+     * @throws IOException   if the file cannot be read
+     * @throws WSDLException if the document is not well-formed or is not a valid WSDL definition
+     */
+    public static Definition parse(Path wsdlFile, Consumer<String> messageSink) throws IOException, WSDLException {
+        try (InputStream wsdlStream = new BufferedInputStream(Files.newInputStream(wsdlFile))) {
+            InputSource inputSource = new InputSource(wsdlStream);
+            inputSource.setSystemId(wsdlFile.toAbsolutePath().toUri().toString());
+            return parse(inputSource, messageSink);
+        }
+    }
+
+    /**
+     * Parses a WSDL file, streaming it from disk and retrieving the documents it imports through the given
+     * resolver.
+     *
+     * @param wsdlFile       the WSDL file
+     * @param messageSink    receives the warnings and recoverable errors reported while parsing the document
+     * @param importResolver opens the imported WSDL and XML schema documents
+     * @return the parsed WSDL definition
+     * @throws IOException   if the file cannot be read
+     * @throws WSDLException if the document is not well-formed, is not a valid WSDL definition or has an import
+     *                       that cannot be retrieved
+     */
+    public static Definition parse(Path wsdlFile, Consumer<String> messageSink, ImportResolver importResolver)
+            throws IOException, WSDLException {
+        try (InputStream wsdlStream = new BufferedInputStream(Files.newInputStream(wsdlFile))) {
+            InputSource inputSource = new InputSource(wsdlStream);
+            inputSource.setSystemId(wsdlFile.toAbsolutePath().toUri().toString());
+            return parse(inputSource, messageSink, importResolver);
+        }
+    }
+
+    /**
+     * Parses a WSDL document, discarding any parser warnings.
+     *
+     * @param inputSource the WSDL document, whose system ID is used to resolve relative imports
+     * @return the parsed WSDL definition
+     * @throws WSDLException if the document is not well-formed or is not a valid WSDL definition
+     */
+    public static Definition parse(InputSource inputSource) throws WSDLException {
+        return parse(inputSource, message -> { });
+    }
+
+    /**
+     * Parses a WSDL document.
+     *
+     * @param inputSource the WSDL document, whose system ID is used to resolve relative imports
+     * @param messageSink receives the warnings and recoverable errors reported while parsing the document
+     * @return the parsed WSDL definition
+     * @throws WSDLException if the document is not well-formed or is not a valid WSDL definition
+     */
+    public static Definition parse(InputSource inputSource, Consumer<String> messageSink) throws WSDLException {
+        Document document = parseDocument(inputSource, messageSink, null);
+        return WSDL_READER.get().read(inputSource.getSystemId(), document);
+    }
+
+    /**
+     * Parses a WSDL document, retrieving the documents it imports, and the external DTD and entities it refers
+     * to, through the given resolver.
+     *
+     * @param inputSource    the WSDL document, whose system ID is used to resolve relative imports
+     * @param messageSink    receives the warnings and recoverable errors reported while parsing the document
+     * @param importResolver opens the imported WSDL and XML schema documents
+     * @return the parsed WSDL definition
+     * @throws WSDLException if the document is not well-formed, is not a valid WSDL definition or has an import
+     *                       that cannot be retrieved
+     */
+    public static Definition parse(InputSource inputSource, Consumer<String> messageSink,
+                                   ImportResolver importResolver) throws WSDLException {
+        Document document = parseDocument(inputSource, messageSink, (publicId, systemId) -> {
+            URI location = ImportResolver.resolveLocation(inputSource.getSystemId(), systemId);
+            try (InputStream entityStream = importResolver.open(location)) {
+                InputSource entitySource = new InputSource(new ByteArrayInputStream(entityStream.readAllBytes()));
+                entitySource.setSystemId(location.toString());
+                return entitySource;
+            }
+        });
+        ImportLocator locator = new ImportLocator(inputSource, importResolver, messageSink);
+        return WSDL_READER.get().read(inputSource.getSystemId(), document, locator);
+    }
+
+    private static Document parseDocument(InputSource inputSource, Consumer<String> messageSink,
+                                          EntityResolver entityResolver) throws WSDLException {
+        DocumentBuilder documentBuilder = DOCUMENT_BUILDER.get();
+        documentBuilder.setErrorHandler(new SinkErrorHandler(messageSink));
+        documentBuilder.setEntityResolver(entityResolver);
+        try {
+            return documentBuilder.parse(inputSource);
+        } catch (SAXException | IOException e) {
+            throw new WSDLException(WSDLException.PARSER_ERROR, PARSER_ERROR_MESSAGE, e);
+        } finally {
+            documentBuilder.reset();
+        }
+    }
+
+    private static DocumentBuilder newDocumentBuilder() {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setValidating(false);
+        try {
+            return factory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("Failed to configure the XML parser: " + e.getMessage(), e);
+        }
+    }
+
+    private record SinkErrorHandler(Consumer<String> messageSink) implements ErrorHandler {
+
+        @Override
+        public void warning(SAXParseException exception) {
+            messageSink.accept(format("Warning", exception));
+        }
+
+        @Override
+        public void error(SAXParseException exception) {
+            messageSink.accept(format("Error", exception));
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) throws SAXException {
+            throw exception;
+        }
+
+        private static String format(String level, SAXParseException exception) {
+            return String.format("[%s] %d:%d: %s", level, exception.getLineNumber(), exception.getColumnNumber(),
+                                 exception.getMessage());
+        }
+    }
+}
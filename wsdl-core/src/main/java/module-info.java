@@ -23,6 +23,9 @@ module io.ballerina.wsdl.core {
     requires XmlSchema;
     requires io.ballerina.tools.api;
     requires java.xml;
+    requires java.management;
+    requires jdk.management;
+    requires jdk.jfr;
     requires io.ballerina.formatter.core;
     requires wsdl4j;
     requires io.ballerina.xsd.core;
@@ -31,4 +34,7 @@ module io.ballerina.wsdl.core {
     exports io.ballerina.wsdl.core.generator;
     exports io.ballerina.wsdl.core.diagnostic;
     exports io.ballerina.wsdl.core.handler.model;
+    exports io.ballerina.wsdl.core.parser;
+    exports io.ballerina.wsdl.core.cache;
+    exports io.ballerina.wsdl.core.jfr;
 }
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.cli;
+
+import io.ballerina.wsdl.core.WsdlToBallerinaResponse;
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testng.Assert;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+/**
+ * Tests reading the entries of a batch and converting them.
+ *
+ * @since 0.1.0
+ */
+public class BatchConversionTest {
+    private static final FileTime WRITE_TIME = FileTime.fromMillis(0);
+
+    @Test
+    void testManifestEntriesAreRead(@TempDir Path directory) throws Exception {
+        Path manifest = directory.resolve("wsdl-manifest.txt");
+        Files.writeString(manifest, """
+                # wsdl-file [--module <module-name>] [--port <port-name>] [--operations <operation-uris>]
+
+                services/Calculator.wsdl
+                  services/weather.wsdl   -m weather -p GlobalWeatherSoap
+                "legacy services/orders.wsdl" --module orders --operations 'urn:Create,urn:Cancel'
+                """);
+        List<BatchConversion.Entry> entries = BatchConversion.readEntries(manifest);
+        Assert.assertEquals(entries.size(), 3);
+        assertEntry(entries.get(0), directory.resolve("services/Calculator.wsdl"), "calculator", "");
+        assertEntry(entries.get(1), directory.resolve("services/weather.wsdl"), "weather", "GlobalWeatherSoap");
+        assertEntry(entries.get(2), directory.resolve("legacy services/orders.wsdl"), "orders", "");
+        Assert.assertEquals(entries.get(2).operations(), new String[]{"urn:Create", "urn:Cancel"});
+
+        BatchConversion.Entry defaults = entries.get(0).withDefaults("CalculatorSoap", new String[]{"urn:Add"});
+        Assert.assertEquals(defaults.portName(), "CalculatorSoap");
+        Assert.assertEquals(defaults.operations(), new String[]{"urn:Add"});
+        Assert.assertEquals(entries.get(2).withDefaults("OrdersSoap", new String[]{"urn:Add"}).operations(),
+                new String[]{"urn:Create", "urn:Cancel"});
+    }
+
+    @Test
+    void testDirectoryEntriesAreRead(@TempDir Path directory) throws Exception {
+        Files.writeString(directory.resolve("Weather-Service.wsdl"), "");
+        Files.writeString(directory.resolve("calculator.wsdl"), "");
+        Files.writeString(directory.resolve("readme.txt"), "");
+        List<BatchConversion.Entry> entries = BatchConversion.readEntries(directory);
+        Assert.assertEquals(entries.size(), 2);
+        assertEntry(entries.get(0), directory.resolve("Weather-Service.wsdl"), "weather_service", "");
+        assertEntry(entries.get(1), directory.resolve("calculator.wsdl"), "calculator", "");
+    }
+
+    @Test
+    void testMalformedEntriesAreRejected(@TempDir Path directory) throws Exception {
+        Path manifest = directory.resolve("wsdl-manifest.txt");
+        for (String entry : new String[]{"calculator.wsdl --module", "calculator.wsdl --output calculator",
+                "\"calculator.wsdl --module calculator"}) {
+            Files.writeString(manifest, "# Calculator\n" + entry + "\n");
+            IllegalArgumentException exception = Assert.expectThrows(IllegalArgumentException.class,
+                    () -> BatchConversion.readEntries(manifest));
+            Assert.assertTrue(exception.getMessage().contains("line 2"), exception.getMessage());
+        }
+    }
+
+    @Test
+    void testEntriesAreConvertedIndependently(@TempDir Path projectDirectory) throws Exception {
+        Path wsdlDirectory = projectDirectory.resolve("wsdl");
+        List<BatchConversion.Entry> entries = List.of(
+                new BatchConversion.Entry(wsdlDirectory.resolve("calculator.wsdl"), "calculator", "", new String[0]),
+                new BatchConversion.Entry(wsdlDirectory.resolve("broken.wsdl"), "broken", "", new String[0]),
+                new BatchConversion.Entry(wsdlDirectory.resolve("adder.wsdl"), "calculator", "", new String[0]),
+                new BatchConversion.Entry(wsdlDirectory.resolve("weather.wsdl"), "weather", "", new String[0]));
+        Files.createDirectories(projectDirectory.resolve("modules/weather"));
+        Files.writeString(projectDirectory.resolve("modules/weather/types.bal"), "// edited");
+
+        List<BatchConversion.Result> results = new BatchConversion(projectDirectory, entries,
+                OverwritePolicy.SKIP, 2).run((entry, outputDirectory) -> {
+                    if (entry.moduleName().equals("broken")) {
+                        throw new IOException("broken.wsdl is not well-formed");
+                    }
+                    WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+                    response.setTypesSource(new GeneratedSource(outputDirectory + "/types.bal", "type Id int;"));
+                    return response;
+                });
+        Assert.assertEquals(results.stream().map(BatchConversion.Result::status).toList(), List.of(
+                BatchConversion.Status.CONVERTED, BatchConversion.Status.FAILED, BatchConversion.Status.FAILED,
+                BatchConversion.Status.SKIPPED));
+        Assert.assertEquals(results.get(0).filesWritten(), 1);
+        Assert.assertEquals(results.get(1).message(), "broken.wsdl is not well-formed");
+        Assert.assertTrue(results.get(2).message().contains("already generated"), results.get(2).message());
+        Assert.assertTrue(Files.readString(projectDirectory.resolve("modules/calculator/types.bal"))
+                .contains("type Id int;"));
+        Assert.assertEquals(Files.readString(projectDirectory.resolve("modules/weather/types.bal")), "// edited");
+    }
+
+    @Test
+    void testUnchangedFilesAreNotWritten(@TempDir Path projectDirectory) throws Exception {
+        List<BatchConversion.Entry> entries = List.of(new BatchConversion.Entry(
+                projectDirectory.resolve("calculator.wsdl"), "calculator", "", new String[0]));
+        BatchConversion batchConversion = new BatchConversion(projectDirectory, entries, OverwritePolicy.OVERWRITE, 1);
+        BatchConversion.Converter converter = (entry, outputDirectory) -> {
+            WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+            response.setTypesSource(new GeneratedSource(outputDirectory + "/types.bal", "type Id int;"));
+            response.addClientSource(new GeneratedSource(outputDirectory + "/client.bal", "client"));
+            return response;
+        };
+        Assert.assertEquals(batchConversion.run(converter).get(0).filesWritten(), 2);
+        Path typesFile = projectDirectory.resolve("modules/calculator/types.bal");
+        Files.setLastModifiedTime(typesFile, WRITE_TIME);
+
+        List<BatchConversion.Result> results = batchConversion.run(converter);
+        Assert.assertEquals(results.get(0).status(), BatchConversion.Status.UNCHANGED);
+        Assert.assertEquals(results.get(0).filesWritten(), 0);
+        Assert.assertEquals(results.get(0).filesUnchanged(), 2);
+        Assert.assertEquals(Files.getLastModifiedTime(typesFile), WRITE_TIME);
+        ByteArrayOutputStream summary = new ByteArrayOutputStream();
+        BatchConversion.printSummary(new PrintStream(summary, true, StandardCharsets.UTF_8), results, 0);
+        Assert.assertTrue(summary.toString(StandardCharsets.UTF_8)
+                .contains("Converted 0, unchanged 1, skipped 0 and failed 0 of 1 WSDL files"), summary.toString());
+    }
+
+    private static void assertEntry(BatchConversion.Entry entry, Path wsdlFile, String moduleName, String portName) {
+        Assert.assertEquals(entry.wsdlFile(), wsdlFile.normalize());
+        Assert.assertEquals(entry.moduleName(), moduleName);
+        Assert.assertEquals(entry.portName(), portName);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.cli;
+
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import org.junit.jupiter.api.Test;
+import org.testng.Assert;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Tests listing the ports and operations of a WSDL file.
+ *
+ * @since 0.1.0
+ */
+public class ListPortsTest {
+    private static final Path WSDL_DIR = Paths.get("src/test/resources/wsdl").toAbsolutePath();
+
+    @Test
+    void testPortsAreListed() {
+        ByteArrayOutputStream list = new ByteArrayOutputStream();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        Assert.assertTrue(listPorts("calculator.xml", "CalculatorSoap", list, errors));
+        String listed = list.toString(StandardCharsets.UTF_8);
+        Assert.assertTrue(listed.startsWith("CalculatorSoap (SOAP11, binding CalculatorSoap) " +
+                "http://www.dneonline.com/calculator.asmx"), listed);
+        Assert.assertTrue(listed.contains("    SOAP action: http://tempuri.org/Add"), listed);
+        Assert.assertEquals(errors.toString(StandardCharsets.UTF_8), "");
+    }
+
+    @Test
+    void testInvalidWsdlErrorIsPrinted() {
+        ByteArrayOutputStream list = new ByteArrayOutputStream();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        Assert.assertFalse(listPorts("invalid_wsdl_spec.wsdl", "", list, errors));
+        Assert.assertEquals(list.toString(StandardCharsets.UTF_8), "");
+        String printed = errors.toString(StandardCharsets.UTF_8);
+        Assert.assertTrue(printed.startsWith("ERROR: Failed to parse the WSDL content. WSDLException: " +
+                "faultCode=PARSER_ERROR: Problem parsing - WSDL Document -.: org.xml.sax.SAXParseException: " +
+                "The element type \"wsdl:types\" must be terminated by the matching end-tag \"</wsdl:types>\"."),
+                printed);
+    }
+
+    @Test
+    void testMissingPortIsReported() {
+        ByteArrayOutputStream list = new ByteArrayOutputStream();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        Assert.assertFalse(listPorts("calculator.xml", "MissingPort", list, errors));
+        Assert.assertEquals(list.toString(StandardCharsets.UTF_8), "");
+        Assert.assertEquals(errors.toString(StandardCharsets.UTF_8).strip(), "Port not found: MissingPort");
+    }
+
+    private static boolean listPorts(String wsdlFile, String portName, ByteArrayOutputStream list,
+                                     ByteArrayOutputStream errors) {
+        return WsdlCmd.listPorts(WSDL_DIR.resolve(wsdlFile).toString(), portName, false, ImportResolver.direct(true),
+                                 new PrintStream(list, true, StandardCharsets.UTF_8),
+                                 new PrintStream(errors, true, StandardCharsets.UTF_8));
+    }
+}
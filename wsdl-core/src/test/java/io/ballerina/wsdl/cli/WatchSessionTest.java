@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.cli;
+
+import io.ballerina.wsdl.core.WsdlToBallerinaResponse;
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testng.Assert;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests regenerating the sources of a watched WSDL file.
+ *
+ * @since 0.1.0
+ */
+public class WatchSessionTest {
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final FileTime WRITE_TIME = FileTime.fromMillis(0);
+
+    @Test
+    void testChangedInputsAreRegenerated(@TempDir Path directory) throws Exception {
+        Fixture fixture = new Fixture(directory);
+        fixture.writeInitialSources();
+        List<GeneratedSource> offered = new CopyOnWriteArrayList<>();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Thread watcher = fixture.startWatching(output, source -> {
+            offered.add(source);
+            return false;
+        });
+        try {
+            awaitOutput(output, "Watching 2 file(s)", 1);
+
+            Files.writeString(fixture.wsdlFile, "service v2");
+            awaitContent(fixture.typesFile, WsdlCmd.addAutoGeneratedMessage("service v2 with common v1"));
+
+            Files.writeString(fixture.importFile, "common v2");
+            awaitContent(fixture.typesFile, WsdlCmd.addAutoGeneratedMessage("service v2 with common v2"));
+            awaitOutput(output, "Regenerated 1 of 2 file(s)", 2);
+        } finally {
+            stop(watcher);
+        }
+        // The client does not depend on the inputs, so it is never written again
+        Assert.assertEquals(Files.getLastModifiedTime(fixture.clientFile), WRITE_TIME);
+        Assert.assertTrue(offered.isEmpty());
+    }
+
+    @Test
+    void testKeptFilesFollowTheOverwritePolicy(@TempDir Path directory) throws Exception {
+        Fixture fixture = new Fixture(directory);
+        fixture.writeInitialSources();
+        // The user chose to keep an edited types file when the sources were first generated
+        Files.writeString(fixture.typesFile, "// edited");
+        List<String> offered = new CopyOnWriteArrayList<>();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Thread watcher = fixture.startWatching(output, source -> {
+            offered.add(source.content());
+            return false;
+        });
+        try {
+            awaitOutput(output, "Watching 2 file(s)", 1);
+
+            Files.writeString(fixture.wsdlFile, "service v2");
+            awaitOutput(output, "Regenerated 0 of 2 file(s)", 1);
+            Assert.assertEquals(offered, List.of("service v2 with common v1"));
+            Assert.assertEquals(Files.readString(fixture.typesFile), "// edited");
+
+            // Content that was already declined is not offered again
+            Files.writeString(fixture.importFile, "common v1");
+            awaitOutput(output, "Regenerated 0 of 2 file(s)", 2);
+            Assert.assertEquals(offered, List.of("service v2 with common v1"));
+        } finally {
+            stop(watcher);
+        }
+        Assert.assertEquals(Files.readString(fixture.typesFile), "// edited");
+    }
+
+    private static void awaitContent(Path file, String content) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!Files.readString(file).equals(content)) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("Timed out waiting for " + file + " to be regenerated: " + Files.readString(file));
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static void awaitOutput(ByteArrayOutputStream output, String message, int count) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (countOccurrences(output.toString(StandardCharsets.UTF_8), message) < count) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("Timed out waiting for '" + message + "' in: " + output.toString(StandardCharsets.UTF_8));
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static int countOccurrences(String text, String message) {
+        int count = 0;
+        for (int index = text.indexOf(message); index >= 0; index = text.indexOf(message, index + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static void stop(Thread watcher) throws InterruptedException {
+        watcher.interrupt();
+        watcher.join(TIMEOUT_MILLIS);
+    }
+
+    /**
+     * A WSDL file with one import, converted into a types file that depends on both and a client file that depends
+     * on neither.
+     */
+    private static final class Fixture {
+        private final Path wsdlFile;
+        private final Path importFile;
+        private final Path typesFile;
+        private final Path clientFile;
+
+        private Fixture(Path directory) throws Exception {
+            this.wsdlFile = directory.resolve("service.wsdl");
+            this.importFile = directory.resolve("imports").resolve("common.xsd");
+            Path moduleDirectory = directory.resolve("modules").resolve("service");
+            this.typesFile = moduleDirectory.resolve("types.bal");
+            this.clientFile = moduleDirectory.resolve("client.bal");
+            Files.createDirectories(importFile.getParent());
+            Files.createDirectories(moduleDirectory);
+            Files.writeString(wsdlFile, "service v1");
+            Files.writeString(importFile, "common v1");
+        }
+
+        private WsdlToBallerinaResponse convert(ImportResolver importResolver) throws Exception {
+            String imported;
+            try (InputStream importStream = importResolver.open(importFile.toUri())) {
+                imported = new String(importStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+            response.setTypesSource(new GeneratedSource(typesFile.toString(),
+                    Files.readString(wsdlFile) + " with " + imported));
+            response.addClientSource(new GeneratedSource(clientFile.toString(), "client"));
+            return response;
+        }
+
+        private void writeInitialSources() throws Exception {
+            WsdlToBallerinaResponse response = convert(ImportResolver.direct(false));
+            Files.writeString(typesFile, WsdlCmd.addAutoGeneratedMessage(response.getTypesSource().content()));
+            Files.writeString(clientFile, WsdlCmd.addAutoGeneratedMessage("client"));
+            Files.setLastModifiedTime(clientFile, WRITE_TIME);
+        }
+
+        private Thread startWatching(ByteArrayOutputStream output, WatchSession.SourceWriter sourceWriter)
+                throws Exception {
+            PrintStream outStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+            WatchSession watchSession = new WatchSession(wsdlFile, ImportResolver.direct(false), outStream);
+            WsdlToBallerinaResponse initialResponse = convert(watchSession.getImportResolver());
+            Thread watcher = new Thread(() -> {
+                try {
+                    watchSession.watch(initialResponse, this::convert, sourceWriter);
+                } catch (Exception e) {
+                    outStream.println("Watch failed: " + e.getMessage());
+                }
+            }, "wsdl-watch-test");
+            watcher.start();
+            return watcher;
+        }
+    }
+}
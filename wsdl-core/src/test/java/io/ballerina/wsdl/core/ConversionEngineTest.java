@@ -0,0 +1,306 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.testng.Assert;
+import org.w3c.dom.Element;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+import javax.wsdl.factory.WSDLFactory;
+import javax.wsdl.xml.WSDLReader;
+
+/**
+ * Stress tests running many WSDL to Ballerina conversions concurrently in the same JVM.
+ *
+ * @since 0.1.0
+ */
+public class ConversionEngineTest {
+    private static final Path WSDL_DIR = Paths.get("src/test/resources/wsdl").toAbsolutePath();
+    private static final int PARALLELISM = 8;
+    private static final int ROUNDS = 4;
+    private static final String[][] SAMPLES = {
+            {"calculator.xml", ""},
+            {"calculator.xml", "http://tempuri.org/Multiply,http://tempuri.org/Add"},
+            {"phone_verify.wsdl", "http://ws.cdyne.com/PhoneVerify/query/CheckPhoneNumber"},
+            {"ecommerce_service.wsdl", ""},
+            {"global_weather.wsdl", "http://www.webserviceX.NET/GetWeather"},
+            {"reservation_service.wsdl",
+                    "http://www.opentravel.org/OTA/2003/05/OTA2010A.ReservationService/CancelReservation"},
+            {"independent_schemas.wsdl", ""},
+            {"invalid_operation.wsdl", "http://tempuri.org/multiply"}
+    };
+
+    @Test
+    void testConcurrentConversionsMatchSequentialOutput() throws Exception {
+        List<String> expectedOutputs = new ArrayList<>();
+        try (ConversionEngine engine = new ConversionEngine(1)) {
+            for (String[] sample : SAMPLES) {
+                expectedOutputs.add(render(engine.convert(readDefinition(sample[0]), "", operations(sample), "")));
+            }
+        }
+
+        try (ConversionEngine engine = new ConversionEngine(PARALLELISM)) {
+            List<CompletableFuture<WsdlToBallerinaResponse>> futures = new ArrayList<>();
+            for (int round = 0; round < ROUNDS; round++) {
+                for (String[] sample : SAMPLES) {
+                    futures.add(engine.submit(readDefinition(sample[0]), "", operations(sample), ""));
+                }
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                String[] sample = SAMPLES[i % SAMPLES.length];
+                Assert.assertEquals(render(futures.get(i).get()), expectedOutputs.get(i % SAMPLES.length),
+                        "Concurrent conversion output differs for " + sample[0]);
+            }
+        }
+    }
+
+    @Test
+    void testReusedConverterDoesNotLeakPorts() throws Exception {
+        WsdlToBallerina wsdlToBallerina = new WsdlToBallerina();
+        WsdlToBallerinaResponse first = new WsdlToBallerinaResponse();
+        wsdlToBallerina.generateFromWSDL(first, readDefinition("calculator.xml"), "", new ArrayList<>(),
+                new String[0], "");
+        WsdlToBallerinaResponse second = new WsdlToBallerinaResponse();
+        wsdlToBallerina.generateFromWSDL(second, readDefinition("calculator.xml"), "", new ArrayList<>(),
+                new String[0], "");
+        Assert.assertEquals(render(second), render(first));
+    }
+
+    @Test
+    void testParallelTypeGenerationMatchesSequentialOutput() throws Exception {
+        GenerationOptions parallelOptions = new GenerationOptions.Builder().setParallelTypeGeneration(true).build();
+        try (ConversionEngine sequentialEngine = new ConversionEngine(1);
+             ConversionEngine parallelEngine = new ConversionEngine(1, parallelOptions)) {
+            for (String[] sample : SAMPLES) {
+                WsdlToBallerinaResponse expected = sequentialEngine.convert(readDefinition(sample[0]), "",
+                        operations(sample), "");
+                WsdlToBallerinaResponse actual = parallelEngine.convert(readDefinition(sample[0]), "",
+                        operations(sample), "");
+                Assert.assertEquals(render(actual), render(expected),
+                        "Parallel type generation output differs for " + sample[0]);
+                Assert.assertEquals(actual.getResolvedNameMeta(), expected.getResolvedNameMeta());
+            }
+        }
+    }
+
+    @Test
+    void testIndependentSchemasAreGeneratedInParallel() throws Exception {
+        List<Element> schemaElements = WsdlToBallerina.getSchemaElements(
+                readDefinition("independent_schemas.wsdl").getTypes());
+        Assert.assertEquals(schemaElements.size(), 3);
+        TypesGenerator.GeneratedTypes expected = TypesGenerator.generate(schemaElements, false);
+        TypesGenerator.GeneratedTypes actual = TypesGenerator.generate(schemaElements, true);
+        Assert.assertFalse(expected.parallel());
+        Assert.assertTrue(actual.parallel(), "The independent schemas were generated sequentially");
+        Assert.assertEquals(Utils.formatModuleParts(actual.modulePartNode()),
+                Utils.formatModuleParts(expected.modulePartNode()));
+        Assert.assertEquals(actual.resolvedNameMeta(), expected.resolvedNameMeta());
+
+        // A single schema has nothing to run in parallel with
+        Assert.assertFalse(TypesGenerator.generate(schemaElements.subList(0, 1), true).parallel());
+    }
+
+    @Test
+    void testParallelClientGenerationMatchesSequentialOutput() throws Exception {
+        GenerationOptions parallelOptions = new GenerationOptions.Builder().setParallelClientGeneration(true).build();
+        try (ConversionEngine sequentialEngine = new ConversionEngine(1);
+             ConversionEngine parallelEngine = new ConversionEngine(1, parallelOptions)) {
+            for (String[] sample : SAMPLES) {
+                WsdlToBallerinaResponse expected = sequentialEngine.convert(readDefinition(sample[0]), "",
+                        operations(sample), "");
+                WsdlToBallerinaResponse actual = parallelEngine.convert(readDefinition(sample[0]), "",
+                        operations(sample), "");
+                Assert.assertEquals(render(actual), render(expected),
+                        "Parallel client generation output differs for " + sample[0]);
+            }
+        }
+    }
+
+    @Test
+    void testFailingPortDoesNotStopOtherPorts() throws Exception {
+        GenerationOptions parallelOptions = new GenerationOptions.Builder().setParallelClientGeneration(true).build();
+        for (GenerationOptions options : new GenerationOptions[]{GenerationOptions.defaults(), parallelOptions}) {
+            try (ConversionEngine engine = new ConversionEngine(1, options)) {
+                WsdlToBallerinaResponse response = engine.convert(readDefinition("empty_header.wsdl"), "",
+                        new String[0], "");
+                Assert.assertEquals(response.getClientSources().size(), 1);
+                Assert.assertEquals(response.getClientSources().get(0).fileName(), "calculator_soap_client.bal");
+                Assert.assertEquals(response.getDiagnostics().size(), 1);
+            }
+        }
+    }
+
+    @Test
+    void testPortsSharingABindingReuseItsOperations() throws Exception {
+        try (ConversionEngine engine = new ConversionEngine(1)) {
+            WsdlToBallerinaResponse response = engine.convert(readDefinition("shared_binding.wsdl"), "",
+                    new String[0], "");
+            Assert.assertTrue(response.getDiagnostics().isEmpty());
+            Assert.assertEquals(response.getClientSources().size(), 4);
+            Assert.assertEquals(response.getMetrics().getCount(ConversionMetrics.BINDING_CACHE_MISSES), 2);
+            Assert.assertEquals(response.getMetrics().getCount(ConversionMetrics.BINDING_CACHE_HITS), 2);
+        }
+    }
+
+    @Test
+    void testConversionReleasesTheDefinition() throws Exception {
+        for (String[] sample : SAMPLES) {
+            WsdlToBallerinaResponse expected = new WsdlToBallerinaResponse();
+            new WsdlToBallerina().generateFromWSDL(expected, readDefinition(sample[0]), "", new ArrayList<>(),
+                    operations(sample), "");
+            AtomicReference<Definition> wsdlDefinition = new AtomicReference<>(readDefinition(sample[0]));
+            WsdlToBallerinaResponse actual = new WsdlToBallerinaResponse();
+            new WsdlToBallerina().generateFromWSDL(actual, wsdlDefinition, "", new ArrayList<>(),
+                    operations(sample), "");
+            Assert.assertEquals(render(actual), render(expected), "Model based output differs for " + sample[0]);
+            if (actual.getDiagnostics().isEmpty()) {
+                Assert.assertNull(wsdlDefinition.get());
+            }
+        }
+    }
+
+    @Test
+    void testModelSharesQualifiedNames() throws Exception {
+        WsdlModel wsdlModel = WsdlModel.read(readDefinition("shared_binding.wsdl"), new ConversionMetrics());
+        List<WsdlModel.Port> ports = wsdlModel.ports();
+        Assert.assertEquals(ports.stream().map(port -> port.soapPort().name()).toList(), List.of("CalculatorSoap",
+                "CalculatorSoap12", "CalculatorSoapBackup", "CalculatorSoap12Backup"));
+        Assert.assertSame(ports.get(2).soapPort().binding(), ports.get(0).soapPort().binding());
+        Assert.assertSame(ports.get(2).operations(), ports.get(0).operations());
+        Assert.assertEquals(wsdlModel.messages().size(), 2);
+        Assert.assertNull(wsdlModel.selectPorts("MissingPort"));
+    }
+
+    @Test
+    void testConversionRecordsPhaseMetrics() throws Exception {
+        try (ConversionEngine engine = new ConversionEngine(1)) {
+            WsdlToBallerinaResponse response = engine.convert(readDefinition("calculator.xml"), "", new String[0],
+                    "");
+            ConversionMetrics metrics = response.getMetrics();
+            Assert.assertEquals(new ArrayList<>(metrics.getPhases().keySet()), List.of(ConversionMetrics.BINDING_PHASE,
+                    ConversionMetrics.TYPES_PHASE, ConversionMetrics.FORMAT_PHASE, ConversionMetrics.CLIENTS_PHASE));
+            Assert.assertEquals(metrics.getPhases().get(ConversionMetrics.FORMAT_PHASE).count(), 3);
+            Assert.assertEquals(metrics.getOperations().size(), 8);
+            Assert.assertEquals(metrics.getCount(ConversionMetrics.OPERATIONS), 8);
+            long formattedCharacters = response.getTypesSource().content().length();
+            for (GeneratedSource clientSource : response.getClientSources()) {
+                formattedCharacters += clientSource.content().length();
+            }
+            Assert.assertEquals(metrics.getCount(ConversionMetrics.FORMATTED_CHARACTERS), formattedCharacters);
+            JsonObject json = JsonParser.parseString(metrics.toJson()).getAsJsonObject();
+            JsonObject counters = json.getAsJsonObject("counters");
+            Assert.assertEquals(counters.keySet(), metrics.getCounters().keySet());
+            Assert.assertEquals(counters.get(ConversionMetrics.OPERATIONS).getAsLong(), 8);
+            Assert.assertEquals(counters.get(ConversionMetrics.FORMATTED_CHARACTERS).getAsLong(), formattedCharacters);
+            assertTimings(json.getAsJsonObject("phases"), metrics.getPhases());
+            assertTimings(json.getAsJsonObject("operations"), metrics.getOperations());
+        }
+    }
+
+    @Test
+    void testWorkerTasksAddToTheirPhase() throws Exception {
+        ConversionMetrics metrics = new ConversionMetrics();
+        int allocatedBytes = 16 * 1024 * 1024;
+        try (ConversionMetrics.Timer ignored = metrics.startPhase(ConversionMetrics.TYPES_PHASE)) {
+            Callable<byte[]> task = ConversionMetrics.onWorker(() -> new byte[allocatedBytes]);
+            FutureTask<byte[]> futureTask = new FutureTask<>(task);
+            Thread worker = new Thread(futureTask);
+            worker.start();
+            Assert.assertEquals(futureTask.get().length, allocatedBytes);
+        }
+        ConversionMetrics.Timing timing = metrics.getPhases().get(ConversionMetrics.TYPES_PHASE);
+        Assert.assertEquals(timing.count(), 1);
+        // A task outside a phase is not measured
+        Callable<byte[]> unmeasured = () -> new byte[0];
+        Assert.assertSame(ConversionMetrics.onWorker(unmeasured), unmeasured);
+
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof
+                com.sun.management.ThreadMXBean threadMXBean && threadMXBean.isThreadAllocatedMemorySupported(),
+                "The JVM does not measure the memory allocated by a thread");
+        Assert.assertTrue(timing.allocatedBytes() >= allocatedBytes, "Allocations of the worker are missing");
+    }
+
+    private static void assertTimings(JsonObject json, Map<String, ConversionMetrics.Timing> timings) {
+        Assert.assertEquals(json.keySet(), timings.keySet());
+        for (Map.Entry<String, ConversionMetrics.Timing> timing : timings.entrySet()) {
+            JsonObject entry = json.getAsJsonObject(timing.getKey());
+            Assert.assertEquals(entry.get("count").getAsLong(), timing.getValue().count());
+            Assert.assertEquals(entry.get("wallNanos").getAsLong(), timing.getValue().wallNanos());
+            Assert.assertEquals(entry.get("cpuNanos").getAsLong(), timing.getValue().cpuNanos());
+            Assert.assertEquals(entry.get("allocatedBytes").getAsLong(), timing.getValue().allocatedBytes());
+        }
+    }
+
+    @Test
+    void testConversionStagesMatchConversionOutput() throws Exception {
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        new WsdlToBallerina().generateFromWSDL(response, readDefinition("calculator.xml"), "", new ArrayList<>(),
+                new String[0], "");
+        ConversionStages stages = new ConversionStages(readDefinition("calculator.xml"), GenerationOptions.defaults());
+        ConversionStages.TypesModule typesModule = stages.generateTypes();
+        Assert.assertEquals(stages.format(typesModule.modulePartNode()), response.getTypesSource().content());
+        List<ModulePartNode> clientModules = stages.generateClientModules(stages.getOperations(),
+                typesModule.resolvedNameMeta());
+        Assert.assertEquals(clientModules.size(), response.getClientSources().size());
+        for (int i = 0; i < clientModules.size(); i++) {
+            Assert.assertEquals(stages.format(clientModules.get(i)), response.getClientSources().get(i).content());
+        }
+    }
+
+    private static String[] operations(String[] sample) {
+        return sample[1].isEmpty() ? new String[0] : sample[1].split(",");
+    }
+
+    private static String render(WsdlToBallerinaResponse response) {
+        StringBuilder builder = new StringBuilder();
+        GeneratedSource typesSource = response.getTypesSource();
+        if (typesSource != null) {
+            builder.append(typesSource.fileName()).append('\n').append(typesSource.content());
+        }
+        for (GeneratedSource clientSource : response.getClientSources()) {
+            builder.append(clientSource.fileName()).append('\n').append(clientSource.content());
+        }
+        response.getDiagnostics().forEach(diagnostic -> builder.append(diagnostic).append('\n'));
+        return builder.toString();
+    }
+
+    private static Definition readDefinition(String fileName) throws WSDLException {
+        WSDLReader reader = WSDLFactory.newInstance().newWSDLReader();
+        reader.setFeature("javax.wsdl.verbose", false);
+        return reader.readWSDL(WSDL_DIR.resolve(fileName).toString());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.wsdl.core.jfr.WsdlEvents;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.testng.Assert;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.wsdl.Definition;
+import javax.wsdl.factory.WSDLFactory;
+import javax.wsdl.xml.WSDLReader;
+
+/**
+ * Tests that a conversion emits the Java Flight Recorder events of its phases.
+ *
+ * @since 0.1.0
+ */
+public class ConversionEventsTest {
+    private static final Path WSDL_DIR = Paths.get("src/test/resources/wsdl").toAbsolutePath();
+    private static final List<String> EVENTS = List.of("GenerateTypes", "ReadSchemas", "ReadBindingOperations",
+            "GenerateEnvelope", "GenerateClient", "FormatModule");
+
+    @Test
+    void testConversionEmitsPhaseEvents() throws Exception {
+        WSDLReader reader = WSDLFactory.newInstance().newWSDLReader();
+        reader.setFeature("javax.wsdl.verbose", false);
+        Definition wsdlDefinition = reader.readWSDL(WSDL_DIR.resolve("calculator.xml").toString());
+        Path recordingFile = Files.createTempFile("wsdl-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            EVENTS.forEach(event -> recording.enable(WsdlEvents.NAME_PREFIX + event).withoutThreshold());
+            recording.start();
+            WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+            new WsdlToBallerina().generateFromWSDL(response, wsdlDefinition, "", new ArrayList<>(), new String[0],
+                    "");
+            recording.stop();
+            recording.dump(recordingFile);
+            Assert.assertTrue(response.getDiagnostics().isEmpty());
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+            Set<String> eventNames = events.stream()
+                    .map(event -> event.getEventType().getName().substring(WsdlEvents.NAME_PREFIX.length()))
+                    .collect(Collectors.toSet());
+            Assert.assertEquals(eventNames, Set.copyOf(EVENTS));
+            List<RecordedEvent> envelopeEvents = events.stream()
+                    .filter(event -> event.getEventType().getName().endsWith("GenerateEnvelope"))
+                    .toList();
+            Assert.assertEquals(envelopeEvents.size(), 8);
+            Assert.assertTrue(envelopeEvents.stream().anyMatch(event ->
+                    "CalculatorSoap".equals(event.getString("port")) && "Add".equals(event.getString("operation"))));
+            RecordedEvent typesEvent = events.stream()
+                    .filter(event -> event.getEventType().getName().endsWith("GenerateTypes"))
+                    .findFirst().orElseThrow();
+            Assert.assertTrue(typesEvent.getInt("recordCount") > 0);
+            Assert.assertEquals(typesEvent.getString("mode"), "sequential");
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testng.Assert;
+import org.xml.sax.InputSource;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import javax.wsdl.Definition;
+
+/**
+ * Tests regenerating sources with the formatted members of a previous conversion.
+ *
+ * @since 0.1.0
+ */
+public class FormattingCacheTest {
+    private static final Path CALCULATOR_WSDL = Paths.get("src/test/resources/wsdl/calculator.xml").toAbsolutePath();
+    private static final GenerationOptions PARALLEL_FORMATTING = new GenerationOptions.Builder()
+            .setParallelFormatting(true).build();
+
+    @Test
+    void testRegenerationReusesUnchangedMembers(@TempDir Path outputDir) throws Exception {
+        String wsdl = Files.readString(CALCULATOR_WSDL);
+        Path manifestFile = FormattingCache.manifestFile(outputDir.resolve("formatting"), outputDir);
+        FormattingCache firstCache = FormattingCache.load(manifestFile);
+        Assert.assertEquals(render(wsdl, firstCache, PARALLEL_FORMATTING), render(wsdl, null));
+        Assert.assertEquals(firstCache.getHits(), 0);
+        firstCache.save(manifestFile);
+
+        FormattingCache unchangedCache = FormattingCache.load(manifestFile);
+        Assert.assertEquals(render(wsdl, unchangedCache, GenerationOptions.defaults()), render(wsdl, null));
+        Assert.assertEquals(unchangedCache.getMisses(), 0);
+        Assert.assertEquals(unchangedCache.getHits(), firstCache.getMisses());
+
+        // Only the remote functions calling the changed SOAP action, one in each client, are generated again.
+        String changedWsdl = wsdl.replace("soapAction=\"http://tempuri.org/Add\"",
+                "soapAction=\"http://tempuri.org/AddNumbers\"");
+        FormattingCache changedCache = FormattingCache.load(manifestFile);
+        Assert.assertEquals(render(changedWsdl, changedCache, GenerationOptions.defaults()), render(changedWsdl, null));
+        Assert.assertEquals(changedCache.getMisses(), 2);
+        Assert.assertEquals(changedCache.getHits(), firstCache.getMisses() - 2);
+    }
+
+    @Test
+    void testChangedMessageRegeneratesOnlyItsOperation(@TempDir Path outputDir) throws Exception {
+        String wsdl = Files.readString(CALCULATOR_WSDL);
+        Path manifestFile = FormattingCache.manifestFile(outputDir, outputDir);
+        FormattingCache firstCache = FormattingCache.load(manifestFile);
+        render(wsdl, firstCache, PARALLEL_FORMATTING);
+        firstCache.save(manifestFile);
+
+        // The envelope records of the operation replying with the changed message are generated again in each
+        // client, while its remote function and the other operations are reused.
+        String changedWsdl = wsdl.replace("<wsdl:part name=\"parameters\" element=\"tns:AddResponse\"/>",
+                "<wsdl:part name=\"parameters\" element=\"tns:SubtractResponse\"/>");
+        Assert.assertNotEquals(changedWsdl, wsdl);
+        FormattingCache changedCache = FormattingCache.load(manifestFile);
+        Assert.assertEquals(render(changedWsdl, changedCache, GenerationOptions.defaults()), render(changedWsdl, null));
+        Assert.assertEquals(changedCache.getMisses(), 2);
+        Assert.assertEquals(changedCache.getHits(), firstCache.getMisses() - 2);
+    }
+
+    @Test
+    void testModulesMissingFromTheCacheAreFormattedAtOnce(@TempDir Path outputDir) throws Exception {
+        String wsdl = Files.readString(CALCULATOR_WSDL);
+        Path manifestFile = FormattingCache.manifestFile(outputDir, outputDir);
+        FormattingCache emptyCache = FormattingCache.load(manifestFile);
+        Assert.assertEquals(render(wsdl, emptyCache, GenerationOptions.defaults()), render(wsdl, null));
+        Assert.assertEquals(emptyCache.getHits(), 0);
+        Assert.assertTrue(emptyCache.getMisses() > 0);
+        emptyCache.save(manifestFile);
+        Assert.assertTrue(FormattingCache.load(manifestFile).isEmpty());
+        Assert.assertEquals(FormattingCache.clear(outputDir), 1);
+        Assert.assertFalse(Files.exists(manifestFile));
+    }
+
+    private static String render(String wsdl, FormattingCache formattingCache) throws Exception {
+        return render(wsdl, formattingCache, GenerationOptions.defaults());
+    }
+
+    private static String render(String wsdl, FormattingCache formattingCache, GenerationOptions options)
+            throws Exception {
+        InputSource inputSource = new InputSource(new StringReader(wsdl));
+        inputSource.setSystemId(CALCULATOR_WSDL.toUri().toString());
+        Definition definition = WsdlParser.parse(inputSource);
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        new WsdlToBallerina(options, formattingCache).generateFromWSDL(response, definition, "",
+                new ArrayList<>(), new String[0], "");
+        Assert.assertTrue(response.getDiagnostics().isEmpty());
+        StringBuilder builder = new StringBuilder(response.getTypesSource().content());
+        for (GeneratedSource clientSource : response.getClientSources()) {
+            builder.append(clientSource.fileName()).append('\n').append(clientSource.content());
+        }
+        return builder.toString();
+    }
+}
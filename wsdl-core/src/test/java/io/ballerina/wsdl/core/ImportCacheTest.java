@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.wsdl.core.cache.ImportCache;
+import io.ballerina.wsdl.core.handler.SchemaHandler;
+import io.ballerina.wsdl.core.parser.CatalogImportResolver;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testng.Assert;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+import javax.xml.namespace.QName;
+
+/**
+ * Tests resolving remote WSDL imports through XML catalogs and the import cache. The remote locations are
+ * mapped by a catalog to local copies of the documents.
+ *
+ * @since 0.1.0
+ */
+public class ImportCacheTest {
+    private static final Path RESOURCE_DIR = Paths.get("src/test/resources").toAbsolutePath();
+    private static final Path REMOTE_IMPORT_WSDL = RESOURCE_DIR.resolve("wsdl/remote_import.wsdl");
+    private static final Path CATALOG = RESOURCE_DIR.resolve("catalog/calculator_catalog.xml");
+    private static final String IMPORTED_NAMESPACE = "http://tempuri.org/imported";
+    private static final QName MULTIPLY_ELEMENT = new QName("http://tempuri.org/", "Multiply");
+    private static final URI COMMON_SCHEMA = URI.create("http://schemas.example.com/calculator/common.xsd");
+
+    @Test
+    void testCatalogMapsRemoteLocationToLocalCopy() {
+        CatalogImportResolver resolver = new CatalogImportResolver(List.of(CATALOG), ImportResolver.direct(true));
+        URI mapped = resolver.map(URI.create("http://schemas.example.com/calculator/common.xsd"));
+        Assert.assertEquals(Paths.get(mapped), RESOURCE_DIR.resolve("wsdl/imports/common.xsd"));
+        URI unmapped = URI.create("http://schemas.example.com/other/common.xsd");
+        Assert.assertEquals(resolver.map(unmapped), unmapped);
+    }
+
+    @Test
+    void testRemoteImportsAreServedFromCache(@TempDir Path cacheDir) throws Exception {
+        ImportCache warmCache = new ImportCache(cacheDir,
+                new CatalogImportResolver(List.of(CATALOG), ImportResolver.direct(true)));
+        Definition definition = WsdlParser.parse(REMOTE_IMPORT_WSDL, message -> { }, warmCache);
+        Assert.assertTrue(definition.getImports().containsKey(IMPORTED_NAMESPACE));
+        Assert.assertEquals(warmCache.getHits(), 0);
+        Assert.assertEquals(warmCache.getMisses(), 2);
+
+        // Without the catalog, the offline resolver can only succeed if every import comes from the cache.
+        ImportCache offlineCache = new ImportCache(cacheDir, ImportResolver.direct(true));
+        Definition cachedDefinition = WsdlParser.parse(REMOTE_IMPORT_WSDL, message -> { }, offlineCache);
+        Assert.assertTrue(cachedDefinition.getImports().containsKey(IMPORTED_NAMESPACE));
+        Assert.assertEquals(offlineCache.getHits(), 2);
+        Assert.assertEquals(offlineCache.getMisses(), 0);
+    }
+
+    @Test
+    void testOfflineMissFails(@TempDir Path cacheDir) {
+        ImportCache offlineCache = new ImportCache(cacheDir, ImportResolver.direct(true));
+        Assert.assertThrows(WSDLException.class,
+                () -> WsdlParser.parse(REMOTE_IMPORT_WSDL, message -> { }, offlineCache));
+        Assert.assertEquals(offlineCache.getMisses(), 1);
+    }
+
+    @Test
+    void testExpiredImportsAreRetrievedAgain(@TempDir Path cacheDir) throws Exception {
+        ImportResolver catalogResolver = new CatalogImportResolver(List.of(CATALOG), ImportResolver.direct(true));
+        WsdlParser.parse(REMOTE_IMPORT_WSDL, message -> { }, new ImportCache(cacheDir, catalogResolver));
+
+        ImportCache refreshingCache = new ImportCache(cacheDir, catalogResolver, Duration.ZERO);
+        WsdlParser.parse(REMOTE_IMPORT_WSDL, message -> { }, refreshingCache);
+        Assert.assertEquals(refreshingCache.getHits(), 0);
+        Assert.assertEquals(refreshingCache.getMisses(), 2);
+
+        // An expired entry is still served if the document cannot be retrieved again
+        ImportCache expiredCache = new ImportCache(cacheDir, ImportResolver.direct(true), Duration.ofNanos(1));
+        Thread.sleep(10);
+        WsdlParser.parse(REMOTE_IMPORT_WSDL, message -> { }, expiredCache);
+        Assert.assertEquals(expiredCache.getHits(), 2);
+
+        ImportCache offlineRefreshingCache = new ImportCache(cacheDir, ImportResolver.direct(true), Duration.ZERO);
+        Assert.assertThrows(WSDLException.class,
+                () -> WsdlParser.parse(REMOTE_IMPORT_WSDL, message -> { }, offlineRefreshingCache));
+    }
+
+    @Test
+    void testSchemaImportsAreResolvedThroughTheResolver() throws Exception {
+        ImportResolver catalogResolver = new CatalogImportResolver(List.of(CATALOG), ImportResolver.direct(true));
+        Definition definition = WsdlParser.parse(REMOTE_IMPORT_WSDL, message -> { }, catalogResolver);
+        List<URI> openedLocations = new ArrayList<>();
+        SchemaHandler schemaHandler = new SchemaHandler(definition, location -> {
+            openedLocations.add(location);
+            return catalogResolver.open(location);
+        });
+        // Multiply is declared as an element, so the lookup only reads the schemas of the namespace
+        Assert.assertFalse(schemaHandler.hasType(MULTIPLY_ELEMENT));
+        Assert.assertEquals(openedLocations, List.of(COMMON_SCHEMA));
+
+        // Without the catalog, the offline resolver refuses the remote schema instead of XmlSchema retrieving it
+        SchemaHandler offlineSchemaHandler = new SchemaHandler(definition, ImportResolver.direct(true));
+        Assert.assertThrows(RuntimeException.class, () -> offlineSchemaHandler.hasType(MULTIPLY_ELEMENT));
+    }
+
+    @Test
+    void testRemoteImportsAreConvertedOffline(@TempDir Path cacheDir) throws Exception {
+        ImportCache importCache = new ImportCache(cacheDir,
+                new CatalogImportResolver(List.of(CATALOG), ImportResolver.direct(true)));
+        Definition definition = WsdlParser.parse(REMOTE_IMPORT_WSDL, message -> { }, importCache);
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        new WsdlToBallerina(GenerationOptions.defaults(), null, importCache).generateFromWSDL(response, definition,
+                "", new ArrayList<>(), new String[0], "");
+        Assert.assertTrue(response.getDiagnostics().isEmpty(), String.valueOf(response.getDiagnostics()));
+        Assert.assertNotNull(response.getTypesSource());
+        Assert.assertFalse(response.getClientSources().isEmpty());
+    }
+}
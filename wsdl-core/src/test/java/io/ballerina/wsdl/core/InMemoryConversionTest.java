@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.junit.jupiter.api.Test;
+import org.testng.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests converting WSDL documents held in memory, with the imports served by a resolver.
+ *
+ * @since 0.1.0
+ */
+public class InMemoryConversionTest {
+    private static final Path WSDL_DIR = Paths.get("src/test/resources/wsdl").toAbsolutePath();
+    private static final URI BASE_URI = URI.create("http://services.example.com/wsdl/relative_import.wsdl");
+    private static final URI IMPORT_URI = URI.create(
+            "http://services.example.com/wsdl/imports/imported_definitions.wsdl");
+    private static final String MODULE_DIRECTORY = "modules/calculator";
+    private static final URI REMOTE_BASE_URI = URI.create("http://schemas.example.com/calculator/calculator.wsdl");
+    private static final URI REMOTE_IMPORT_URI = URI.create(
+            "http://schemas.example.com/calculator/imported_definitions.wsdl");
+    private static final URI REMOTE_SCHEMA_URI = URI.create("http://schemas.example.com/calculator/common.xsd");
+
+    @Test
+    void testConversionFromContentMatchesFile() throws Exception {
+        Map<URI, byte[]> documents = Map.of(
+                BASE_URI, Files.readAllBytes(WSDL_DIR.resolve("relative_import.wsdl")),
+                IMPORT_URI, Files.readAllBytes(WSDL_DIR.resolve("imports/imported_definitions.wsdl")));
+        List<URI> openedLocations = new ArrayList<>();
+        ImportResolver importResolver = location -> {
+            openedLocations.add(location);
+            byte[] document = documents.get(location);
+            if (document == null) {
+                throw new IOException("Unknown document: " + location);
+            }
+            return new ByteArrayInputStream(document);
+        };
+        WsdlToBallerinaResponse expected = new WsdlToBallerinaResponse();
+        new WsdlToBallerina().generateFromWSDL(expected, WsdlParser.parse(WSDL_DIR.resolve("relative_import.wsdl")),
+                MODULE_DIRECTORY, new ArrayList<>(), new String[0], "");
+
+        WsdlToBallerinaResponse fromContent = new WsdlToBallerinaResponse();
+        new WsdlToBallerina().generateFromContent(fromContent, documents.get(BASE_URI), BASE_URI, importResolver,
+                MODULE_DIRECTORY, new ArrayList<>(), new String[0], "");
+        assertSameSources(fromContent, expected);
+        Assert.assertEquals(Set.copyOf(openedLocations), Set.of(IMPORT_URI));
+
+        WsdlToBallerinaResponse fromLocation = new WsdlToBallerinaResponse();
+        new WsdlToBallerina().generateFromLocation(fromLocation, BASE_URI, importResolver, MODULE_DIRECTORY,
+                new ArrayList<>(), new String[0], "");
+        assertSameSources(fromLocation, expected);
+        Assert.assertEquals(Set.copyOf(openedLocations), documents.keySet());
+    }
+
+    @Test
+    void testSchemaImportsAreOpenedThroughTheResolver() throws Exception {
+        Map<URI, byte[]> documents = Map.of(
+                REMOTE_BASE_URI, Files.readAllBytes(WSDL_DIR.resolve("remote_import.wsdl")),
+                REMOTE_IMPORT_URI, Files.readAllBytes(WSDL_DIR.resolve("imports/imported_definitions.wsdl")),
+                REMOTE_SCHEMA_URI, Files.readAllBytes(WSDL_DIR.resolve("imports/common.xsd")));
+        List<URI> openedLocations = new ArrayList<>();
+        ImportResolver importResolver = location -> {
+            openedLocations.add(location);
+            byte[] document = documents.get(location);
+            if (document == null) {
+                throw new IOException("Unknown document: " + location);
+            }
+            return new ByteArrayInputStream(document);
+        };
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        new WsdlToBallerina().generateFromLocation(response, REMOTE_BASE_URI, importResolver, MODULE_DIRECTORY,
+                new ArrayList<>(), new String[0], "");
+        Assert.assertTrue(response.getDiagnostics().isEmpty(), String.valueOf(response.getDiagnostics()));
+        Assert.assertNotNull(response.getTypesSource());
+        Assert.assertTrue(openedLocations.contains(REMOTE_SCHEMA_URI), String.valueOf(openedLocations));
+        Assert.assertEquals(Set.copyOf(openedLocations), documents.keySet());
+    }
+
+    @Test
+    void testExternalEntitiesAreOpenedThroughTheResolver() {
+        String wsdl = "<!DOCTYPE definitions SYSTEM \"definitions.dtd\"><definitions/>";
+        List<URI> openedLocations = new ArrayList<>();
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        new WsdlToBallerina().generateFromContent(response, wsdl.getBytes(StandardCharsets.UTF_8), BASE_URI,
+                location -> {
+                    openedLocations.add(location);
+                    throw new IOException("Refused: " + location);
+                }, "", new ArrayList<>(), new String[0], "");
+        Assert.assertEquals(openedLocations, List.of(BASE_URI.resolve("definitions.dtd")));
+        Assert.assertEquals(response.getDiagnostics().size(), 1);
+    }
+
+    @Test
+    void testInvalidContentIsReported() {
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        new WsdlToBallerina().generateFromContent(response, "<wsdl:definitions".getBytes(StandardCharsets.UTF_8),
+                null, location -> {
+                    throw new IOException("No imports expected");
+                }, "", new ArrayList<>(), new String[0], "");
+        Assert.assertNull(response.getTypesSource());
+        Assert.assertEquals(response.getDiagnostics().size(), 1);
+
+        WsdlToBallerinaResponse missing = new WsdlToBallerinaResponse();
+        new WsdlToBallerina().generateFromLocation(missing, BASE_URI, location -> {
+            throw new IOException("Not found: " + location);
+        }, "", new ArrayList<>(), new String[0], "");
+        Assert.assertEquals(missing.getDiagnostics().size(), 1);
+    }
+
+    private static void assertSameSources(WsdlToBallerinaResponse actual, WsdlToBallerinaResponse expected) {
+        Assert.assertTrue(actual.getDiagnostics().isEmpty(), String.valueOf(actual.getDiagnostics()));
+        Assert.assertEquals(actual.getTypesSource().fileName(), expected.getTypesSource().fileName());
+        Assert.assertEquals(actual.getTypesSource().content(), expected.getTypesSource().content());
+        List<GeneratedSource> actualClients = actual.getClientSources();
+        List<GeneratedSource> expectedClients = expected.getClientSources();
+        Assert.assertEquals(actualClients.size(), expectedClients.size());
+        for (int i = 0; i < actualClients.size(); i++) {
+            Assert.assertEquals(actualClients.get(i).fileName(), expectedClients.get(i).fileName());
+            Assert.assertEquals(actualClients.get(i).content(), expectedClients.get(i).content());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.junit.jupiter.api.Test;
+import org.testng.Assert;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.wsdl.Definition;
+
+/**
+ * Tests that formatting large modules in chunks on several threads gives the same sources as formatting them at
+ * once.
+ *
+ * @since 0.1.0
+ */
+public class ParallelFormattingTest {
+    private static final Path WSDL_DIR = Paths.get("src/test/resources/wsdl").toAbsolutePath();
+    private static final GenerationOptions PARALLEL_FORMATTING =
+            new GenerationOptions.Builder().setParallelFormatting(true).build();
+    private static final int RECORD_COUNT = 10_000;
+
+    @Test
+    void testParallelFormattingMatchesWholeModuleFormatting() throws Exception {
+        StringBuilder source = new StringBuilder("import ballerina/data.xmldata;");
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            source.append("@xmldata:Namespace {prefix:\"tns\",uri:\"http://example.com/").append(i).append("\"}\n")
+                    .append("public type Record").append(i).append(" record{string id;Record")
+                    .append(i + 1).append("[] children?;};");
+        }
+        ModulePartNode modulePartNode = NodeParser.parseCompilationUnit(source.toString());
+        Assert.assertEquals(Utils.formatModuleParts(modulePartNode, PARALLEL_FORMATTING),
+                Utils.formatModuleParts(modulePartNode));
+    }
+
+    @Test
+    void testGeneratedModulesFormattedInParallelMatchFormatter() throws Exception {
+        Definition wsdlDefinition = WsdlParser.parse(WSDL_DIR.resolve("large_service.wsdl"));
+        List<GeneratedSource> expectedSources = generate(new WsdlToBallerina(), wsdlDefinition);
+        List<GeneratedSource> actualSources = generate(new WsdlToBallerina(PARALLEL_FORMATTING), wsdlDefinition);
+        // The client and the types module are both large enough to be formatted in chunks
+        Assert.assertEquals(actualSources.size(), 2);
+        for (GeneratedSource source : actualSources) {
+            int memberCount = NodeParser.parseCompilationUnit(source.content()).members().size();
+            Assert.assertTrue(memberCount >= Utils.MIN_PARALLEL_FORMATTING_MEMBERS,
+                    source.fileName() + " has only " + memberCount + " members");
+        }
+        Assert.assertEquals(actualSources, expectedSources);
+    }
+
+    private static List<GeneratedSource> generate(WsdlToBallerina wsdlToBallerina, Definition wsdlDefinition) {
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        wsdlToBallerina.generateFromWSDL(response, wsdlDefinition, "", new ArrayList<>(), new String[0], "");
+        Assert.assertTrue(response.getDiagnostics().isEmpty(), String.valueOf(response.getDiagnostics()));
+        List<GeneratedSource> sources = new ArrayList<>(response.getClientSources());
+        if (response.getTypesSource() != null) {
+            sources.add(response.getTypesSource());
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.wsdl.core.cache.ResultCache;
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import io.ballerina.wsdl.core.parser.CatalogImportResolver;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testng.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tests storing generated sources in the result cache and invalidating them when an input changes.
+ *
+ * @since 0.1.0
+ */
+public class ResultCacheTest {
+    private static final Path RESOURCE_DIR = Paths.get("src/test/resources").toAbsolutePath();
+    private static final Path CALCULATOR_WSDL = RESOURCE_DIR.resolve("wsdl/calculator.xml");
+    private static final Path REMOTE_IMPORT_WSDL = RESOURCE_DIR.resolve("wsdl/remote_import.wsdl");
+    private static final Path CATALOG = RESOURCE_DIR.resolve("catalog/calculator_catalog.xml");
+
+    @Test
+    void testCachedSourcesMatchGeneratedSources(@TempDir Path cacheDir) throws Exception {
+        ImportResolver importResolver = ImportResolver.direct(true);
+        String fingerprint = fingerprint(CALCULATOR_WSDL, "", new String[0]);
+        ResultCache cache = new ResultCache(cacheDir, ResultCache.DEFAULT_MAX_SIZE);
+        Assert.assertTrue(cache.get(fingerprint, importResolver).isEmpty());
+
+        ResultCache.RecordingImportResolver recordingImportResolver = ResultCache.recording(importResolver);
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        new WsdlToBallerina().generateFromWSDL(response,
+                WsdlParser.parse(CALCULATOR_WSDL, message -> { }, recordingImportResolver), "",
+                new ArrayList<>(), new String[0], "");
+        cache.put(fingerprint, recordingImportResolver.getImports(), response);
+
+        Optional<WsdlToBallerinaResponse> cachedResponse = cache.get(fingerprint, importResolver);
+        Assert.assertTrue(cachedResponse.isPresent());
+        Assert.assertEquals(cachedResponse.get().getTypesSource(), response.getTypesSource());
+        Assert.assertEquals(cachedResponse.get().getClientSources(), response.getClientSources());
+        Assert.assertNotEquals(fingerprint(CALCULATOR_WSDL, "modules/custom", new String[0]), fingerprint);
+        Assert.assertNotEquals(fingerprint(CALCULATOR_WSDL, "", new String[]{"http://tempuri.org/Add"}),
+                fingerprint);
+    }
+
+    @Test
+    void testChangedImportInvalidatesEntry(@TempDir Path cacheDir) throws Exception {
+        ImportResolver importResolver = new CatalogImportResolver(List.of(CATALOG), ImportResolver.direct(true));
+        ResultCache.RecordingImportResolver recordingImportResolver = ResultCache.recording(importResolver);
+        WsdlParser.parse(REMOTE_IMPORT_WSDL, message -> { }, recordingImportResolver);
+        Assert.assertEquals(recordingImportResolver.getImports().size(), 2);
+
+        String fingerprint = fingerprint(REMOTE_IMPORT_WSDL, "", new String[0]);
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        response.setTypesSource(new GeneratedSource("types.bal", "public type Add record {};"));
+        ResultCache cache = new ResultCache(cacheDir, ResultCache.DEFAULT_MAX_SIZE);
+        cache.put(fingerprint, recordingImportResolver.getImports(), response);
+        Assert.assertTrue(cache.get(fingerprint, importResolver).isPresent());
+
+        ImportResolver changedImports = location -> new ByteArrayInputStream(
+                "<changed/>".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(cache.get(fingerprint, changedImports).isEmpty());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntriesAreEvicted(@TempDir Path cacheDir) throws Exception {
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        response.setTypesSource(new GeneratedSource("types.bal", "x".repeat(1000)));
+        ResultCache cache = new ResultCache(cacheDir, 2500);
+        for (int i = 0; i < 4; i++) {
+            cache.put("entry" + i, Map.of(), response);
+            Files.setLastModifiedTime(cacheDir.resolve("entry" + i),
+                    FileTime.fromMillis(1_000_000L * (i + 1)));
+        }
+        List<String> fingerprints = cache.entries().stream().map(ResultCache.Entry::fingerprint).toList();
+        Assert.assertEquals(fingerprints, List.of("entry3", "entry2"));
+        Assert.assertEquals(cache.clear(), 2);
+        Assert.assertTrue(cache.entries().isEmpty());
+    }
+
+    private static String fingerprint(Path wsdlFile, String outputDirectory, String[] operations)
+            throws Exception {
+        return ResultCache.fingerprint(wsdlFile, outputDirectory, operations, "", GenerationOptions.defaults());
+    }
+}
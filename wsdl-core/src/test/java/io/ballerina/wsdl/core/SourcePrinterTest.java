@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testng.Assert;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.wsdl.Definition;
+
+/**
+ * Tests that the fast formatting mode prints the same sources as the Ballerina formatter.
+ *
+ * @since 0.1.0
+ */
+public class SourcePrinterTest {
+    private static final Path WSDL_DIR = Paths.get("src/test/resources/wsdl").toAbsolutePath();
+    private static final GenerationOptions FAST_FORMATTING =
+            new GenerationOptions.Builder().setFastFormatting(true).build();
+
+    private static Stream<Object[]> provideSamples() {
+        return Stream.of(
+                new Object[] {"calculator.xml", new String[] {"http://tempuri.org/Multiply"}},
+                new Object[] {"phone_verify.wsdl", new String[0]},
+                new Object[] {"ecommerce_service.wsdl", new String[0]},
+                new Object[] {"global_weather.wsdl", new String[0]},
+                new Object[] {"reservation_service.wsdl", new String[0]}
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSamples")
+    void testFastFormattingMatchesFormatter(String wsdlFile, String[] operations) throws Exception {
+        Definition wsdlDefinition = WsdlParser.parse(WSDL_DIR.resolve(wsdlFile));
+        List<GeneratedSource> expectedSources = generate(new WsdlToBallerina(), wsdlDefinition, operations);
+        List<GeneratedSource> actualSources = generate(new WsdlToBallerina(FAST_FORMATTING), wsdlDefinition,
+                operations);
+        Assert.assertEquals(actualSources, expectedSources);
+        for (GeneratedSource source : actualSources) {
+            Assert.assertEquals(format(source.content()), source.content(),
+                    "Formatting the fast output changes " + source.fileName());
+        }
+    }
+
+    @Test
+    void testPrintedSourceIsFormatted() throws Exception {
+        String source = "import ballerina/constraint;import ballerina/data.xmldata;" +
+                "@xmldata:Namespace {prefix:\"tns\",uri:\"http://example.com/orders\"}\n" +
+                "public type Order record{|@xmldata:Sequence {minOccurs:1,maxOccurs:-1}\n" +
+                "Item[] items;@xmldata:Attribute\nstring id = \"o-1\";" +
+                "record{string name?;int quantity;} details?;decimal|float amount?;string...;|};" +
+                "public type Item record{};" +
+                "@constraint:String {pattern: re `[A-Z]{2}[0-9]+`}\npublic type Code string;" +
+                "public enum Color{RED = \"red\",GREEN}" +
+                "public type Status \"open\"|\"closed\";" +
+                "public type Codes (Code|int)[]?;" +
+                "public const MAX = 10;";
+        ModulePartNode modulePartNode = NodeParser.parseCompilationUnit(source);
+        Optional<String> printed = SourcePrinter.print(modulePartNode);
+        Assert.assertTrue(printed.isPresent());
+        Assert.assertEquals(printed.get(), Utils.formatModuleParts(modulePartNode));
+    }
+
+    @Test
+    void testUnsupportedSyntaxFallsBackToFormatter() throws Exception {
+        ModulePartNode modulePartNode = NodeParser.parseCompilationUnit(
+                "// Generated order types\npublic type Order record{string id;};");
+        Assert.assertTrue(SourcePrinter.print(modulePartNode).isEmpty());
+        Assert.assertEquals(Utils.formatModuleParts(modulePartNode, FAST_FORMATTING),
+                Utils.formatModuleParts(modulePartNode));
+    }
+
+    private static List<GeneratedSource> generate(WsdlToBallerina wsdlToBallerina, Definition wsdlDefinition,
+                                                  String[] operations) {
+        WsdlToBallerinaResponse response = new WsdlToBallerinaResponse();
+        wsdlToBallerina.generateFromWSDL(response, wsdlDefinition, "", new ArrayList<>(), operations, "");
+        List<GeneratedSource> sources = new ArrayList<>(response.getClientSources());
+        if (response.getTypesSource() != null) {
+            sources.add(response.getTypesSource());
+        }
+        return sources;
+    }
+
+    private static String format(String source) throws Exception {
+        return Utils.formatModuleParts(NodeParser.parseCompilationUnit(source));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.wsdl.cli.WsdlDaemon;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import org.junit.jupiter.api.Test;
+import org.testng.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Tests the JSON-RPC requests served by the WSDL daemon.
+ *
+ * @since 0.1.0
+ */
+public class WsdlDaemonTest {
+    private static final Path CALCULATOR_WSDL = Paths.get("src/test/resources/wsdl/calculator.xml").toAbsolutePath();
+    private static final int PARSE_ERROR = -32700;
+    private static final int INVALID_REQUEST = -32600;
+    private static final int METHOD_NOT_FOUND = -32601;
+    private static final int INVALID_PARAMS = -32602;
+
+    @Test
+    void testConvertReturnsSources() {
+        WsdlDaemon wsdlDaemon = newDaemon();
+        JsonObject params = new JsonObject();
+        params.addProperty("wsdlPath", CALCULATOR_WSDL.toString());
+        params.addProperty("module", "calculator");
+        JsonArray operations = new JsonArray();
+        operations.add("http://tempuri.org/Add");
+        params.add("operations", operations);
+
+        JsonObject response = handle(wsdlDaemon, request(1, WsdlDaemon.CONVERT_METHOD, params));
+        Assert.assertEquals(response.get("id").getAsInt(), 1);
+        JsonObject result = response.getAsJsonObject("result");
+        Assert.assertTrue(result.getAsJsonArray("diagnostics").isEmpty());
+        Assert.assertFalse(result.get("cached").getAsBoolean());
+        JsonArray sources = result.getAsJsonArray("sources");
+        Assert.assertFalse(sources.isEmpty());
+        for (int i = 0; i < sources.size(); i++) {
+            JsonObject source = sources.get(i).getAsJsonObject();
+            Assert.assertTrue(source.get("fileName").getAsString().startsWith("modules/calculator/"));
+            Assert.assertFalse(source.get("content").getAsString().isEmpty());
+        }
+
+        // The parsed definition is reused for an unchanged file
+        JsonObject cachedResult = handle(wsdlDaemon, request(2, WsdlDaemon.CONVERT_METHOD, params))
+                .getAsJsonObject("result");
+        Assert.assertTrue(cachedResult.get("cached").getAsBoolean());
+        Assert.assertEquals(cachedResult.getAsJsonArray("sources"), sources);
+    }
+
+    @Test
+    void testInvalidRequestsAreRejected() {
+        WsdlDaemon wsdlDaemon = newDaemon();
+        assertError(handle(wsdlDaemon, "{\"jsonrpc\": \"2.0\", \"id\": 1, \"method\""), PARSE_ERROR);
+        assertError(handle(wsdlDaemon, "[1, 2]"), INVALID_REQUEST);
+        assertError(handle(wsdlDaemon, "{\"jsonrpc\": \"2.0\", \"id\": 1}"), INVALID_REQUEST);
+        JsonObject response = handle(wsdlDaemon, request(7, "generate", new JsonObject()));
+        assertError(response, METHOD_NOT_FOUND);
+        Assert.assertEquals(response.get("id").getAsInt(), 7);
+    }
+
+    @Test
+    void testInvalidParamsAreRejected() {
+        WsdlDaemon wsdlDaemon = newDaemon();
+        assertError(handle(wsdlDaemon, request(1, WsdlDaemon.CONVERT_METHOD, new JsonObject())), INVALID_PARAMS);
+        assertError(handle(wsdlDaemon, "{\"jsonrpc\": \"2.0\", \"id\": 1, \"method\": \"convert\", " +
+                "\"params\": [\"calculator.xml\"]}"), INVALID_PARAMS);
+        for (String operations : new String[]{"\"http://tempuri.org/Add\"", "[1]", "[{}]", "[[\"Add\"]]"}) {
+            JsonObject params = new JsonObject();
+            params.addProperty("wsdlPath", CALCULATOR_WSDL.toString());
+            params.add("operations", JsonParser.parseString(operations));
+            assertError(handle(wsdlDaemon, request(1, WsdlDaemon.CONVERT_METHOD, params)), INVALID_PARAMS);
+        }
+    }
+
+    @Test
+    void testNotificationsAreNotAnswered() throws Exception {
+        WsdlDaemon wsdlDaemon = newDaemon();
+        Assert.assertNull(wsdlDaemon.handle("{\"jsonrpc\": \"2.0\", \"method\": \"generate\"}"));
+        Assert.assertNull(wsdlDaemon.handle("{\"jsonrpc\": \"2.0\", \"method\": \"convert\", \"params\": {}}"));
+
+        String requests = "{\"jsonrpc\": \"2.0\", \"method\": \"generate\"}\n\n" +
+                request(3, WsdlDaemon.SHUTDOWN_METHOD, new JsonObject()) + "\n" +
+                request(4, WsdlDaemon.SHUTDOWN_METHOD, new JsonObject()) + "\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        wsdlDaemon.serve(new ByteArrayInputStream(requests.getBytes(StandardCharsets.UTF_8)), out);
+        // Only the first shutdown request is answered, since the daemon stops reading after it
+        String[] responses = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assert.assertEquals(responses.length, 1);
+        Assert.assertEquals(JsonParser.parseString(responses[0]).getAsJsonObject().get("id").getAsInt(), 3);
+    }
+
+    private static WsdlDaemon newDaemon() {
+        return new WsdlDaemon(GenerationOptions.defaults(), ImportResolver.direct(false),
+                new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    private static String request(int id, String method, JsonObject params) {
+        JsonObject request = new JsonObject();
+        request.addProperty("jsonrpc", "2.0");
+        request.addProperty("id", id);
+        request.addProperty("method", method);
+        request.add("params", params);
+        return request.toString();
+    }
+
+    private static JsonObject handle(WsdlDaemon wsdlDaemon, String request) {
+        return JsonParser.parseString(wsdlDaemon.handle(request)).getAsJsonObject();
+    }
+
+    private static void assertError(JsonObject response, int code) {
+        Assert.assertFalse(response.has("result"), String.valueOf(response));
+        Assert.assertEquals(response.getAsJsonObject("error").get("code").getAsInt(), code, String.valueOf(response));
+    }
+}
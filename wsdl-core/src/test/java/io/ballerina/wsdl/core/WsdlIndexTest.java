@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.wsdl.core.handler.model.SoapVersion;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.junit.jupiter.api.Test;
+import org.testng.Assert;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import javax.wsdl.Definition;
+import javax.xml.namespace.QName;
+
+/**
+ * Tests listing the ports and operations of a WSDL definition.
+ *
+ * @since 0.1.0
+ */
+public class WsdlIndexTest {
+    private static final Path WSDL_DIR = Paths.get("src/test/resources/wsdl").toAbsolutePath();
+    private static final String TEMPURI_NAMESPACE = "http://tempuri.org/";
+
+    @Test
+    void testIndexListsPortsAndOperations() throws Exception {
+        Definition wsdlDefinition = WsdlParser.parse(WSDL_DIR.resolve("calculator.xml"), message -> { },
+                ImportResolver.direct(true));
+        WsdlIndex wsdlIndex = WsdlIndex.read(wsdlDefinition);
+        Assert.assertEquals(wsdlIndex.targetNamespace(), TEMPURI_NAMESPACE);
+        Assert.assertEquals(wsdlIndex.ports().stream().map(WsdlIndex.Port::name).toList(),
+                List.of("CalculatorSoap", "CalculatorSoap12"));
+
+        WsdlIndex.Port port = wsdlIndex.ports().get(1);
+        Assert.assertEquals(port.soapVersion(), SoapVersion.SOAP12);
+        Assert.assertEquals(port.serviceUrl(), "http://www.dneonline.com/calculator.asmx");
+        Assert.assertNull(port.error());
+        Assert.assertEquals(port.operations().stream().map(WsdlIndex.Operation::name).toList(),
+                List.of("Add", "Divide", "Multiply", "Subtract"));
+        WsdlIndex.Operation add = port.operations().get(0);
+        Assert.assertEquals(add.soapAction(), "http://tempuri.org/Add");
+        Assert.assertEquals(add.input().parts().get(0).elementName(), new QName(TEMPURI_NAMESPACE, "Add"));
+        Assert.assertEquals(add.output().parts().get(0).elementName(), new QName(TEMPURI_NAMESPACE, "AddResponse"));
+        Assert.assertTrue(add.headers().isEmpty());
+
+        Assert.assertEquals(wsdlIndex.selectPort("CalculatorSoap").ports(), List.of(wsdlIndex.ports().get(0)));
+        Assert.assertNull(wsdlIndex.selectPort("MissingPort"));
+        Assert.assertEquals(WsdlIndex.of(WsdlSnapshot.of(wsdlDefinition).getWsdlModel()).toJson(),
+                wsdlIndex.toJson());
+    }
+
+    @Test
+    void testIndexAsJson() throws Exception {
+        Definition wsdlDefinition = WsdlParser.parse(WSDL_DIR.resolve("calculator.xml"), message -> { },
+                ImportResolver.direct(true));
+        String json = WsdlIndex.read(wsdlDefinition).selectPort("CalculatorSoap").toJson();
+        Assert.assertTrue(json.startsWith("{\"targetNamespace\":\"http://tempuri.org/\",\"ports\":[{\"name\":" +
+                "\"CalculatorSoap\",\"soapVersion\":\"SOAP11\",\"binding\":\"{http://tempuri.org/}CalculatorSoap\"," +
+                "\"serviceUrl\":\"http://www.dneonline.com/calculator.asmx\",\"operations\":[{\"name\":\"Add\"," +
+                "\"soapAction\":\"http://tempuri.org/Add\",\"input\":{\"message\":\"AddSoapIn\",\"parts\":[" +
+                "{\"name\":\"parameters\",\"element\":\"{http://tempuri.org/}Add\",\"type\":null}]},"), json);
+        Assert.assertTrue(json.endsWith("\"headers\":[]}]}]}"), json);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.wsdl.core;
+
+import io.ballerina.wsdl.core.generator.GeneratedSource;
+import io.ballerina.wsdl.core.parser.CatalogImportResolver;
+import io.ballerina.wsdl.core.parser.ImportResolver;
+import io.ballerina.wsdl.core.parser.WsdlParser;
+import org.junit.jupiter.api.Test;
+import org.testng.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+
+/**
+ * Tests that converting a snapshot of a WSDL definition gives the same output as converting the definition.
+ *
+ * @since 0.1.0
+ */
+public class WsdlSnapshotTest {
+    private static final Path RESOURCE_DIR = Paths.get("src/test/resources").toAbsolutePath();
+    private static final Path WSDL_DIR = RESOURCE_DIR.resolve("wsdl");
+    private static final Path CATALOG = RESOURCE_DIR.resolve("catalog/calculator_catalog.xml");
+    // The only fixtures that are not valid WSDL documents, so they have no snapshot
+    private static final Set<String> INVALID_FIXTURES = Set.of("invalid_operation_input.wsdl",
+            "invalid_wsdl_spec.wsdl");
+
+    @Test
+    void testSnapshotsOfAllFixturesMatchDefinitions() throws Exception {
+        ImportResolver importResolver = new CatalogImportResolver(List.of(CATALOG), ImportResolver.direct(true));
+        List<Path> wsdlFiles;
+        try (Stream<Path> files = Files.list(WSDL_DIR)) {
+            wsdlFiles = files.filter(Files::isRegularFile).sorted().toList();
+        }
+        Set<String> invalidFiles = new TreeSet<>();
+        for (Path wsdlFile : wsdlFiles) {
+            Definition wsdlDefinition;
+            try {
+                wsdlDefinition = WsdlParser.parse(wsdlFile, message -> { }, importResolver);
+            } catch (WSDLException e) {
+                invalidFiles.add(wsdlFile.getFileName().toString());
+                continue;
+            }
+            byte[] snapshot = write(WsdlSnapshot.of(wsdlDefinition, importResolver));
+            WsdlSnapshot wsdlSnapshot = WsdlSnapshot.read(new ByteArrayInputStream(snapshot));
+            Assert.assertEquals(write(wsdlSnapshot), snapshot, "Snapshot round trip differs for " + wsdlFile);
+            WsdlToBallerinaResponse expected = new WsdlToBallerinaResponse();
+            new WsdlToBallerina(GenerationOptions.defaults(), null, importResolver).generateFromWSDL(expected,
+                    wsdlDefinition, "", new ArrayList<>(), new String[0], "");
+            // A snapshot can be converted more than once
+            for (int run = 0; run < 2; run++) {
+                WsdlToBallerinaResponse actual = new WsdlToBallerinaResponse();
+                new WsdlToBallerina().generateFromSnapshot(actual, wsdlSnapshot, "", new ArrayList<>(),
+                        new String[0], "");
+                Assert.assertEquals(render(actual), render(expected), "Snapshot output differs for " + wsdlFile);
+            }
+        }
+        Assert.assertEquals(invalidFiles, INVALID_FIXTURES, "Fixtures the parser rejects");
+    }
+
+    @Test
+    void testSnapshotConvertsSelectedOperationsAndPorts() throws Exception {
+        Definition wsdlDefinition = WsdlParser.parse(WSDL_DIR.resolve("shared_binding.wsdl"));
+        WsdlSnapshot wsdlSnapshot = WsdlSnapshot.read(new ByteArrayInputStream(
+                write(WsdlSnapshot.of(wsdlDefinition))));
+        String[] operations = {"http://tempuri.org/Add"};
+        for (String portName : new String[]{"", "CalculatorSoap12Backup", "MissingPort"}) {
+            WsdlToBallerinaResponse expected = new WsdlToBallerinaResponse();
+            new WsdlToBallerina().generateFromWSDL(expected, wsdlDefinition, "modules/custom", new ArrayList<>(),
+                    operations, portName);
+            WsdlToBallerinaResponse actual = new WsdlToBallerinaResponse();
+            new WsdlToBallerina().generateFromSnapshot(actual, wsdlSnapshot, "modules/custom", new ArrayList<>(),
+                    operations, portName);
+            Assert.assertEquals(render(actual), render(expected), "Snapshot output differs for port " + portName);
+        }
+    }
+
+    @Test
+    void testInvalidSnapshotIsRejected() throws Exception {
+        Path wsdlFile = WSDL_DIR.resolve("calculator.xml");
+        Assert.assertFalse(WsdlSnapshot.isSnapshot(wsdlFile));
+        Assert.assertThrows(IOException.class, () -> WsdlSnapshot.read(new ByteArrayInputStream(
+                "<definitions/>".getBytes(StandardCharsets.UTF_8))));
+        byte[] snapshot = write(WsdlSnapshot.of(WsdlParser.parse(wsdlFile)));
+        snapshot[7]++;
+        Assert.assertThrows(IOException.class, () -> WsdlSnapshot.read(new ByteArrayInputStream(snapshot)));
+    }
+
+    private static byte[] write(WsdlSnapshot wsdlSnapshot) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        wsdlSnapshot.write(output);
+        return output.toByteArray();
+    }
+
+    private static String render(WsdlToBallerinaResponse response) {
+        StringBuilder builder = new StringBuilder();
+        GeneratedSource typesSource = response.getTypesSource();
+        if (typesSource != null) {
+            builder.append(typesSource.fileName()).append('\n').append(typesSource.content());
+        }
+        for (GeneratedSource clientSource : response.getClientSources()) {
+            builder.append(clientSource.fileName()).append('\n').append(clientSource.content());
+        }
+        response.getDiagnostics().forEach(diagnostic -> builder.append(diagnostic.message()).append('\n'));
+        return builder.toString();
+    }
+}
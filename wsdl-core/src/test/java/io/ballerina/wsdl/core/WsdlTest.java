@@ -51,7 +51,9 @@ public class WsdlTest {
                         "http://example.com/ecommerce/GetProduct"},
                 new Object[] {"global_weather.wsdl", "global_weather.bal", "http://www.webserviceX.NET/GetWeather"},
                 new Object[] {"reservation_service.wsdl", "reservation_service.bal",
-                        "http://www.opentravel.org/OTA/2003/05/OTA2010A.ReservationService/CancelReservation"}
+                        "http://www.opentravel.org/OTA/2003/05/OTA2010A.ReservationService/CancelReservation"},
+                new Object[] {"calculator_latin1.wsdl", "calculator.bal", "http://tempuri.org/Multiply"},
+                new Object[] {"relative_import.wsdl", "calculator.bal", "http://tempuri.org/Multiply"}
         );
     }
 
@@ -71,6 +73,20 @@ public class WsdlTest {
         Assert.assertEquals(result, expectedValue);
     }
 
+    @org.junit.jupiter.api.Test
+    void testTypesArePrunedToSelectedOperations() throws Exception {
+        WsdlCmd wsdlCmd = new WsdlCmd();
+        String calculator = String.valueOf(RES_DIR.resolve(WSDL_DIR).resolve("calculator.xml"));
+        String allTypes = wsdlCmd.wsdlToBallerina(calculator, "", new String[]{}).getTypesSource().content();
+        Assert.assertTrue(allTypes.contains("type Add record"));
+        String prunedTypes = wsdlCmd.wsdlToBallerina(calculator, "", new String[]{"http://tempuri.org/Multiply"})
+                .getTypesSource().content();
+        Assert.assertTrue(prunedTypes.contains("type Multiply record"));
+        Assert.assertTrue(prunedTypes.contains("type MultiplyResponse record"));
+        Assert.assertFalse(prunedTypes.contains("type Add record"));
+        Assert.assertFalse(prunedTypes.contains("type SubtractResponse record"));
+    }
+
     @org.junit.jupiter.api.Test
     void testParserError() throws Exception {
         WsdlCmd wsdlCmd = new WsdlCmd();